@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * CSV key annotation for marking the field used for looking up the records 
+ * by {@code CsvFactory.findByKey}.
+ * 
+ * <p>The field needs to be annotated by {@code CsvColumn} as well, and a 
+ * class can have only one key field. The key doesn't need to be unique.
+ * 
+ * <p>No parameter for this annotation.
+ * 
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CsvKey {
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.api;
+
+import java.text.ParseException;
+
+/**
+ * The mapper between the rows in a CSV file and the objects of one class
+ * annotated by {@code CsvEntity}.
+ *
+ * <p>A mapper only converts the values and assigns the fields. Locating the
+ * columns by the {@code name} and {@code pos} parameters and checking the
+ * {@code required} parameter of the {@code CsvColumn} annotation are done
+ * once per file by {@code CsvFactory}, which passes the result to the
+ * mapper as an array of column indexes.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ *
+ * @param <T>
+ */
+public interface CsvMapper<T> {
+	/**
+	 * Get the names of the fields handled by this mapper.
+	 *
+	 * <p>The order of the names is the order of the slots in the index array
+	 * for {@code read} and in the cell array for {@code write}.
+	 *
+	 * @return  The array of field names.
+	 *
+	 * @since   1.2
+	 */
+	String[] getFieldNames();
+
+	/**
+	 * Map one row to a new object.
+	 *
+	 * @param  row
+	 *         The tokenized row.
+	 *
+	 * @param  index
+	 *         The index of the column in the row for each field, or a
+	 *         negative value if the field needs to be skipped.
+	 *
+	 * @return  The new object.
+	 *
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access
+	 *          control and the underlying field is either inaccessible or final.
+	 *
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *
+	 * @since   1.2
+	 */
+	T read(CsvRow row, int[] index) throws IllegalAccessException, ParseException;
+
+	/**
+	 * Format the value of each field of an object.
+	 *
+	 * @param  t
+	 *         The object needs to be written.
+	 *
+	 * @param  cells
+	 *         The array to receive the {@code String} value of each field.
+	 *
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access
+	 *          control and the underlying field is either inaccessible.
+	 *
+	 * @since   1.2
+	 */
+	void write(T t, String[] cells) throws IllegalAccessException;
+}
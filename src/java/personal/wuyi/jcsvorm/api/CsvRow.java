@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.api;
+
+/**
+ * One tokenized row (record) in a CSV file.
+ *
+ * <p>The columns are addressed by the 0-based index. Besides the 
+ * {@code String} value, the value of a column can be read by the typed 
+ * getters, an implementation can override them to parse the value without 
+ * creating the {@code String} object.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public interface CsvRow {
+	/**
+	 * Get the number of columns in this row.
+	 *
+	 * @return  The number of columns.
+	 *
+	 * @since   1.2
+	 */
+	int size();
+
+	/**
+	 * Get the value of a column.
+	 *
+	 * @param  index
+	 *         The 0-based index of the column.
+	 *
+	 * @return  The value of the column.
+	 *
+	 * @since   1.2
+	 */
+	String get(int index);
+
+	/**
+	 * Get the value of a column as a {@code CharSequence}.
+	 *
+	 * <p>The returned object may be reused by the implementation, it is only 
+	 * valid until the next call of this method or the next row is read.
+	 *
+	 * @param  index
+	 *         The 0-based index of the column.
+	 *
+	 * @return  The value of the column.
+	 *
+	 * @since   1.2
+	 */
+	default CharSequence getCharSequence(int index) {
+		return get(index);
+	}
+
+	/**
+	 * Get the value of a column as an {@code int}.
+	 *
+	 * @param  index
+	 *         The 0-based index of the column.
+	 *
+	 * @return  The value of the column.
+	 *
+	 * @throws  NumberFormatException
+	 *          If the value is not a valid {@code int}.
+	 *
+	 * @since   1.2
+	 */
+	default int getInt(int index) {
+		return Integer.parseInt(get(index));
+	}
+
+	/**
+	 * Get the value of a column as a {@code long}.
+	 *
+	 * @param  index
+	 *         The 0-based index of the column.
+	 *
+	 * @return  The value of the column.
+	 *
+	 * @throws  NumberFormatException
+	 *          If the value is not a valid {@code long}.
+	 *
+	 * @since   1.2
+	 */
+	default long getLong(int index) {
+		return Long.parseLong(get(index));
+	}
+
+	/**
+	 * Get the value of a column as a {@code double}.
+	 *
+	 * @param  index
+	 *         The 0-based index of the column.
+	 *
+	 * @return  The value of the column.
+	 *
+	 * @throws  NumberFormatException
+	 *          If the value is not a valid {@code double}.
+	 *
+	 * @since   1.2
+	 */
+	default double getDouble(int index) {
+		return Double.parseDouble(get(index));
+	}
+
+	/**
+	 * Check the value of a column is null or empty.
+	 *
+	 * @param  index
+	 *         The 0-based index of the column.
+	 *
+	 * @return  {@code true} if the value is null or empty;
+	 *          {@code false} otherwise.
+	 *
+	 * @since   1.2
+	 */
+	default boolean isNull(int index) {
+		final String value = get(index);
+		return value == null || value.isEmpty();
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.codegen;
+
+/**
+ * The kinds of field types supported by the {@code CsvColumn} annotation.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public enum CsvColumnKind {
+	STRING          ("java.lang.String"),
+	OBJECT          ("java.lang.Object"),
+	INT             ("int"),
+	LONG            ("long"),
+	DOUBLE          ("double"),
+	FLOAT           ("float"),
+	SHORT           ("short"),
+	CHAR            ("char"),
+	BOOLEAN         ("boolean"),
+	BOXED_INT       ("java.lang.Integer"),
+	BOXED_LONG      ("java.lang.Long"),
+	BOXED_DOUBLE    ("java.lang.Double"),
+	BOXED_FLOAT     ("java.lang.Float"),
+	BOXED_SHORT     ("java.lang.Short"),
+	BOXED_CHAR      ("java.lang.Character"),
+	BOXED_BOOLEAN   ("java.lang.Boolean"),
+	UTIL_DATE       ("java.util.Date"),
+	SQL_DATE        ("java.sql.Date"),
+	TIMESTAMP       ("java.sql.Timestamp"),
+	CALENDAR        ("java.util.Calendar"),
+	LOCAL_DATE      ("java.time.LocalDate"),
+	LOCAL_DATE_TIME ("java.time.LocalDateTime");
+
+	private final String typeName;
+
+	private CsvColumnKind(final String typeName) {
+		this.typeName = typeName;
+	}
+
+	/**
+	 * Get the canonical name of the type.
+	 *
+	 * @return  The canonical name of the type.
+	 *
+	 * @since   1.2
+	 */
+	public String getTypeName() {
+		return typeName;
+	}
+
+	/**
+	 * Check this kind is a date or date time type, which needs the
+	 * {@code format} parameter in the {@code CsvColumn} annotation.
+	 *
+	 * @return  {@code true} if it is a date or date time type;
+	 *          {@code false} otherwise.
+	 *
+	 * @since   1.2
+	 */
+	public boolean isDate() {
+		return ordinal() >= UTIL_DATE.ordinal();
+	}
+
+	/**
+	 * Get the kind of a type by its canonical name.
+	 *
+	 * @param  typeName
+	 *         The canonical name of the type, like {@code int} or
+	 *         {@code java.lang.String}.
+	 *
+	 * @return  The kind of the type or {@code null} if the type is not
+	 *          supported.
+	 *
+	 * @since   1.2
+	 */
+	public static CsvColumnKind of(final String typeName) {
+		for (CsvColumnKind kind : values()) {
+			if (kind.typeName.equals(typeName)) {
+				return kind;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get the kind of a type.
+	 *
+	 * @param  type
+	 *         The type of a field.
+	 *
+	 * @return  The kind of the type or {@code null} if the type is not
+	 *          supported.
+	 *
+	 * @since   1.2
+	 */
+	public static CsvColumnKind of(final Class<?> type) {
+		return of(type.getName());
+	}
+}
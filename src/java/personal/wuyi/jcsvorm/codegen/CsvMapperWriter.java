@@ -0,0 +1,397 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.codegen;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The writer for generating the Java source of a {@code CsvMapper} for one
+ * class annotated by {@code CsvEntity}.
+ *
+ * <p>The generated mapper reads and writes each field with straight-line
+ * code and the conversion for each column is inlined. The dates are
+ * converted by a {@code CsvDateFormat} for each column, kept as a static
+ * field, so they are parsed and formatted the same way as the reflective
+ * mapper. The fields which the mapper can not access directly, like the
+ * private fields, are read and written by the {@code MethodHandle}s from
+ * {@code CsvFieldHandles}, which are kept as static fields as well. The
+ * writer doesn't depend on reflection, so it is shared by the runtime
+ * generated mappers and the annotation processor.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvMapperWriter {
+	/**
+	 * The suffix of the simple name of a generated mapper class.
+	 */
+	public static final String MAPPER_SUFFIX = "_CsvMapper";
+
+	private static final String DATE_FORMAT_CLASS   = "personal.wuyi.jcsvorm.core.CsvDateFormat";
+	private static final String FIELD_HANDLES_CLASS = "personal.wuyi.jcsvorm.core.CsvFieldHandles";
+
+	private final String       packageName;
+	private final String       className;
+	private final String       entityTypeName;
+	private final List<Column> columnList = new ArrayList<>();
+
+	/**
+	 * Construct a new {@code CsvMapperWriter}.
+	 *
+	 * @param  packageName
+	 *         The package of the generated mapper, it can be empty for the
+	 *         default package.
+	 *
+	 * @param  className
+	 *         The simple name of the generated mapper.
+	 *
+	 * @param  entityTypeName
+	 *         The canonical name of the class annotated by {@code CsvEntity}.
+	 *
+	 * @since   1.2
+	 */
+	public CsvMapperWriter(final String packageName, final String className, final String entityTypeName) {
+		this.packageName    = packageName;
+		this.className      = className;
+		this.entityTypeName = entityTypeName;
+	}
+
+	/**
+	 * Get the simple name of the mapper class for a class annotated by
+	 * {@code CsvEntity}.
+	 *
+	 * @param  binarySimpleName
+	 *         The binary name of the entity class without the package, like
+	 *         {@code User} or {@code Outer$User}.
+	 *
+	 * @return  The simple name of the mapper class.
+	 *
+	 * @since   1.2
+	 */
+	public static String getMapperClassName(final String binarySimpleName) {
+		return binarySimpleName.replace('$', '_') + MAPPER_SUFFIX;
+	}
+
+	/**
+	 * Add a column (a field annotated by {@code CsvColumn}) into the mapper.
+	 *
+	 * @param  fieldName
+	 *         The name of the field.
+	 *
+	 * @param  kind
+	 *         The kind of the type of the field.
+	 *
+	 * @param  format
+	 *         The format parameter in the {@code CsvColumn} annotation, it is
+	 *         required for date or date time types.
+	 *
+	 * @param  getExpression
+	 *         The Java expression for getting the value from the object
+	 *         {@code t}, like {@code t.getName()} or {@code t.name}.
+	 *
+	 * @param  setStatement
+	 *         The Java statement for setting the value {@code {}} to the
+	 *         object {@code t}, like {@code t.setName({})} or
+	 *         {@code t.name = {}}.
+	 *
+	 * @since   1.2
+	 */
+	public void addColumn(final String fieldName, final CsvColumnKind kind, final String format, final String getExpression, final String setStatement) {
+		checkFormat(fieldName, kind, format);
+		columnList.add(new Column(fieldName, kind, format, getExpression, setStatement, false));
+	}
+
+	/**
+	 * Add a column (a field annotated by {@code CsvColumn}) into the mapper,
+	 * which is read and written by the {@code MethodHandle}s of the field.
+	 *
+	 * <p>It is for the fields which can not be accessed from the mapper,
+	 * like the private fields and the package-private fields declared in
+	 * another package. The field can not be final.
+	 *
+	 * @param  fieldName
+	 *         The name of the field.
+	 *
+	 * @param  kind
+	 *         The kind of the type of the field.
+	 *
+	 * @param  format
+	 *         The format parameter in the {@code CsvColumn} annotation, it is
+	 *         required for date or date time types.
+	 *
+	 * @since   1.2
+	 */
+	public void addHandleColumn(final String fieldName, final CsvColumnKind kind, final String format) {
+		checkFormat(fieldName, kind, format);
+		final int i = columnList.size();
+		columnList.add(new Column(fieldName, kind, format, "get" + i + "(t)", "set" + i + "(t, {})", true));
+	}
+
+	private static void checkFormat(final String fieldName, final CsvColumnKind kind, final String format) {
+		if (kind.isDate() && (format == null || format.isEmpty())) {
+			throw new IllegalArgumentException("The field " + fieldName + " needs to spefic the format for parsing date or date time.");
+		}
+	}
+
+	/**
+	 * Generate the Java source of the mapper.
+	 *
+	 * @return  The Java source.
+	 *
+	 * @since   1.2
+	 */
+	public String write() {
+		final StringBuilder sb = new StringBuilder();
+
+		if (!packageName.isEmpty()) {
+			sb.append("package ").append(packageName).append(";\n\n");
+		}
+		sb.append("/**\n * Generated by jcsvorm, do not edit.\n */\n");
+		sb.append("public final class ").append(className).append(" implements personal.wuyi.jcsvorm.api.CsvMapper<").append(entityTypeName).append("> {\n");
+		writeFormatters(sb);
+		writeGetFieldNames(sb);
+		writeRead(sb);
+		writeWrite(sb);
+		writeHandles(sb);
+		sb.append("}\n");
+
+		return sb.toString();
+	}
+
+	private void writeFormatters(final StringBuilder sb) {
+		for (int i = 0; i < columnList.size(); i++) {
+			final Column column = columnList.get(i);
+			if (column.kind.isDate()) {
+				sb.append("    private static final ").append(DATE_FORMAT_CLASS).append(" FMT_").append(i)
+				  .append(" = ").append(DATE_FORMAT_CLASS).append(".of(").append(column.kind.getTypeName()).append(".class, ").append(quote(column.format)).append(");\n");
+			}
+			if (column.handle) {
+				sb.append("    private static final java.lang.invoke.MethodHandle GET_").append(i)
+				  .append(" = ").append(FIELD_HANDLES_CLASS).append(".getter(").append(entityTypeName).append(".class, ").append(quote(column.fieldName)).append(");\n");
+				sb.append("    private static final java.lang.invoke.MethodHandle SET_").append(i)
+				  .append(" = ").append(FIELD_HANDLES_CLASS).append(".setter(").append(entityTypeName).append(".class, ").append(quote(column.fieldName)).append(");\n");
+			}
+		}
+		sb.append('\n');
+	}
+
+	private void writeGetFieldNames(final StringBuilder sb) {
+		sb.append("    private static final String[] FIELD_NAMES = {");
+		for (int i = 0; i < columnList.size(); i++) {
+			sb.append(i == 0 ? "" : ", ").append(quote(columnList.get(i).fieldName));
+		}
+		sb.append("};\n\n");
+		sb.append("    @Override\n");
+		sb.append("    public String[] getFieldNames() {\n");
+		sb.append("        return FIELD_NAMES.clone();\n");
+		sb.append("    }\n\n");
+	}
+
+	private void writeRead(final StringBuilder sb) {
+		sb.append("    @Override\n");
+		sb.append("    public ").append(entityTypeName).append(" read(final personal.wuyi.jcsvorm.api.CsvRow row, final int[] index) throws java.text.ParseException {\n");
+		sb.append("        final ").append(entityTypeName).append(" t = new ").append(entityTypeName).append("();\n");
+		sb.append("        int i;\n");
+		for (int i = 0; i < columnList.size(); i++) {
+			final Column column = columnList.get(i);
+			sb.append("        if ((i = index[").append(i).append("]) >= 0) {\n");
+			final String getter = getRowGetter(column.kind);
+			if (getter != null) {
+				sb.append("            ").append(column.setStatement.replace("{}", "row." + getter + "(i)")).append(";\n");
+			} else if (column.kind.isDate()) {
+				sb.append("            final CharSequence v = row.getCharSequence(i);\n");
+				sb.append("            ").append(column.setStatement.replace("{}", getParseExpression(column, i))).append(";\n");
+			} else {
+				sb.append("            final String v = row.get(i);\n");
+				sb.append("            ").append(column.setStatement.replace("{}", getParseExpression(column, i))).append(";\n");
+			}
+			sb.append("        }\n");
+		}
+		sb.append("        return t;\n");
+		sb.append("    }\n\n");
+	}
+
+	private void writeWrite(final StringBuilder sb) {
+		sb.append("    @Override\n");
+		sb.append("    public void write(final ").append(entityTypeName).append(" t, final String[] cells) {\n");
+		for (int i = 0; i < columnList.size(); i++) {
+			final Column column = columnList.get(i);
+			if (column.kind == CsvColumnKind.STRING) {
+				sb.append("        cells[").append(i).append("] = ").append(column.getExpression).append(";\n");
+			} else if (isPrimitive(column.kind)) {
+				sb.append("        cells[").append(i).append("] = ").append(getFormatExpression(column, i, column.getExpression)).append(";\n");
+			} else {
+				sb.append("        {\n");
+				sb.append("            final ").append(column.kind.getTypeName()).append(" v = ").append(column.getExpression).append(";\n");
+				sb.append("            cells[").append(i).append("] = v == null ? null : ").append(getFormatExpression(column, i, "v")).append(";\n");
+				sb.append("        }\n");
+			}
+		}
+		sb.append("    }\n");
+	}
+
+	/**
+	 * Write the methods invoking the {@code MethodHandle}s of the fields,
+	 * the exact types of the methods match the handle types.
+	 */
+	private void writeHandles(final StringBuilder sb) {
+		for (int i = 0; i < columnList.size(); i++) {
+			final Column column = columnList.get(i);
+			if (!column.handle) {
+				continue;
+			}
+
+			final String typeName = column.kind.getTypeName();
+			sb.append('\n');
+			sb.append("    private static ").append(typeName).append(" get").append(i).append("(final ").append(entityTypeName).append(" t) {\n");
+			sb.append("        try {\n");
+			sb.append("            return (").append(typeName).append(") GET_").append(i).append(".invokeExact(t);\n");
+			writeHandleCatch(sb);
+			sb.append("    }\n\n");
+			sb.append("    private static void set").append(i).append("(final ").append(entityTypeName).append(" t, final ").append(typeName).append(" v) {\n");
+			sb.append("        try {\n");
+			sb.append("            SET_").append(i).append(".invokeExact(t, v);\n");
+			writeHandleCatch(sb);
+			sb.append("    }\n");
+		}
+	}
+
+	/**
+	 * Write the catch blocks after invoking a field handle, which only throws
+	 * the unchecked exceptions.
+	 */
+	private static void writeHandleCatch(final StringBuilder sb) {
+		sb.append("        } catch (RuntimeException | Error e) {\n");
+		sb.append("            throw e;\n");
+		sb.append("        } catch (Throwable e) {\n");
+		sb.append("            throw new IllegalStateException(e);\n");
+		sb.append("        }\n");
+	}
+
+	private static boolean isPrimitive(final CsvColumnKind kind) {
+		return kind.ordinal() >= CsvColumnKind.INT.ordinal() && kind.ordinal() <= CsvColumnKind.BOOLEAN.ordinal();
+	}
+
+	/**
+	 * Get the typed getter of {@code CsvRow} for a kind, which may parse the 
+	 * value without creating the {@code String} object.
+	 */
+	private static String getRowGetter(final CsvColumnKind kind) {
+		switch (kind) {
+			case INT:             return "getInt";
+			case LONG:            return "getLong";
+			case DOUBLE:          return "getDouble";
+			default:              return null;
+		}
+	}
+
+	private static String getParseExpression(final Column column, final int i) {
+		switch (column.kind) {
+			case STRING:          return "v";
+			case OBJECT:          return "v";
+			case INT:             return "Integer.parseInt(v)";
+			case LONG:            return "Long.parseLong(v)";
+			case DOUBLE:          return "Double.parseDouble(v)";
+			case FLOAT:           return "Float.parseFloat(v)";
+			case SHORT:           return "Short.parseShort(v)";
+			case CHAR:            return "v.charAt(0)";
+			case BOOLEAN:         return "Boolean.parseBoolean(v)";
+			case BOXED_INT:       return "v == null ? null : Integer.valueOf(v)";
+			case BOXED_LONG:      return "v == null ? null : Long.valueOf(v)";
+			case BOXED_DOUBLE:    return "v == null ? null : Double.valueOf(v)";
+			case BOXED_FLOAT:     return "v == null ? null : Float.valueOf(v)";
+			case BOXED_SHORT:     return "v == null ? null : Short.valueOf(v)";
+			case BOXED_CHAR:      return "v == null ? null : Character.valueOf(v.charAt(0))";
+			case BOXED_BOOLEAN:   return "v == null ? null : Boolean.valueOf(v)";
+			case UTIL_DATE:
+			case SQL_DATE:
+			case TIMESTAMP:
+			case CALENDAR:
+			case LOCAL_DATE:
+			case LOCAL_DATE_TIME: return "v == null ? null : (" + column.kind.getTypeName() + ") FMT_" + i + ".parse(v)";
+			default:              throw new IllegalStateException(column.kind.name());
+		}
+	}
+
+	private static String getFormatExpression(final Column column, final int i, final String v) {
+		switch (column.kind) {
+			case INT:             return "Integer.toString(" + v + ")";
+			case LONG:            return "Long.toString(" + v + ")";
+			case DOUBLE:          return "Double.toString(" + v + ")";
+			case FLOAT:           return "Float.toString(" + v + ")";
+			case SHORT:           return "Short.toString(" + v + ")";
+			case CHAR:            return "Character.toString(" + v + ")";
+			case BOOLEAN:         return "Boolean.toString(" + v + ")";
+			case UTIL_DATE:
+			case SQL_DATE:
+			case TIMESTAMP:
+			case CALENDAR:
+			case LOCAL_DATE:
+			case LOCAL_DATE_TIME: return "FMT_" + i + ".format(" + v + ")";
+			default:              return v + ".toString()";
+		}
+	}
+
+	/**
+	 * Quote a {@code String} as a Java string literal.
+	 *
+	 * @param  s
+	 *         The {@code String} needs to be quoted.
+	 *
+	 * @return  The Java string literal.
+	 *
+	 * @since   1.2
+	 */
+	static String quote(final String s) {
+		final StringBuilder sb = new StringBuilder("\"");
+		for (int i = 0; i < s.length(); i++) {
+			final char c = s.charAt(i);
+			if (c == '"' || c == '\\') {
+				sb.append('\\').append(c);
+			} else if (c < 0x20 || c > 0x7e) {
+				sb.append(String.format("\\u%04x", (int) c));
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.append('"').toString();
+	}
+
+	/**
+	 * One column in the generated mapper.
+	 */
+	private static final class Column {
+		private final String        fieldName;
+		private final CsvColumnKind kind;
+		private final String        format;
+		private final String        getExpression;
+		private final String        setStatement;
+		private final boolean       handle;
+
+		private Column(final String fieldName, final CsvColumnKind kind, final String format, final String getExpression, final String setStatement, final boolean handle) {
+			this.fieldName     = fieldName;
+			this.kind          = kind;
+			this.format        = format;
+			this.getExpression = getExpression;
+			this.setStatement  = setStatement;
+			this.handle        = handle;
+		}
+	}
+}
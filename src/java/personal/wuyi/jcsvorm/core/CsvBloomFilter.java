@@ -0,0 +1,343 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+
+/**
+ * The Bloom filter of the values in a column of a CSV file.
+ *
+ * <p>It tells a value is not in the column without reading the CSV file,
+ * a value in the column is always reported, and a value not in the column
+ * is reported with the false positive rate chosen when it is built. The
+ * values are compared by their raw text in the file.
+ *
+ * <p>The filter is saved next to the CSV file with the {@code .bloom}
+ * suffix, one file for each column. It carries the fingerprint of the CSV
+ * file, but only the size and the last modified time are checked when it
+ * is used, so the CSV file is not opened. The recently used filters are
+ * also kept in memory.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvBloomFilter {
+	static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+	static final String SUFFIX                      = ".bloom";
+
+	private static final int MAGIC      = 0x4A434246;                       // "JCBF"
+	private static final int VERSION    = 1;
+	private static final int CACHE_SIZE = 64;
+
+	private static final Map<String, CsvBloomFilter> CACHE = Collections.synchronizedMap(new LinkedHashMap<String, CsvBloomFilter>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String, CsvBloomFilter> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	});
+
+	private final int          hashCount;
+	private final long[]       bits;
+	private final long         bitCount;
+	private CsvFileFingerprint fingerprint;                             // the CSV file the filter is saved for
+
+	/**
+	 * Construct an empty {@code CsvBloomFilter} for a number of values.
+	 *
+	 * @param  expectedCount
+	 *         The number of values expected to be added.
+	 *
+	 * @param  falsePositiveRate
+	 *         The rate of the values not added but reported.
+	 *
+	 * @since   1.2
+	 */
+	CsvBloomFilter(final long expectedCount, final double falsePositiveRate) {
+		if (!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0)) {
+			throw new IllegalArgumentException("The false positive rate needs to be between 0 and 1, but it is " + falsePositiveRate + " right now.");
+		}
+
+		final long   count = Math.max(1, expectedCount);
+		final double size  = -count * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+		final long   words = Math.max(1, (long) Math.ceil(size / Long.SIZE));
+		if (words > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("The Bloom filter for " + expectedCount + " values is too large.");
+		}
+		this.bits      = new long[(int) words];
+		this.bitCount  = words * Long.SIZE;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitCount / count * Math.log(2)));
+	}
+
+	private CsvBloomFilter(final int hashCount, final long[] bits) {
+		this.hashCount = hashCount;
+		this.bits      = bits;
+		this.bitCount  = (long) bits.length * Long.SIZE;
+	}
+
+	/**
+	 * Get the path of the filter file for a column.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  columnName
+	 *         The name of the column.
+	 *
+	 * @return  The path of the filter file.
+	 *
+	 * @since   1.2
+	 */
+	static String getFilterFilePath(final String csvFilePath, final String columnName) {
+		try {
+			return csvFilePath + "." + URLEncoder.encode(columnName, "UTF-8").replace("*", "%2A") + SUFFIX;
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);                          // UTF-8 is always supported
+		}
+	}
+
+	/**
+	 * Build the filter of a column and save it next to the CSV file.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  charset
+	 *         The charset of the CSV file, it needs to be compatible with
+	 *         ASCII.
+	 *
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header
+	 *         or not.
+	 *
+	 * @param  columnName
+	 *         The name of the column.
+	 *
+	 * @param  column
+	 *         The 0-based index of the column.
+	 *
+	 * @param  falsePositiveRate
+	 *         The rate of the values not in the column but reported.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the CSV file or
+	 *          writing the filter file.
+	 *
+	 * @since   1.2
+	 */
+	static void build(final String csvFilePath, final Charset charset, final HeaderOption header, final String columnName, final int column, final double falsePositiveRate) throws IOException {
+		final CsvFileFingerprint fingerprint = CsvFileFingerprint.of(csvFilePath);         // taken before reading, so a concurrent change makes it stale
+
+		long[] hashes = new long[1024];
+		int    size   = 0;
+		try (CsvMappedReader reader = new CsvMappedReader(csvFilePath, charset)) {
+			if (header == HeaderOption.WITH_HEADER) {
+				reader.skip(1);
+			}
+			reader.setProjection(column);
+			for (CsvMappedRow row = reader.next(); row != null; row = reader.next()) {
+				if (column >= row.size()) {
+					continue;
+				}
+				if (size == hashes.length) {
+					hashes = Arrays.copyOf(hashes, size * 2);
+				}
+				hashes[size++] = CsvKeyIndex.hash(row.getCharSequence(column));
+			}
+		}
+
+		final CsvBloomFilter filter = new CsvBloomFilter(size, falsePositiveRate);         // sized after the values are counted
+		for (int i = 0; i < size; i++) {
+			filter.add(hashes[i]);
+		}
+		filter.save(getFilterFilePath(csvFilePath, columnName), fingerprint);
+	}
+
+	/**
+	 * Get the valid filter of a column.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  columnName
+	 *         The name of the column.
+	 *
+	 * @return  The filter, or {@code null} if it is missing or the CSV file
+	 *          is changed after it is built.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the filter file.
+	 *
+	 * @since   1.2
+	 */
+	static CsvBloomFilter of(final String csvFilePath, final String columnName) throws IOException {
+		final File file = new File(getFilterFilePath(csvFilePath, columnName));
+		final String key = file.getAbsolutePath() + "@" + file.lastModified();
+
+		CsvBloomFilter filter = CACHE.get(key);
+		if (filter == null) {
+			if (!file.isFile()) {
+				return null;
+			}
+
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+					return null;
+				}
+
+				final CsvFileFingerprint fingerprint = CsvFileFingerprint.read(in);
+				if (!fingerprint.matchesAttributes(csvFilePath)) {
+					return null;
+				}
+
+				final int    hashCount = in.readInt();
+				final long[] bits      = new long[in.readInt()];
+				for (int i = 0; i < bits.length; i++) {
+					bits[i] = in.readLong();
+				}
+				filter = new CsvBloomFilter(hashCount, bits);
+				filter.fingerprint = fingerprint;
+			}
+			CACHE.put(key, filter);
+		} else if (!filter.fingerprint.matchesAttributes(csvFilePath)) {
+			return null;
+		}
+		return filter;
+	}
+
+	/**
+	 * Save this filter for a CSV file.
+	 *
+	 * @param  filterFilePath
+	 *         The path of the filter file.
+	 *
+	 * @param  fingerprint
+	 *         The fingerprint of the CSV file.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when writing the filter file.
+	 *
+	 * @since   1.2
+	 */
+	void save(final String filterFilePath, final CsvFileFingerprint fingerprint) throws IOException {
+		final File file = new File(filterFilePath);
+		final File temp = new File(filterFilePath + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			fingerprint.write(out);
+			out.writeInt(hashCount);
+			out.writeInt(bits.length);
+			for (long word : bits) {
+				out.writeLong(word);
+			}
+		}
+		Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);           // the readers never see a partial filter
+		this.fingerprint = fingerprint;
+		CACHE.put(file.getAbsolutePath() + "@" + file.lastModified(), this);
+	}
+
+	/**
+	 * Add a value.
+	 *
+	 * @param  value
+	 *         The raw text of the value.
+	 *
+	 * @since   1.2
+	 */
+	void add(final CharSequence value) {
+		add(CsvKeyIndex.hash(value));
+	}
+
+	/**
+	 * Check whether a value may have been added.
+	 *
+	 * @param  value
+	 *         The raw text of the value.
+	 *
+	 * @return  {@code false} if the value has not been added.
+	 *
+	 * @since   1.2
+	 */
+	boolean mightContain(final CharSequence value) {
+		final long hash = mix(CsvKeyIndex.hash(value));
+		final long h1   = (int) hash;
+		final long h2   = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			final long bit = index(h1, h2, i);
+			if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void add(final long rawHash) {
+		final long hash = mix(rawHash);
+		final long h1   = (int) hash;
+		final long h2   = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			final long bit = index(h1, h2, i);
+			bits[(int) (bit >>> 6)] |= 1L << bit;
+		}
+	}
+
+	/**
+	 * Get the i-th bit of a value by double hashing.
+	 */
+	private long index(final long h1, final long h2, final int i) {
+		long combined = h1 + i * h2;
+		if (combined < 0) {
+			combined = ~combined;
+		}
+		return combined % bitCount;
+	}
+
+	/**
+	 * Spread the bits of a hash, as the FNV hash is weak in the high bits
+	 * for short values.
+	 */
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.lang.reflect.Field;
+
+import com.google.common.base.Strings;
+
+import personal.wuyi.jcsvorm.annotation.CsvColumn;
+import personal.wuyi.reflect.ReflectUtil;
+
+/**
+ * The compiled mapping between one field in a Java class and one column in
+ * a CSV file.
+ *
+ * <p>The {@code CsvColumn} annotation is read, the field is made
+ * accessible and the converter for the type of the field is resolved only
+ * once when this object is created.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvColumnMapping {
+	private final int          index;
+	private final Field        field;
+	private final CsvColumn    column;
+	private final boolean      staticField;
+	private final CsvConverter converter;
+
+	/**
+	 * Construct a new {@code CsvColumnMapping}.
+	 *
+	 * @param  index
+	 *         The index of this column in the declaration order.
+	 *
+	 * @param  field
+	 *         The {@code Field} object annotated by {@code CsvColumn}.
+	 *
+	 * @since   1.2
+	 */
+	CsvColumnMapping(final int index, final Field field) {
+		this.index       = index;
+		this.field       = field;
+		this.column      = field.getAnnotation(CsvColumn.class);
+		this.staticField = ReflectUtil.isStaticField(field);
+
+		field.setAccessible(true);
+		this.converter   = CsvConverter.of(field, column);
+	}
+
+	int          getIndex()       { return index;                                 }
+	Field        getField()       { return field;                                 }
+	CsvColumn    getColumn()      { return column;                                }
+	CsvConverter getConverter()   { return converter;                             }
+	String       getName()        { return column.name();                         }
+	int          getPos()         { return column.pos();                          }
+	boolean      hasName()        { return !Strings.isNullOrEmpty(column.name()); }
+	boolean      hasPos()         { return column.pos() != -Integer.MAX_VALUE;    }
+	boolean      isRequired()     { return column.required();                     }
+	boolean      isStaticField()  { return staticField;                           }
+}
@@ -0,0 +1,458 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The storage allocates the buffers for the columns of a
+ * {@code CsvColumnTable}.
+ *
+ * <p>The values of a column are kept in the segments of a fixed number of
+ * values, so a column is not limited by the 2 GB size of a
+ * {@code ByteBuffer}. The heap and direct storages start the first segment
+ * small and grow it, so a small file doesn't take a full segment for each
+ * column. The mapped storage maps the full segments from one scratch file,
+ * the pages which are not written are not really allocated. The direct
+ * storage frees its buffers when it is closed, and the buffers can not be
+ * used after that.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+abstract class CsvColumnStorage implements Closeable {
+	static final int SEGMENT_SHIFT  = 20;
+	static final int SEGMENT_VALUES = 1 << SEGMENT_SHIFT;
+	static final int SEGMENT_MASK   = SEGMENT_VALUES - 1;
+
+	private static final int INITIAL_VALUES = 1024;
+
+	private static final Consumer<ByteBuffer> FREE = findFree();
+
+	private boolean closed;
+
+	/**
+	 * Create the storage for the options.
+	 *
+	 * @param  options
+	 *         The options for reading the CSV file.
+	 *
+	 * @return  The new storage.
+	 *
+	 * @throws  IOException
+	 *          If the scratch file can not be created.
+	 *
+	 * @since   1.2
+	 */
+	static CsvColumnStorage of(final CsvReadOptions options) throws IOException {
+		switch (options.getStorage()) {
+			case DIRECT:
+				return new DirectStorage();
+			case MAPPED:
+				return new MappedStorage(options.getScratchDirectory());
+			default:
+				return new HeapStorage();
+		}
+	}
+
+	/**
+	 * Allocate a buffer in the native byte order.
+	 *
+	 * @param  bytes
+	 *         The size of the buffer in bytes.
+	 *
+	 * @return  The new buffer.
+	 *
+	 * @since   1.2
+	 */
+	abstract ByteBuffer allocate(int bytes);
+
+	/**
+	 * Get the number of values in the first segment.
+	 *
+	 * @return  The number of values.
+	 *
+	 * @since   1.2
+	 */
+	int getInitialValues() {
+		return INITIAL_VALUES;
+	}
+
+	/**
+	 * Check the texts of the string columns are kept in this storage, 
+	 * instead of a dictionary in the heap.
+	 *
+	 * @return  {@code true} if the texts are kept in this storage;
+	 *          {@code false} otherwise.
+	 *
+	 * @since   1.2
+	 */
+	boolean keepsTexts() {
+		return false;
+	}
+
+	/**
+	 * Release a buffer which is not used any more, like the first segment 
+	 * replaced by a larger one.
+	 *
+	 * @param  buffer
+	 *         The buffer allocated by this storage.
+	 *
+	 * @since   1.2
+	 */
+	void release(final ByteBuffer buffer) {
+	}
+
+	/**
+	 * Check this storage is closed.
+	 *
+	 * @return  {@code true} if it is closed;
+	 *          {@code false} otherwise.
+	 *
+	 * @since   1.2
+	 */
+	boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public void close() throws IOException {
+		closed = true;
+	}
+
+	/**
+	 * Find the way to free the memory of a direct buffer without waiting for 
+	 * the garbage collector: {@code Unsafe.invokeCleaner} in Java 9 and 
+	 * later, or the cleaner of the buffer in Java 8. If neither of them can 
+	 * be accessed, the memory is freed by the garbage collector as usual.
+	 */
+	private static Consumer<ByteBuffer> findFree() {
+		try {                                                                   // Java 9 and later
+			final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			final Method   method      = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+			final Field    field       = unsafeClass.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			final Object   unsafe      = field.get(null);
+			return buffer -> invoke(method, unsafe, buffer);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// try the cleaner of Java 8
+		}
+
+		try {                                                                   // Java 8
+			final Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+			final Method clean   = cleaner.getReturnType().getMethod("clean");
+			return buffer -> {
+				final Object c = invoke(cleaner, buffer);
+				if (c != null) {
+					invoke(clean, c);
+				}
+			};
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return buffer -> {};
+		}
+	}
+
+	private static Object invoke(final Method method, final Object target, final Object... args) {
+		try {
+			return method.invoke(target, args);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;                                                        // left to the garbage collector
+		}
+	}
+
+	/**
+	 * The segments of the values in one column.
+	 *
+	 * @since   1.2
+	 */
+	static final class Segments {
+		private final CsvColumnStorage storage;
+		private final int              width;
+		private ByteBuffer[]           buffers = new ByteBuffer[1];
+		private int                    firstCapacity;
+
+		/**
+		 * Construct a new {@code Segments}.
+		 *
+		 * @param  storage
+		 *         The storage which allocates the buffers.
+		 *
+		 * @param  width
+		 *         The size of one value in bytes.
+		 *
+		 * @since   1.2
+		 */
+		Segments(final CsvColumnStorage storage, final int width) {
+			this.storage       = storage;
+			this.width         = width;
+			this.firstCapacity = storage.getInitialValues();
+			this.buffers[0]    = storage.allocate(firstCapacity * width);
+		}
+
+		/**
+		 * Get the buffer for writing the value of a row, the buffer is
+		 * allocated if it is needed.
+		 *
+		 * @param  row
+		 *         The 0-based index of the row.
+		 *
+		 * @return  The buffer of the segment.
+		 *
+		 * @since   1.2
+		 */
+		ByteBuffer ensure(final int row) {
+			final int segment = row >>> SEGMENT_SHIFT;
+			if (segment == 0 && row >= firstCapacity) {
+				firstCapacity = Math.min(firstCapacity * 2, SEGMENT_VALUES);
+				final ByteBuffer old = buffers[0];
+				buffers[0] = storage.allocate(firstCapacity * width);
+				old.clear();
+				buffers[0].put(old).clear();
+				storage.release(old);
+			} else if (segment > 0) {
+				if (segment >= buffers.length) {
+					final ByteBuffer[] grown = new ByteBuffer[Math.max(segment + 1, buffers.length * 2)];
+					System.arraycopy(buffers, 0, grown, 0, buffers.length);
+					buffers = grown;
+				}
+				if (buffers[segment] == null) {
+					buffers[segment] = storage.allocate(SEGMENT_VALUES * width);
+				}
+			}
+			return buffers[segment];
+		}
+
+		/**
+		 * Get the buffer for reading the value of a row.
+		 *
+		 * @param  row
+		 *         The 0-based index of the row.
+		 *
+		 * @return  The buffer of the segment.
+		 *
+		 * @since   1.2
+		 */
+		ByteBuffer get(final int row) {
+			return buffers[row >>> SEGMENT_SHIFT];
+		}
+
+		/**
+		 * Get the byte offset of a row in its segment.
+		 *
+		 * @param  row
+		 *         The 0-based index of the row.
+		 *
+		 * @return  The offset in bytes.
+		 *
+		 * @since   1.2
+		 */
+		int offset(final int row) {
+			return (row & SEGMENT_MASK) * width;
+		}
+
+		/**
+		 * Check the storage of the segments is closed.
+		 *
+		 * @return  {@code true} if it is closed;
+		 *          {@code false} otherwise.
+		 *
+		 * @since   1.2
+		 */
+		boolean isClosed() {
+			return storage.isClosed();
+		}
+	}
+
+	/**
+	 * The texts of one string column, in the chunks of bytes allocated by 
+	 * the storage.
+	 *
+	 * <p>Each text is kept as its length and its UTF-8 bytes, and it is 
+	 * referred by the chunk number in the high 32 bits and the offset in the 
+	 * chunk in the low 32 bits. A text never spans two chunks, the text 
+	 * longer than a chunk has its own chunk.
+	 *
+	 * @since   1.2
+	 */
+	static final class Texts {
+		static final int CHUNK_BYTES = 1 << 24;
+
+		private final CsvColumnStorage storage;
+		private ByteBuffer[]           chunks = new ByteBuffer[16];
+		private int                    chunkCount;
+
+		/**
+		 * Construct a new {@code Texts}.
+		 *
+		 * @param  storage
+		 *         The storage which allocates the chunks.
+		 *
+		 * @since   1.2
+		 */
+		Texts(final CsvColumnStorage storage) {
+			this.storage = storage;
+		}
+
+		/**
+		 * Add a text.
+		 *
+		 * @param  text
+		 *         The text needs to be kept.
+		 *
+		 * @return  The reference of the text.
+		 *
+		 * @since   1.2
+		 */
+		long add(final String text) {
+			final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+			final int    size  = Integer.BYTES + bytes.length;
+
+			ByteBuffer chunk = chunkCount == 0 ? null : chunks[chunkCount - 1];
+			if (chunk == null || chunk.remaining() < size) {
+				chunk = storage.allocate(Math.max(CHUNK_BYTES, size));
+				if (chunkCount == chunks.length) {
+					final ByteBuffer[] grown = new ByteBuffer[chunks.length * 2];
+					System.arraycopy(chunks, 0, grown, 0, chunks.length);
+					chunks = grown;
+				}
+				chunks[chunkCount++] = chunk;
+			}
+
+			final long reference = ((long) (chunkCount - 1) << 32) | chunk.position();
+			chunk.putInt(bytes.length).put(bytes);
+			return reference;
+		}
+
+		/**
+		 * Get a text.
+		 *
+		 * @param  reference
+		 *         The reference of the text.
+		 *
+		 * @return  The text.
+		 *
+		 * @since   1.2
+		 */
+		String get(final long reference) {
+			final ByteBuffer chunk  = chunks[(int) (reference >>> 32)];
+			final int        offset = (int) reference;
+			final byte[]     bytes  = new byte[chunk.getInt(offset)];
+			final ByteBuffer view   = chunk.duplicate();                        // the position is not shared by the readers
+			view.position(offset + Integer.BYTES);
+			view.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	}
+
+	private static final class HeapStorage extends CsvColumnStorage {
+		@Override
+		ByteBuffer allocate(final int bytes) {
+			return ByteBuffer.allocate(bytes).order(ByteOrder.nativeOrder());
+		}
+	}
+
+	/**
+	 * The storage allocates the direct buffers and frees them when it is 
+	 * closed, so the memory outside the heap doesn't wait for the garbage 
+	 * collector.
+	 */
+	private static final class DirectStorage extends CsvColumnStorage {
+		private final Set<ByteBuffer> bufferSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		@Override
+		ByteBuffer allocate(final int bytes) {
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes);
+			bufferSet.add(buffer);
+			return buffer.order(ByteOrder.nativeOrder());
+		}
+
+		@Override
+		void release(final ByteBuffer buffer) {
+			if (bufferSet.remove(buffer)) {
+				FREE.accept(buffer);
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			super.close();
+			for (ByteBuffer buffer : bufferSet) {
+				FREE.accept(buffer);
+			}
+			bufferSet.clear();
+		}
+	}
+
+	/**
+	 * The storage maps the regions of one scratch file one after another.
+	 */
+	private static final class MappedStorage extends CsvColumnStorage {
+		private final File             file;
+		private final RandomAccessFile randomAccessFile;
+		private long                   position;
+
+		private MappedStorage(final String scratchDirectory) throws IOException {
+			this.file             = File.createTempFile("jcsvorm-", ".columns", scratchDirectory == null ? null : new File(scratchDirectory));
+			this.randomAccessFile = new RandomAccessFile(file, "rw");
+			file.deleteOnExit();
+		}
+
+		@Override
+		int getInitialValues() {
+			return SEGMENT_VALUES;
+		}
+
+		@Override
+		boolean keepsTexts() {
+			return true;
+		}
+
+		@Override
+		ByteBuffer allocate(final int bytes) {
+			try {
+				final ByteBuffer buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, position, bytes);
+				position += bytes;
+				return buffer.order(ByteOrder.nativeOrder());
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			super.close();
+			randomAccessFile.close();
+			file.delete();                                        // the mapped buffers are still valid on most systems
+		}
+	}
+}
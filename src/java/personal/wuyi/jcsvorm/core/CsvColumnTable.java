@@ -0,0 +1,632 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import personal.wuyi.jcsvorm.api.CsvRow;
+import personal.wuyi.jcsvorm.codegen.CsvColumnKind;
+
+/**
+ * The columnar form of the records in a CSV file.
+ *
+ * <p>Instead of one object per record, the values of each field annotated
+ * by {@code CsvColumn} are kept in one column, which is a sequence of
+ * primitive values:
+ * <ul>
+ *   <li>{@code int}, {@code short} and their wrapper types are kept in an
+ *       {@code IntColumn};</li>
+ *   <li>{@code long} and {@code Long} are kept in a {@code LongColumn};</li>
+ *   <li>{@code double}, {@code float} and their wrapper types are kept in a
+ *       {@code DoubleColumn};</li>
+ *   <li>{@code boolean} and {@code Boolean} are kept in a
+ *       {@code BooleanColumn};</li>
+ *   <li>any other type (like {@code String}, {@code char} or the date
+ *       types) is kept in a {@code StringColumn} as the text in the CSV
+ *       file, the distinct texts are stored once in a dictionary, except
+ *       with the {@code MAPPED} storage. For a date column, only the
+ *       entries in the dictionary need to be parsed.</li>
+ * </ul>
+ *
+ * <p>The columns are located and checked the same way as
+ * {@code CsvFactory.readCsv}. If a column is not in the CSV file, its
+ * values are {@code 0}, {@code false} or {@code null}.
+ *
+ * <p>The values are kept in the buffers allocated by the storage in
+ * {@code CsvReadOptions}: in the heap, in the direct memory or in a scratch
+ * file mapped into memory. With the {@code HEAP} and {@code DIRECT}
+ * storages, the dictionaries of the string columns are kept in the heap.
+ * The {@code MAPPED} storage keeps the texts in the scratch file as well,
+ * without a dictionary, so the table can be larger than the heap. The table
+ * needs to be closed to release the storage, the columns can not be used
+ * after that.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public final class CsvColumnTable implements Closeable {
+	/**
+	 * The kinds of columns.
+	 *
+	 * @since   1.2
+	 */
+	public enum Kind {
+		INT,
+		LONG,
+		DOUBLE,
+		BOOLEAN,
+		STRING
+	}
+
+	private final int                 rowCount;
+	private final Map<String, Column> columnMap;
+	private final CsvColumnStorage    storage;
+
+	private CsvColumnTable(final int rowCount, final Map<String, Column> columnMap, final CsvColumnStorage storage) {
+		this.rowCount  = rowCount;
+		this.columnMap = columnMap;
+		this.storage   = storage;
+	}
+
+	/**
+	 * Get the number of rows.
+	 *
+	 * @return  The number of rows.
+	 *
+	 * @since   1.2
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Get the names of the fields, which are the names of the columns in
+	 * this table.
+	 *
+	 * @return  The list of field names in the declaration order.
+	 *
+	 * @since   1.2
+	 */
+	public List<String> getFieldNames() {
+		return Collections.unmodifiableList(new ArrayList<>(columnMap.keySet()));
+	}
+
+	/**
+	 * Get the column of a field.
+	 *
+	 * @param  fieldName
+	 *         The name of the field.
+	 *
+	 * @return  The column.
+	 *
+	 * @throws  NoSuchElementException
+	 *          If there is no column for that field.
+	 *
+	 * @since   1.2
+	 */
+	public Column getColumn(final String fieldName) {
+		final Column column = columnMap.get(fieldName);
+		if (column == null) {
+			throw new NoSuchElementException("Can not find the column for the field " + fieldName + ".");
+		}
+		return column;
+	}
+
+	public IntColumn     getIntColumn(final String fieldName)     { return getColumn(fieldName, Kind.INT,     IntColumn.class);     }
+	public LongColumn    getLongColumn(final String fieldName)    { return getColumn(fieldName, Kind.LONG,    LongColumn.class);    }
+	public DoubleColumn  getDoubleColumn(final String fieldName)  { return getColumn(fieldName, Kind.DOUBLE,  DoubleColumn.class);  }
+	public BooleanColumn getBooleanColumn(final String fieldName) { return getColumn(fieldName, Kind.BOOLEAN, BooleanColumn.class); }
+	public StringColumn  getStringColumn(final String fieldName)  { return getColumn(fieldName, Kind.STRING,  StringColumn.class);  }
+
+	private <C extends Column> C getColumn(final String fieldName, final Kind kind, final Class<C> columnClass) {
+		final Column column = getColumn(fieldName);
+		if (column.getKind() != kind) {
+			throw new IllegalArgumentException("The column for the field " + fieldName + " is " + column.getKind() + ", not " + kind + ".");
+		}
+		return columnClass.cast(column);
+	}
+
+	/**
+	 * Release the storage of the columns, like freeing the buffers of the 
+	 * {@code DIRECT} storage or deleting the scratch file of the 
+	 * {@code MAPPED} storage. The columns can not be used after that.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when releasing the storage.
+	 *
+	 * @since   1.2
+	 */
+	@Override
+	public void close() throws IOException {
+		storage.close();
+	}
+
+	/**
+	 * The values of one field in all the rows.
+	 *
+	 * @since   1.2
+	 */
+	public abstract static class Column {
+		private final Kind                        kind;
+		protected final CsvColumnStorage.Segments segments;
+		protected final int                       size;
+
+		Column(final Kind kind, final CsvColumnStorage.Segments segments, final int size) {
+			this.kind     = kind;
+			this.segments = segments;
+			this.size     = size;
+		}
+
+		public Kind getKind() { return kind; }
+		public int  size()    { return size; }
+
+		protected final void checkRow(final int row) {
+			if (row < 0 || row >= size) {
+				throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+			}
+			if (segments.isClosed()) {                                      // the direct buffers are freed
+				throw new IllegalStateException("The column table is closed.");
+			}
+		}
+	}
+
+	/**
+	 * The column of {@code int} values.
+	 *
+	 * @since   1.2
+	 */
+	public static final class IntColumn extends Column {
+		IntColumn(final CsvColumnStorage.Segments segments, final int size) {
+			super(Kind.INT, segments, size);
+		}
+
+		public int get(final int row) {
+			checkRow(row);
+			return segments.get(row).getInt(segments.offset(row));
+		}
+
+		public int[] toArray() {
+			final int[] array = new int[size];
+			for (int i = 0; i < size; i++) {
+				array[i] = get(i);
+			}
+			return array;
+		}
+	}
+
+	/**
+	 * The column of {@code long} values.
+	 *
+	 * @since   1.2
+	 */
+	public static final class LongColumn extends Column {
+		LongColumn(final CsvColumnStorage.Segments segments, final int size) {
+			super(Kind.LONG, segments, size);
+		}
+
+		public long get(final int row) {
+			checkRow(row);
+			return segments.get(row).getLong(segments.offset(row));
+		}
+
+		public long[] toArray() {
+			final long[] array = new long[size];
+			for (int i = 0; i < size; i++) {
+				array[i] = get(i);
+			}
+			return array;
+		}
+	}
+
+	/**
+	 * The column of {@code double} values.
+	 *
+	 * @since   1.2
+	 */
+	public static final class DoubleColumn extends Column {
+		DoubleColumn(final CsvColumnStorage.Segments segments, final int size) {
+			super(Kind.DOUBLE, segments, size);
+		}
+
+		public double get(final int row) {
+			checkRow(row);
+			return segments.get(row).getDouble(segments.offset(row));
+		}
+
+		public double[] toArray() {
+			final double[] array = new double[size];
+			for (int i = 0; i < size; i++) {
+				array[i] = get(i);
+			}
+			return array;
+		}
+	}
+
+	/**
+	 * The column of {@code boolean} values.
+	 *
+	 * @since   1.2
+	 */
+	public static final class BooleanColumn extends Column {
+		BooleanColumn(final CsvColumnStorage.Segments segments, final int size) {
+			super(Kind.BOOLEAN, segments, size);
+		}
+
+		public boolean get(final int row) {
+			checkRow(row);
+			return segments.get(row).get(segments.offset(row)) != 0;
+		}
+
+		public boolean[] toArray() {
+			final boolean[] array = new boolean[size];
+			for (int i = 0; i < size; i++) {
+				array[i] = get(i);
+			}
+			return array;
+		}
+	}
+
+	/**
+	 * The column of texts.
+	 *
+	 * <p>With the {@code HEAP} and {@code DIRECT} storages, the texts are
+	 * encoded by a dictionary. Each row keeps the code of its text, which is
+	 * the index in the dictionary, or {@code -1} for {@code null}, and the
+	 * dictionary is kept in the heap. With the {@code MAPPED} storage, each
+	 * row keeps the reference of its text in the scratch file, or
+	 * {@code -1} for {@code null}, and there is no dictionary.
+	 *
+	 * @since   1.2
+	 */
+	public static final class StringColumn extends Column {
+		private final String[]               dictionary;
+		private final CsvColumnStorage.Texts texts;
+
+		StringColumn(final CsvColumnStorage.Segments segments, final int size, final String[] dictionary) {
+			super(Kind.STRING, segments, size);
+			this.dictionary = dictionary;
+			this.texts      = null;
+		}
+
+		StringColumn(final CsvColumnStorage.Segments segments, final int size, final CsvColumnStorage.Texts texts) {
+			super(Kind.STRING, segments, size);
+			this.dictionary = null;
+			this.texts      = texts;
+		}
+
+		public String get(final int row) {
+			if (texts != null) {
+				checkRow(row);
+				final long reference = segments.get(row).getLong(segments.offset(row));
+				return reference < 0 ? null : texts.get(reference);
+			}
+
+			final int code = getCode(row);
+			return code < 0 ? null : dictionary[code];
+		}
+
+		public boolean hasDictionary() {
+			return dictionary != null;
+		}
+
+		public int getCode(final int row) {
+			checkDictionary();
+			checkRow(row);
+			return segments.get(row).getInt(segments.offset(row));
+		}
+
+		public List<String> getDictionary() {
+			checkDictionary();
+			return Collections.unmodifiableList(Arrays.asList(dictionary));
+		}
+
+		private void checkDictionary() {
+			if (dictionary == null) {
+				throw new UnsupportedOperationException("The string column in the MAPPED storage doesn't have a dictionary.");
+			}
+		}
+	}
+
+	/**
+	 * The builder collects the values row by row.
+	 *
+	 * @since   1.2
+	 */
+	static final class Builder {
+		private final CsvColumnStorage storage;
+		private final CsvReadPlan<?>   plan;
+		private final String[]         fieldNames;
+		private final ColumnBuilder[]  columns;
+		private int                    rowCount;
+
+		/**
+		 * Construct a new {@code Builder}.
+		 *
+		 * @param  mapping
+		 *         The compiled mapping model of the class.
+		 *
+		 * @param  plan
+		 *         The plan which locates the columns in the CSV file.
+		 *
+		 * @param  storage
+		 *         The storage which allocates the buffers for the columns.
+		 *
+		 * @since   1.2
+		 */
+		Builder(final CsvMapping<?> mapping, final CsvReadPlan<?> plan, final CsvColumnStorage storage) {
+			final List<CsvColumnMapping> columnList = mapping.getColumnList();
+
+			this.storage    = storage;
+			this.plan       = plan;
+			this.fieldNames = new String[columnList.size()];
+			this.columns    = new ColumnBuilder[columnList.size()];
+			for (int i = 0; i < columns.length; i++) {
+				final CsvColumnMapping columnMapping = columnList.get(i);
+				fieldNames[i] = columnMapping.getField().getName();
+				columns[i]    = ColumnBuilder.of(columnMapping.getField().getType(), plan.getColumnIndex(columnMapping), storage);
+			}
+		}
+
+		/**
+		 * Add the values of one row.
+		 *
+		 * @param  row
+		 *         The record in the CSV file.
+		 *
+		 * @since   1.2
+		 */
+		void add(final CsvRow row) {
+			if (rowCount == 0) {
+				plan.check();
+			}
+			if (rowCount == Integer.MAX_VALUE) {
+				throw new IllegalStateException("There are too many rows for a column table.");
+			}
+			for (ColumnBuilder column : columns) {
+				column.add(row, rowCount);
+			}
+			rowCount++;
+		}
+
+		/**
+		 * Build the table with the rows added.
+		 *
+		 * @return  The table.
+		 *
+		 * @since   1.2
+		 */
+		CsvColumnTable build() {
+			final Map<String, Column> columnMap = new LinkedHashMap<>();
+			for (int i = 0; i < columns.length; i++) {
+				columnMap.put(fieldNames[i], columns[i].build(rowCount));
+			}
+			return new CsvColumnTable(rowCount, columnMap, storage);
+		}
+	}
+
+	/**
+	 * The builder of one column.
+	 */
+	private abstract static class ColumnBuilder {
+		protected final int                       index;
+		protected final CsvColumnStorage.Segments segments;
+
+		ColumnBuilder(final int index, final CsvColumnStorage.Segments segments) {
+			this.index    = index;
+			this.segments = segments;
+		}
+
+		static ColumnBuilder of(final Class<?> fieldType, final int index, final CsvColumnStorage storage) {
+			final CsvColumnKind kind = CsvColumnKind.of(fieldType);
+			if (kind == null) {
+				return StringColumnBuilder.of(index, storage);
+			}
+
+			switch (kind) {
+				case INT:
+				case BOXED_INT:
+					return new IntColumnBuilder(index, storage, false);
+				case SHORT:
+				case BOXED_SHORT:
+					return new IntColumnBuilder(index, storage, true);
+				case LONG:
+				case BOXED_LONG:
+					return new LongColumnBuilder(index, storage);
+				case DOUBLE:
+				case BOXED_DOUBLE:
+					return new DoubleColumnBuilder(index, storage, false);
+				case FLOAT:
+				case BOXED_FLOAT:
+					return new DoubleColumnBuilder(index, storage, true);
+				case BOOLEAN:
+				case BOXED_BOOLEAN:
+					return new BooleanColumnBuilder(index, storage);
+				default:
+					return StringColumnBuilder.of(index, storage);
+			}
+		}
+
+		/**
+		 * Add the value of the column in a row.
+		 */
+		abstract void add(CsvRow row, int rowIndex);
+
+		/**
+		 * Build the column with the first {@code size} values.
+		 */
+		abstract Column build(int size);
+	}
+
+	private static final class IntColumnBuilder extends ColumnBuilder {
+		private final boolean isShort;
+
+		IntColumnBuilder(final int index, final CsvColumnStorage storage, final boolean isShort) {
+			super(index, new CsvColumnStorage.Segments(storage, Integer.BYTES));
+			this.isShort = isShort;
+		}
+
+		@Override
+		void add(final CsvRow row, final int rowIndex) {
+			final int value = index < 0 ? 0 : isShort ? CsvNumbers.parseShort(row.getCharSequence(index)) : row.getInt(index);
+			segments.ensure(rowIndex).putInt(segments.offset(rowIndex), value);
+		}
+
+		@Override
+		Column build(final int size) {
+			return new IntColumn(segments, size);
+		}
+	}
+
+	private static final class LongColumnBuilder extends ColumnBuilder {
+		LongColumnBuilder(final int index, final CsvColumnStorage storage) {
+			super(index, new CsvColumnStorage.Segments(storage, Long.BYTES));
+		}
+
+		@Override
+		void add(final CsvRow row, final int rowIndex) {
+			final long value = index < 0 ? 0 : row.getLong(index);
+			segments.ensure(rowIndex).putLong(segments.offset(rowIndex), value);
+		}
+
+		@Override
+		Column build(final int size) {
+			return new LongColumn(segments, size);
+		}
+	}
+
+	private static final class DoubleColumnBuilder extends ColumnBuilder {
+		private final boolean isFloat;
+
+		DoubleColumnBuilder(final int index, final CsvColumnStorage storage, final boolean isFloat) {
+			super(index, new CsvColumnStorage.Segments(storage, Double.BYTES));
+			this.isFloat = isFloat;
+		}
+
+		@Override
+		void add(final CsvRow row, final int rowIndex) {
+			final double value = index < 0 ? 0 : isFloat ? Float.parseFloat(row.get(index)) : row.getDouble(index);
+			segments.ensure(rowIndex).putDouble(segments.offset(rowIndex), value);
+		}
+
+		@Override
+		Column build(final int size) {
+			return new DoubleColumn(segments, size);
+		}
+	}
+
+	private static final class BooleanColumnBuilder extends ColumnBuilder {
+		BooleanColumnBuilder(final int index, final CsvColumnStorage storage) {
+			super(index, new CsvColumnStorage.Segments(storage, 1));
+		}
+
+		@Override
+		void add(final CsvRow row, final int rowIndex) {
+			final boolean value = index >= 0 && parseBoolean(row.getCharSequence(index));
+			segments.ensure(rowIndex).put(segments.offset(rowIndex), (byte) (value ? 1 : 0));
+		}
+
+		@Override
+		Column build(final int size) {
+			return new BooleanColumn(segments, size);
+		}
+
+		/**
+		 * The same as {@code Boolean.parseBoolean} without creating a
+		 * {@code String}.
+		 */
+		private static boolean parseBoolean(final CharSequence s) {
+			if (s == null || s.length() != 4) {
+				return false;
+			}
+			for (int i = 0; i < 4; i++) {
+				if (Character.toLowerCase(s.charAt(i)) != "true".charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static final class StringColumnBuilder extends ColumnBuilder {
+		private final Map<String, Integer> codeMap    = new HashMap<>();
+		private final List<String>         dictionary = new ArrayList<>();
+
+		StringColumnBuilder(final int index, final CsvColumnStorage storage) {
+			super(index, new CsvColumnStorage.Segments(storage, Integer.BYTES));
+		}
+
+		static ColumnBuilder of(final int index, final CsvColumnStorage storage) {
+			return storage.keepsTexts() ? new TextColumnBuilder(index, storage) : new StringColumnBuilder(index, storage);
+		}
+
+		@Override
+		void add(final CsvRow row, final int rowIndex) {
+			final String value = index >= 0 ? row.get(index) : null;
+
+			Integer code = -1;
+			if (value != null) {
+				code = codeMap.get(value);
+				if (code == null) {
+					code = dictionary.size();
+					codeMap.put(value, code);
+					dictionary.add(value);
+				}
+			}
+			segments.ensure(rowIndex).putInt(segments.offset(rowIndex), code);
+		}
+
+		@Override
+		Column build(final int size) {
+			return new StringColumn(segments, size, dictionary.toArray(new String[dictionary.size()]));
+		}
+	}
+
+	/**
+	 * The builder of a string column which keeps the texts in the storage, 
+	 * so nothing grows in the heap with the number of rows or texts.
+	 */
+	private static final class TextColumnBuilder extends ColumnBuilder {
+		private final CsvColumnStorage.Texts texts;
+
+		TextColumnBuilder(final int index, final CsvColumnStorage storage) {
+			super(index, new CsvColumnStorage.Segments(storage, Long.BYTES));
+			this.texts = new CsvColumnStorage.Texts(storage);
+		}
+
+		@Override
+		void add(final CsvRow row, final int rowIndex) {
+			final String value = index >= 0 ? row.get(index) : null;
+			segments.ensure(rowIndex).putLong(segments.offset(rowIndex), value == null ? -1 : texts.add(value));
+		}
+
+		@Override
+		Column build(final int size) {
+			return new StringColumn(segments, size, texts);
+		}
+	}
+}
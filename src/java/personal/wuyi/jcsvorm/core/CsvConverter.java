@@ -0,0 +1,867 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.lang.reflect.Field;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneRules;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import com.google.common.base.Strings;
+
+import personal.wuyi.jcsvorm.annotation.CsvColumn;
+import personal.wuyi.jcsvorm.api.CsvRow;
+
+/**
+ * The converter between the value of one field in a Java class and the
+ * {@code String} value of one cell in a CSV file.
+ *
+ * <p>Each field annotated by {@code CsvColumn} is resolved to a dedicated
+ * converter for its type only once, so parsing or formatting a cell is a
+ * single call without checking the type again. The converters for
+ * primitive fields use the typed methods of {@code CsvFieldAccessor}, so
+ * the values are never boxed.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+abstract class CsvConverter {
+	protected final CsvFieldAccessor accessor;
+
+	/**
+	 * Construct a new {@code CsvConverter}.
+	 *
+	 * @param  accessor
+	 *         The accessor bound to one field in a class.
+	 *
+	 * @since   1.2
+	 */
+	protected CsvConverter(final CsvFieldAccessor accessor) {
+		this.accessor = accessor;
+	}
+
+	/**
+	 * Parse the value of a cell and set it to the field.
+	 *
+	 * @param  target
+	 *         The object in the certain type.
+	 *
+	 * @param  value
+	 *         The value in a certain cell in CSV file, it can not be
+	 *         {@code null}.
+	 *
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access
+	 *          control and the underlying field is either inaccessible or final.
+	 *
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *
+	 * @since   1.2
+	 */
+	abstract void parse(Object target, String value) throws IllegalAccessException, ParseException;
+
+	/**
+	 * Read the value of a column in a row and set it to the field.
+	 *
+	 * <p>By default, the {@code String} value of the column is parsed. The 
+	 * converters for the numbers override it to parse the value by the 
+	 * typed getters of the row, which may not create the {@code String}.
+	 *
+	 * @param  target
+	 *         The object in the certain type.
+	 *
+	 * @param  row
+	 *         The tokenized row.
+	 *
+	 * @param  index
+	 *         The 0-based index of the column.
+	 *
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access
+	 *          control and the underlying field is either inaccessible or final.
+	 *
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *
+	 * @since   1.2
+	 */
+	void read(final Object target, final CsvRow row, final int index) throws IllegalAccessException, ParseException {
+		final String value = row.get(index);
+		if (value == null) {
+			setNull(target);
+		} else {
+			parse(target, value);
+		}
+	}
+
+	/**
+	 * Get the value of the field and format it to {@code String}.
+	 *
+	 * @param  target
+	 *         The object in the certain type.
+	 *
+	 * @return  The {@code String} value of the value in the field or
+	 *          {@code null} if the value is {@code null}.
+	 *
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access
+	 *          control and the underlying field is either inaccessible.
+	 *
+	 * @since   1.2
+	 */
+	abstract String format(Object target) throws IllegalAccessException;
+
+	/**
+	 * Set {@code null} to the field.
+	 *
+	 * @param  target
+	 *         The object in the certain type.
+	 *
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access
+	 *          control and the underlying field is either inaccessible or final.
+	 *
+	 * @since   1.2
+	 */
+	void setNull(final Object target) throws IllegalAccessException {
+		accessor.set(target, null);
+	}
+
+	/**
+	 * Resolve the converter for a field based on its type.
+	 *
+	 * @param  field
+	 *         The {@code Field} object represents one field in a class.
+	 *
+	 * @param  column
+	 *         The {@code CsvColumn} annotation on the field.
+	 *
+	 * @return  The dedicated converter for the field.
+	 *
+	 * @since   1.2
+	 */
+	static CsvConverter of(final Field field, final CsvColumn column) {
+		final Class<?>         fieldType = field.getType();
+		final CsvFieldAccessor accessor  = CsvFieldAccessor.of(field);
+
+		if (fieldType == String.class) {
+			return new StringConverter(accessor);
+		} else if (fieldType == Object.class) {
+			return new ObjectConverter(accessor);
+		} else if (fieldType == Integer.TYPE) {
+			return new IntConverter(accessor);
+		} else if (fieldType == Long.TYPE) {
+			return new LongConverter(accessor);
+		} else if (fieldType == Double.TYPE) {
+			return new DoubleConverter(accessor);
+		} else if (fieldType == Float.TYPE) {
+			return new FloatConverter(accessor);
+		} else if (fieldType == Short.TYPE) {
+			return new ShortConverter(accessor);
+		} else if (fieldType == Character.TYPE) {
+			return new CharConverter(accessor);
+		} else if (fieldType == Boolean.TYPE) {
+			return new BooleanConverter(accessor);
+		} else if (fieldType == Integer.class) {
+			return new BoxedIntConverter(accessor);
+		} else if (fieldType == Long.class) {
+			return new BoxedLongConverter(accessor);
+		} else if (fieldType == Double.class) {
+			return new BoxedDoubleConverter(accessor);
+		} else if (fieldType == Float.class) {
+			return new BoxedFloatConverter(accessor);
+		} else if (fieldType == Short.class) {
+			return new BoxedShortConverter(accessor);
+		} else if (fieldType == Character.class) {
+			return new BoxedCharConverter(accessor);
+		} else if (fieldType == Boolean.class) {
+			return new BoxedBooleanConverter(accessor);
+		} else if (isDateType(fieldType)) {
+			if (Strings.isNullOrEmpty(column.format())) {
+				return new InvalidConverter(accessor,
+						"The field " + field.getName() + " needs to spefic the format for parsing date or date time.",
+						"The field " + field.getName() + " needs to spefic the format for writing date or date time.");
+			}
+			return ofDateType(fieldType, accessor, column.format());
+		} else {
+			return new InvalidConverter(accessor,
+					"The field " + field.getName() + " is not an easy type (" + fieldType.getName() + ") for parsing CSV file.",
+					"The field " + field.getName() + " is not an easy type (" + fieldType.getName() + ") for writing CSV file.");
+		}
+	}
+
+	/**
+	 * Check a type is one of the supported date or date time types.
+	 *
+	 * @param  fieldType
+	 *         The type of a field.
+	 *
+	 * @return  {@code true} if the type is a date or date time type;
+	 *          {@code false} otherwise.
+	 *
+	 * @since   1.2
+	 */
+	static boolean isDateType(final Class<?> fieldType) {
+		return fieldType == java.util.Date.class || fieldType == java.sql.Date.class || fieldType == Timestamp.class
+				|| fieldType == Calendar.class || fieldType == LocalDate.class || fieldType == LocalDateTime.class;
+	}
+
+	/**
+	 * Resolve the converter for a date or date time field.
+	 *
+	 * @param  fieldType
+	 *         The type of the field.
+	 *
+	 * @param  accessor
+	 *         The accessor bound to the field.
+	 *
+	 * @param  format
+	 *         The format parameter in the {@code CsvColumn} annotation.
+	 *
+	 * @return  The dedicated converter for the field.
+	 *
+	 * @since   1.2
+	 */
+	static DateConverter ofDateType(final Class<?> fieldType, final CsvFieldAccessor accessor, final String format) {
+		if (fieldType == java.util.Date.class) {
+			return new UtilDateConverter(accessor, format);
+		} else if (fieldType == Timestamp.class) {
+			return new TimestampConverter(accessor, format);
+		} else if (fieldType == Calendar.class) {
+			return new CalendarConverter(accessor, format);
+		} else if (fieldType == java.sql.Date.class) {
+			return new SqlDateConverter(accessor, format);
+		} else if (fieldType == LocalDate.class) {
+			return new LocalDateConverter(accessor, format);
+		} else {
+			return new LocalDateTimeConverter(accessor, format);
+		}
+	}
+
+	static final class StringConverter extends CsvConverter {
+		StringConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.set(target, value);
+		}
+
+		@Override
+		String format(final Object target) throws IllegalAccessException {
+			return (String) accessor.get(target);
+		}
+	}
+
+	static final class ObjectConverter extends CsvConverter {
+		ObjectConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.set(target, value);
+		}
+
+		@Override
+		String format(final Object target) throws IllegalAccessException {
+			final Object value = accessor.get(target);
+			return value == null ? null : value.toString();
+		}
+	}
+
+	static final class IntConverter extends CsvConverter {
+		IntConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void read(final Object target, final CsvRow row, final int index) throws IllegalAccessException {
+			accessor.setInt(target, row.getInt(index));
+		}
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.setInt(target, Integer.parseInt(value));
+		}
+
+		@Override
+		String format(final Object target) throws IllegalAccessException {
+			return Integer.toString(accessor.getInt(target));
+		}
+	}
+
+	static final class LongConverter extends CsvConverter {
+		LongConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void read(final Object target, final CsvRow row, final int index) throws IllegalAccessException {
+			accessor.setLong(target, row.getLong(index));
+		}
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.setLong(target, Long.parseLong(value));
+		}
+
+		@Override
+		String format(final Object target) throws IllegalAccessException {
+			return Long.toString(accessor.getLong(target));
+		}
+	}
+
+	static final class DoubleConverter extends CsvConverter {
+		DoubleConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void read(final Object target, final CsvRow row, final int index) throws IllegalAccessException {
+			accessor.setDouble(target, row.getDouble(index));
+		}
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.setDouble(target, Double.parseDouble(value));
+		}
+
+		@Override
+		String format(final Object target) throws IllegalAccessException {
+			return Double.toString(accessor.getDouble(target));
+		}
+	}
+
+	static final class FloatConverter extends CsvConverter {
+		FloatConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.setFloat(target, Float.parseFloat(value));
+		}
+
+		@Override
+		String format(final Object target) throws IllegalAccessException {
+			return Float.toString(accessor.getFloat(target));
+		}
+	}
+
+	static final class ShortConverter extends CsvConverter {
+		ShortConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void read(final Object target, final CsvRow row, final int index) throws IllegalAccessException {
+			accessor.setShort(target, CsvNumbers.parseShort(row.getCharSequence(index)));
+		}
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.setShort(target, Short.parseShort(value));
+		}
+
+		@Override
+		String format(final Object target) throws IllegalAccessException {
+			return Short.toString(accessor.getShort(target));
+		}
+	}
+
+	static final class CharConverter extends CsvConverter {
+		CharConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.setChar(target, value.charAt(0));
+		}
+
+		@Override
+		String format(final Object target) throws IllegalAccessException {
+			return Character.toString(accessor.getChar(target));
+		}
+	}
+
+	static final class BooleanConverter extends CsvConverter {
+		BooleanConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.setBoolean(target, Boolean.parseBoolean(value));
+		}
+
+		@Override
+		String format(final Object target) throws IllegalAccessException {
+			return Boolean.toString(accessor.getBoolean(target));
+		}
+	}
+
+	/**
+	 * The base converter for the fields in the wrapper types, which are
+	 * formatted by {@code toString()}.
+	 */
+	abstract static class BoxedConverter extends CsvConverter {
+		BoxedConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		String format(final Object target) throws IllegalAccessException {
+			final Object value = accessor.get(target);
+			return value == null ? null : value.toString();
+		}
+	}
+
+	static final class BoxedIntConverter extends BoxedConverter {
+		BoxedIntConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void read(final Object target, final CsvRow row, final int index) throws IllegalAccessException {
+			accessor.set(target, Integer.valueOf(row.getInt(index)));
+		}
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.set(target, Integer.valueOf(value));
+		}
+	}
+
+	static final class BoxedLongConverter extends BoxedConverter {
+		BoxedLongConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void read(final Object target, final CsvRow row, final int index) throws IllegalAccessException {
+			accessor.set(target, Long.valueOf(row.getLong(index)));
+		}
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.set(target, Long.valueOf(value));
+		}
+	}
+
+	static final class BoxedDoubleConverter extends BoxedConverter {
+		BoxedDoubleConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void read(final Object target, final CsvRow row, final int index) throws IllegalAccessException {
+			accessor.set(target, Double.valueOf(row.getDouble(index)));
+		}
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.set(target, Double.valueOf(value));
+		}
+	}
+
+	static final class BoxedFloatConverter extends BoxedConverter {
+		BoxedFloatConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.set(target, Float.valueOf(value));
+		}
+	}
+
+	static final class BoxedShortConverter extends BoxedConverter {
+		BoxedShortConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void read(final Object target, final CsvRow row, final int index) throws IllegalAccessException {
+			accessor.set(target, Short.valueOf(CsvNumbers.parseShort(row.getCharSequence(index))));
+		}
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.set(target, Short.valueOf(value));
+		}
+	}
+
+	static final class BoxedCharConverter extends BoxedConverter {
+		BoxedCharConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.set(target, Character.valueOf(value.charAt(0)));
+		}
+	}
+
+	static final class BoxedBooleanConverter extends BoxedConverter {
+		BoxedBooleanConverter(final CsvFieldAccessor accessor) { super(accessor); }
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException {
+			accessor.set(target, Boolean.valueOf(value));
+		}
+	}
+
+	/**
+	 * The base converter for the fields in the date and date time types. The 
+	 * values are parsed and formatted without the field, so the same logic 
+	 * is used by {@code CsvDateFormat} for the generated mappers.
+	 */
+	abstract static class DateConverter extends CsvConverter {
+		DateConverter(final CsvFieldAccessor accessor) {
+			super(accessor);
+		}
+
+		/**
+		 * Parse the text of a date or date time.
+		 *
+		 * @param  text
+		 *         The text in a cell, it can not be {@code null}.
+		 *
+		 * @return  The value in the type of the field.
+		 *
+		 * @throws  ParseException
+		 *          If the text can not be parsed by the pattern.
+		 */
+		abstract Object parseDate(CharSequence text) throws ParseException;
+
+		/**
+		 * Format a date or date time.
+		 *
+		 * @param  value
+		 *         The value in the type of the field.
+		 *
+		 * @return  The text or {@code null} if the value is {@code null}.
+		 */
+		abstract String formatDate(Object value);
+
+		@Override
+		void read(final Object target, final CsvRow row, final int index) throws IllegalAccessException, ParseException {
+			final CharSequence value = row.getCharSequence(index);
+			if (value == null) {
+				setNull(target);
+			} else {
+				accessor.set(target, parseDate(value));
+			}
+		}
+
+		@Override
+		void parse(final Object target, final String value) throws IllegalAccessException, ParseException {
+			accessor.set(target, parseDate(value));
+		}
+
+		@Override
+		String format(final Object target) throws IllegalAccessException {
+			return formatDate(accessor.get(target));
+		}
+	}
+
+	/**
+	 * The base converter for the fields in the legacy date types, which are
+	 * parsed and formatted by {@code SimpleDateFormat}. It is not thread-safe,
+	 * so the pattern is compiled once per thread and the instance is reused
+	 * by that thread.
+	 *
+	 * <p>If the pattern has a fixed width, the common values are parsed and
+	 * formatted by {@code CsvDatePattern} instead. The local date time is
+	 * converted by the rules of the time zone of {@code SimpleDateFormat},
+	 * and only when there is exactly one valid offset, so the gaps and
+	 * overlaps are still handled by {@code SimpleDateFormat}. The dates
+	 * before 1900 are left to {@code SimpleDateFormat} as well, because of
+	 * the Julian calendar and the local mean time.
+	 */
+	abstract static class LegacyDateConverter extends DateConverter {
+		private static final long MIN_LOCAL_EPOCH_SECOND = CsvDatePattern.toEpochDay(1900, 1, 1) * 86400;
+
+		private final CsvDatePattern         datePattern;
+		private final CsvDateCache           cache = new CsvDateCache();
+		private final ThreadLocal<DateState> state;
+
+		LegacyDateConverter(final CsvFieldAccessor accessor, final String pattern) {
+			super(accessor);
+			this.datePattern = CsvDatePattern.compile(pattern);
+			this.state       = ThreadLocal.withInitial(() -> new DateState(new SimpleDateFormat(pattern)));
+		}
+
+		/**
+		 * Create the value in the type of the field for the parsed time.
+		 *
+		 * @param  time
+		 *         The milliseconds since the epoch.
+		 *
+		 * @return  The value in the type of the field.
+		 */
+		abstract Object toValue(long time);
+
+		SimpleDateFormat getDateFormat() {
+			return state.get().dateFormat;
+		}
+
+		@Override
+		Object parseDate(final CharSequence text) throws ParseException {
+			return toValue(parseTime(text));
+		}
+
+		private long parseTime(final CharSequence text) throws ParseException {
+			final DateState state  = this.state.get();
+			final ZoneRules rules  = state.getRules();
+			final Object    cached = cache.get(text, rules);
+			if (cached != null) {
+				return (Long) cached;
+			}
+
+			long time = CsvDatePattern.NOT_A_DATE;
+			if (datePattern != null) {
+				final long local = datePattern.parse(text);
+				if (local != CsvDatePattern.NOT_A_DATE && local >= MIN_LOCAL_EPOCH_SECOND) {
+					final List<ZoneOffset> offsets = rules.getValidOffsets(LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC));
+					if (offsets.size() == 1) {
+						time = (local - offsets.get(0).getTotalSeconds()) * 1000;
+					}
+				}
+			}
+			if (time == CsvDatePattern.NOT_A_DATE) {
+				time = state.dateFormat.parse(text.toString()).getTime();
+			}
+
+			cache.put(text, rules, time);
+			return time;
+		}
+
+		@Override
+		String formatDate(final Object date) {
+			if (date == null) {
+				return null;
+			}
+
+			final java.util.Date value = date instanceof Calendar ? ((Calendar) date).getTime() : (java.util.Date) date;
+			final DateState state = this.state.get();
+			if (datePattern != null) {
+				final long second = Math.floorDiv(value.getTime(), 1000L);
+				final long local  = second + state.getRules().getOffset(Instant.ofEpochSecond(second)).getTotalSeconds();
+				if (local >= MIN_LOCAL_EPOCH_SECOND) {
+					final String text = datePattern.format(local);
+					if (text != null) {
+						return text;
+					}
+				}
+			}
+			return state.dateFormat.format(value);
+		}
+	}
+
+	/**
+	 * The {@code SimpleDateFormat} of one thread and the rules of its time
+	 * zone.
+	 */
+	private static final class DateState {
+		private final SimpleDateFormat dateFormat;
+		private TimeZone               zone;
+		private ZoneRules              rules;
+
+		private DateState(final SimpleDateFormat dateFormat) {
+			this.dateFormat = dateFormat;
+		}
+
+		private ZoneRules getRules() {
+			final TimeZone current = dateFormat.getTimeZone();
+			if (current != zone) {
+				zone  = current;
+				rules = current.toZoneId().getRules();
+			}
+			return rules;
+		}
+	}
+
+	static final class UtilDateConverter extends LegacyDateConverter {
+		UtilDateConverter(final CsvFieldAccessor accessor, final String pattern) { super(accessor, pattern); }
+
+		@Override
+		Object toValue(final long time) {
+			return new java.util.Date(time);
+		}
+	}
+
+	static final class TimestampConverter extends LegacyDateConverter {
+		TimestampConverter(final CsvFieldAccessor accessor, final String pattern) { super(accessor, pattern); }
+
+		@Override
+		Object toValue(final long time) {
+			return new Timestamp(time);
+		}
+	}
+
+	static final class SqlDateConverter extends LegacyDateConverter {
+		SqlDateConverter(final CsvFieldAccessor accessor, final String pattern) { super(accessor, pattern); }
+
+		@Override
+		Object toValue(final long time) {
+			return new java.sql.Date(time);
+		}
+	}
+
+	static final class CalendarConverter extends LegacyDateConverter {
+		CalendarConverter(final CsvFieldAccessor accessor, final String pattern) { super(accessor, pattern); }
+
+		@Override
+		Object toValue(final long time) {
+			final Calendar cal = (Calendar) getDateFormat().getCalendar().clone();     // the same type as Calendar.getInstance() without looking up the defaults again
+			cal.setTimeInMillis(time);
+			return cal;
+		}
+	}
+
+	/**
+	 * The base converter for the fields in the {@code java.time} types. The
+	 * {@code DateTimeFormatter} is immutable, so it is compiled at the first
+	 * use and shared by all the threads. It is not compiled in advance, so an
+	 * invalid pattern is still reported when a value is parsed or formatted.
+	 *
+	 * <p>If the pattern has a fixed width, the common values are parsed and
+	 * formatted by {@code CsvDatePattern} instead. The parsed values are
+	 * immutable, so they are cached and shared by the rows.
+	 */
+	abstract static class TemporalConverter extends DateConverter {
+		private final String               pattern;
+		protected final CsvDatePattern     datePattern;
+		private final CsvDateCache         cache = new CsvDateCache();
+		private volatile DateTimeFormatter formatter;
+
+		TemporalConverter(final CsvFieldAccessor accessor, final String pattern) {
+			super(accessor);
+			this.pattern     = pattern;
+			this.datePattern = CsvDatePattern.compile(pattern);
+		}
+
+		abstract boolean   canParseFast();
+		abstract boolean   canFormatFast();
+		abstract Object    fromLocalEpochSecond(long localEpochSecond);
+		abstract long      toLocalEpochSecond(Object value);
+		abstract Object    parseText(String text);
+		abstract String    formatValue(Object value);
+
+		DateTimeFormatter getFormatter() {
+			DateTimeFormatter result = formatter;
+			if (result == null) {
+				formatter = result = DateTimeFormatter.ofPattern(pattern);
+			}
+			return result;
+		}
+
+		@Override
+		String formatDate(final Object value) {
+			if (value == null) {
+				return null;
+			}
+
+			if (datePattern != null && canFormatFast()) {
+				final String text = datePattern.format(toLocalEpochSecond(value));
+				if (text != null) {
+					return text;
+				}
+			}
+			return formatValue(value);
+		}
+
+		@Override
+		Object parseDate(final CharSequence text) {
+			final Object cached = cache.get(text, null);
+			if (cached != null) {
+				return cached;
+			}
+
+			final long   local = datePattern != null && canParseFast() ? datePattern.parse(text) : CsvDatePattern.NOT_A_DATE;
+			final Object value = local != CsvDatePattern.NOT_A_DATE ? fromLocalEpochSecond(local) : parseText(text.toString());
+			cache.put(text, null, value);
+			return value;
+		}
+	}
+
+	static final class LocalDateConverter extends TemporalConverter {
+		LocalDateConverter(final CsvFieldAccessor accessor, final String pattern) { super(accessor, pattern); }
+
+		@Override boolean canParseFast()  { return true;                         }
+		@Override boolean canFormatFast() { return !datePattern.hasTimeField();  }
+
+		@Override
+		Object fromLocalEpochSecond(final long localEpochSecond) {
+			return LocalDate.ofEpochDay(Math.floorDiv(localEpochSecond, 86400L));
+		}
+
+		@Override
+		long toLocalEpochSecond(final Object value) {
+			return ((LocalDate) value).toEpochDay() * 86400;
+		}
+
+		@Override
+		Object parseText(final String text) {
+			return LocalDate.parse(text, getFormatter());
+		}
+
+		@Override
+		String formatValue(final Object value) {
+			return ((LocalDate) value).format(getFormatter());
+		}
+	}
+
+	static final class LocalDateTimeConverter extends TemporalConverter {
+		LocalDateTimeConverter(final CsvFieldAccessor accessor, final String pattern) { super(accessor, pattern); }
+
+		@Override boolean canParseFast()  { return datePattern.hasTime(); }
+		@Override boolean canFormatFast() { return datePattern.hasTime(); }
+
+		@Override
+		Object fromLocalEpochSecond(final long localEpochSecond) {
+			return LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC);
+		}
+
+		@Override
+		long toLocalEpochSecond(final Object value) {
+			return ((LocalDateTime) value).toEpochSecond(ZoneOffset.UTC);
+		}
+
+		@Override
+		Object parseText(final String text) {
+			return LocalDateTime.parse(text, getFormatter());
+		}
+
+		@Override
+		String formatValue(final Object value) {
+			return ((LocalDateTime) value).format(getFormatter());
+		}
+	}
+
+	/**
+	 * The converter for the fields which can not be mapped. The error is only
+	 * reported when a value is really parsed or formatted.
+	 */
+	static final class InvalidConverter extends CsvConverter {
+		private final String parseError;
+		private final String formatError;
+
+		InvalidConverter(final CsvFieldAccessor accessor, final String parseError, final String formatError) {
+			super(accessor);
+			this.parseError  = parseError;
+			this.formatError = formatError;
+		}
+
+		@Override
+		void parse(final Object target, final String value) {
+			throw new IllegalArgumentException(parseError);
+		}
+
+		@Override
+		String format(final Object target) throws IllegalAccessException {
+			if (accessor.get(target) == null) {
+				return null;
+			}
+			throw new IllegalArgumentException(formatError);
+		}
+	}
+}
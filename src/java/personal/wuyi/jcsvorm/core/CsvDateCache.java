@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+/**
+ * The small cache of the recently parsed date or date time values of one
+ * column.
+ *
+ * <p>The same business dates are usually repeated in many rows, so the
+ * parsed value of a text is kept in a direct-mapped table and a later text
+ * with the same characters skips parsing. A text can be any
+ * {@code CharSequence}, it is compared with the cached text without
+ * creating a {@code String}.
+ *
+ * <p>The entries are immutable and the table is shared by all the threads
+ * without locking: a thread may miss an entry written by another thread,
+ * which only means the text is parsed again.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvDateCache {
+	private static final int SIZE = 256;
+
+	private final Entry[] entries = new Entry[SIZE];
+
+	/**
+	 * Get the cached value of a text.
+	 *
+	 * @param  text
+	 *         The text in a cell.
+	 *
+	 * @param  scope
+	 *         The object the value depends on besides the text (like the
+	 *         time zone rules), or {@code null}.
+	 *
+	 * @return  The cached value or {@code null} if it is not cached.
+	 *
+	 * @since   1.2
+	 */
+	Object get(final CharSequence text, final Object scope) {
+		final Entry entry = entries[indexOf(text)];
+		if (entry != null && entry.text.contentEquals(text) && (scope == null ? entry.scope == null : scope.equals(entry.scope))) {
+			return entry.value;
+		}
+		return null;
+	}
+
+	/**
+	 * Put the value of a text into the cache.
+	 *
+	 * @param  text
+	 *         The text in a cell.
+	 *
+	 * @param  scope
+	 *         The object the value depends on besides the text, or
+	 *         {@code null}.
+	 *
+	 * @param  value
+	 *         The parsed value, it needs to be immutable.
+	 *
+	 * @since   1.2
+	 */
+	void put(final CharSequence text, final Object scope, final Object value) {
+		entries[indexOf(text)] = new Entry(text.toString(), scope, value);
+	}
+
+	private static int indexOf(final CharSequence text) {
+		int hash;
+		if (text instanceof String) {
+			hash = text.hashCode();
+		} else {
+			hash = 0;
+			for (int i = 0; i < text.length(); i++) {
+				hash = 31 * hash + text.charAt(i);
+			}
+		}
+		return (hash ^ (hash >>> 16)) & (SIZE - 1);
+	}
+
+	private static final class Entry {
+		private final String text;
+		private final Object scope;
+		private final Object value;
+
+		private Entry(final String text, final Object scope, final Object value) {
+			this.text  = text;
+			this.scope = scope;
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.text.ParseException;
+
+/**
+ * The parser and formatter for the values of a date or date time column.
+ *
+ * <p>It is used by the generated mappers, so the dates are converted by the
+ * same logic as the reflective mapper, including the fast path for the
+ * fixed-width patterns and the cache of the recent values. It is
+ * thread-safe.
+ *
+ * <p>This class is an internal SPI for the mappers generated by jcsvorm. It
+ * is not a part of the public API and may change without notice.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public final class CsvDateFormat {
+	private final CsvConverter.DateConverter converter;
+
+	private CsvDateFormat(final CsvConverter.DateConverter converter) {
+		this.converter = converter;
+	}
+
+	/**
+	 * Create the format for a date or date time type.
+	 *
+	 * @param  type
+	 *         The type of the field, it needs to be one of
+	 *         {@code java.util.Date}, {@code java.sql.Date},
+	 *         {@code Timestamp}, {@code Calendar}, {@code LocalDate} and
+	 *         {@code LocalDateTime}.
+	 *
+	 * @param  pattern
+	 *         The format parameter in the {@code CsvColumn} annotation.
+	 *
+	 * @return  The new format.
+	 *
+	 * @throws  IllegalArgumentException
+	 *          If the type is not a date or date time type, or the pattern
+	 *          is empty.
+	 *
+	 * @since   1.2
+	 */
+	public static CsvDateFormat of(final Class<?> type, final String pattern) {
+		if (!CsvConverter.isDateType(type)) {
+			throw new IllegalArgumentException("The type " + type.getName() + " is not a date or date time type.");
+		}
+		if (pattern == null || pattern.isEmpty()) {
+			throw new IllegalArgumentException("The format for parsing date or date time can not be empty.");
+		}
+		return new CsvDateFormat(CsvConverter.ofDateType(type, null, pattern));
+	}
+
+	/**
+	 * Parse the text of a date or date time.
+	 *
+	 * @param  text
+	 *         The text in a cell, it can not be {@code null}.
+	 *
+	 * @return  The value in the type of this format.
+	 *
+	 * @throws  ParseException
+	 *          If the text can not be parsed by the pattern.
+	 *
+	 * @since   1.2
+	 */
+	public Object parse(final CharSequence text) throws ParseException {
+		return converter.parseDate(text);
+	}
+
+	/**
+	 * Format a date or date time.
+	 *
+	 * @param  value
+	 *         The value in the type of this format.
+	 *
+	 * @return  The text or {@code null} if the value is {@code null}.
+	 *
+	 * @since   1.2
+	 */
+	public String format(final Object value) {
+		return converter.formatDate(value);
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+/**
+ * The compiled form of a fixed-width date or date time pattern, like
+ * {@code yyyy-MM-dd}, {@code yyyyMMdd} or {@code yyyy-MM-dd HH:mm:ss}.
+ *
+ * <p>The supported patterns only contain the fields {@code yyyy}, {@code MM},
+ * {@code dd}, {@code HH}, {@code mm} and {@code ss} (each at most once, and
+ * the date fields are required) separated by the literal characters which
+ * are not letters. A value is parsed or formatted by reading or writing the
+ * digits at the fixed positions without creating any object.
+ *
+ * <p>This class only handles the common case: a value is parsed only when it
+ * has exactly the length of the pattern and all the fields are in their
+ * valid ranges. Otherwise {@code NOT_A_DATE} is returned and the caller
+ * needs to use the formatter in JDK, so the results for the unusual values
+ * (and the error messages) are the same as before.
+ *
+ * <p>The date and time are represented by the local epoch second, which is
+ * the number of seconds from 1970-01-01T00:00:00 without a time zone.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvDatePattern {
+	static final long NOT_A_DATE = Long.MIN_VALUE;
+
+	private static final long SECONDS_PER_DAY = 86400L;        // long for the Java 8 overloads of Math.floorDiv and floorMod
+	private static final int  MIN_YEAR        = 1;
+	private static final int  MAX_YEAR        = 9999;
+	private static final char NO_LITERAL      = 0;
+
+	private final int    length;
+	private final char[] literals;                            // the literal at each position or NO_LITERAL for a digit
+	private final int    yearPos;
+	private final int    monthPos;
+	private final int    dayPos;
+	private final int    hourPos;
+	private final int    minutePos;
+	private final int    secondPos;
+
+	private CsvDatePattern(final char[] literals, final int[] positions) {
+		this.length    = literals.length;
+		this.literals  = literals;
+		this.yearPos   = positions[0];
+		this.monthPos  = positions[1];
+		this.dayPos    = positions[2];
+		this.hourPos   = positions[3];
+		this.minutePos = positions[4];
+		this.secondPos = positions[5];
+	}
+
+	/**
+	 * Compile a pattern if it has a supported shape.
+	 *
+	 * @param  pattern
+	 *         The pattern in the {@code format} parameter of the
+	 *         {@code CsvColumn} annotation.
+	 *
+	 * @return  The compiled pattern or {@code null} if the pattern is not
+	 *          supported.
+	 *
+	 * @since   1.2
+	 */
+	static CsvDatePattern compile(final String pattern) {
+		final String fields    = "yMdHms";
+		final int[]  widths    = { 4, 2, 2, 2, 2, 2 };
+		final int[]  positions = { -1, -1, -1, -1, -1, -1 };
+		final char[] literals  = new char[pattern.length()];
+
+		for (int i = 0; i < pattern.length(); ) {
+			final char c = pattern.charAt(i);
+			if (!Character.isLetter(c)) {
+				if (c == '\'' || c == '[' || c == ']' || c == '{' || c == '}' || c == '#' || c == NO_LITERAL) {
+					return null;
+				}
+				literals[i++] = c;
+				continue;
+			}
+
+			int end = i;
+			while (end < pattern.length() && pattern.charAt(end) == c) {
+				end++;
+			}
+
+			final int field = fields.indexOf(c);
+			if (field < 0 || positions[field] >= 0 || end - i != widths[field]) {
+				return null;
+			}
+			positions[field] = i;
+			i = end;
+		}
+
+		if (positions[0] < 0 || positions[1] < 0 || positions[2] < 0) {
+			return null;
+		}
+		return new CsvDatePattern(literals, positions);
+	}
+
+	/**
+	 * Check the pattern has any time field.
+	 *
+	 * @return  {@code true} if the pattern has hour, minute or second;
+	 *          {@code false} otherwise.
+	 *
+	 * @since   1.2
+	 */
+	boolean hasTimeField() {
+		return hourPos >= 0 || minutePos >= 0 || secondPos >= 0;
+	}
+
+	/**
+	 * Check the pattern has both hour and minute, which are needed to get a
+	 * {@code LocalDateTime}.
+	 *
+	 * @return  {@code true} if the pattern has hour and minute;
+	 *          {@code false} otherwise.
+	 *
+	 * @since   1.2
+	 */
+	boolean hasTime() {
+		return hourPos >= 0 && minutePos >= 0;
+	}
+
+	/**
+	 * Parse a value.
+	 *
+	 * @param  text
+	 *         The value needs to be parsed.
+	 *
+	 * @return  The local epoch second or {@code NOT_A_DATE} if the value
+	 *          needs to be parsed by the formatter in JDK.
+	 *
+	 * @since   1.2
+	 */
+	long parse(final CharSequence text) {
+		if (text.length() != length) {
+			return NOT_A_DATE;
+		}
+		for (int i = 0; i < length; i++) {
+			final char c = text.charAt(i);
+			if (literals[i] == NO_LITERAL ? c < '0' || c > '9' : c != literals[i]) {
+				return NOT_A_DATE;
+			}
+		}
+
+		final int year   = digits(text, yearPos, 4);
+		final int month  = digits(text, monthPos, 2);
+		final int day    = digits(text, dayPos, 2);
+		final int hour   = hourPos   < 0 ? 0 : digits(text, hourPos, 2);
+		final int minute = minutePos < 0 ? 0 : digits(text, minutePos, 2);
+		final int second = secondPos < 0 ? 0 : digits(text, secondPos, 2);
+		if (year < MIN_YEAR || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+				|| hour > 23 || minute > 59 || second > 59) {
+			return NOT_A_DATE;
+		}
+
+		return toEpochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+	}
+
+	/**
+	 * Format a local epoch second.
+	 *
+	 * @param  localEpochSecond
+	 *         The local epoch second.
+	 *
+	 * @return  The formatted value or {@code null} if the year can not be
+	 *          written in 4 digits.
+	 *
+	 * @since   1.2
+	 */
+	String format(final long localEpochSecond) {
+		final long epochDay      = Math.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+		final int  secondOfDay   = (int) Math.floorMod(localEpochSecond, SECONDS_PER_DAY);
+
+		// the civil date from the epoch day (by Howard Hinnant)
+		final long z     = epochDay + 719468;
+		final long era   = Math.floorDiv(z, 146097L);
+		final long doe   = z - era * 146097;
+		final long yoe   = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+		final long doy   = doe - (365 * yoe + yoe / 4 - yoe / 100);
+		final long mp    = (5 * doy + 2) / 153;
+		final int  day   = (int) (doy - (153 * mp + 2) / 5 + 1);
+		final int  month = (int) (mp < 10 ? mp + 3 : mp - 9);
+		final long year  = yoe + era * 400 + (month <= 2 ? 1 : 0);
+		if (year < MIN_YEAR || year > MAX_YEAR) {
+			return null;
+		}
+
+		final char[] chars = literals.clone();
+		putDigits(chars, yearPos,   4, (int) year);
+		putDigits(chars, monthPos,  2, month);
+		putDigits(chars, dayPos,    2, day);
+		putDigits(chars, hourPos,   2, secondOfDay / 3600);
+		putDigits(chars, minutePos, 2, secondOfDay / 60 % 60);
+		putDigits(chars, secondPos, 2, secondOfDay % 60);
+		return new String(chars);
+	}
+
+	/**
+	 * Get the epoch day of a date in the proleptic Gregorian calendar.
+	 *
+	 * @param  year
+	 *         The year.
+	 *
+	 * @param  month
+	 *         The month from 1 to 12.
+	 *
+	 * @param  day
+	 *         The day of month.
+	 *
+	 * @return  The number of days from 1970-01-01.
+	 *
+	 * @since   1.2
+	 */
+	static long toEpochDay(final int year, final int month, final int day) {
+		final int  y   = month <= 2 ? year - 1 : year;
+		final long era = Math.floorDiv(y, 400L);
+		final long yoe = y - era * 400;
+		final long doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		final long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+		return era * 146097 + doe - 719468;
+	}
+
+	private static int lengthOfMonth(final int year, final int month) {
+		switch (month) {
+			case 2:
+				return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+			case 4: case 6: case 9: case 11:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+
+	private static int digits(final CharSequence text, final int pos, final int width) {
+		int value = 0;
+		for (int i = pos; i < pos + width; i++) {
+			value = value * 10 + (text.charAt(i) - '0');
+		}
+		return value;
+	}
+
+	private static void putDigits(final char[] chars, final int pos, final int width, int value) {
+		if (pos < 0) {
+			return;
+		}
+		for (int i = pos + width - 1; i >= pos; i--) {
+			chars[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import com.google.common.base.Strings;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.api.CsvMapper;
+
+/**
+ * The writer formats the objects in a certain type into a CSV file row by 
+ * row.
+ *
+ * <p>Each object is formatted by the mapper of the class and printed as one 
+ * record right away, no data of the previous objects is kept. So a writer 
+ * can be kept open by a long-lived producer and the objects can be written 
+ * whenever they are available. A writer is opened by 
+ * {@code CsvFactory.openWriter} and it needs to be closed after use.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public final class CsvEntityWriter<T> implements Closeable, Flushable {
+	private final CSVPrinter   printer;
+	private final CsvMapper<T> mapper;
+	private final int[]        slots;
+	private final String[]     cells;
+	private final String[]     row;
+	private int                bloomFilterColumn;
+	private CsvBloomFilter     bloomFilter;
+
+	/**
+	 * Construct a new {@code CsvEntityWriter}.
+	 *
+	 * @param  mapping
+	 *         The compiled mapping model of the class.
+	 *
+	 * @param  sortedColumnList
+	 *         The sorted {@code CsvColumnMapping} list, it decides the order 
+	 *         of columns.
+	 *
+	 * @param  writer
+	 *         The writer of the CSV file.
+	 *
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when writing the header line.
+	 *
+	 * @since   1.2
+	 */
+	CsvEntityWriter(final CsvMapping<T> mapping, final List<CsvColumnMapping> sortedColumnList, final Writer writer, final HeaderOption header) throws IOException {
+		final CsvMapperBinding<T> binding = mapping.getBinding();
+
+		this.printer = new CSVPrinter(writer, CSVFormat.DEFAULT.withRecordSeparator("\n"));
+		this.mapper  = binding.getMapper();
+		this.slots   = new int[sortedColumnList.size()];
+		this.cells   = new String[binding.size()];
+		this.row     = new String[sortedColumnList.size()];
+		for (int i = 0; i < slots.length; i++) {
+			slots[i] = binding.getSlot(sortedColumnList.get(i));
+		}
+
+		if (header == HeaderOption.WITH_HEADER) {
+			for (int i = 0; i < row.length; i++) {
+				row[i] = Strings.nullToEmpty(sortedColumnList.get(i).getName());
+			}
+			printer.printRecord((Object[]) row);
+		}
+	}
+
+	/**
+	 * Add the values of a column to a Bloom filter when they are written.
+	 *
+	 * @param  column
+	 *         The 0-based index of the column.
+	 *
+	 * @param  bloomFilter
+	 *         The Bloom filter of the column.
+	 *
+	 * @since   1.2
+	 */
+	void setBloomFilter(final int column, final CsvBloomFilter bloomFilter) {
+		this.bloomFilterColumn = column;
+		this.bloomFilter       = bloomFilter;
+	}
+
+	/**
+	 * Write one object as a record.
+	 *
+	 * @param  t
+	 *         The object needs to be written.
+	 *
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or 
+	 *          final.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when writing the CSV file.
+	 *
+	 * @since   1.2
+	 */
+	public void write(final T t) throws IllegalAccessException, IOException {
+		mapper.write(t, cells);
+		for (int i = 0; i < slots.length; i++) {
+			row[i] = cells[slots[i]];
+		}
+		printer.printRecord((Object[]) row);
+		if (bloomFilter != null) {
+			bloomFilter.add(Strings.nullToEmpty(row[bloomFilterColumn]));           // a null value is printed as an empty cell
+		}
+	}
+
+	/**
+	 * Write a group of objects, one record for each object.
+	 *
+	 * @param  tIterable
+	 *         The objects need to be written.
+	 *
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or 
+	 *          final.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when writing the CSV file.
+	 *
+	 * @since   1.2
+	 */
+	public void writeAll(final Iterable<? extends T> tIterable) throws IllegalAccessException, IOException {
+		for (T t : tIterable) {
+			write(t);
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		printer.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		printer.close();
+	}
+}
@@ -16,36 +16,35 @@
 
 package personal.wuyi.jcsvorm.core;
 
+import java.io.BufferedWriter;
+import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.sql.Timestamp;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Calendar;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.csv.CSVRecord;
-import org.apache.commons.lang3.reflect.FieldUtils;
 
 import com.google.common.base.Strings;
 
 import personal.wuyi.io.file.csv.CSVReader;
+import personal.wuyi.io.file.csv.CsvEntity;
 import personal.wuyi.io.file.csv.HeaderOption;
-import personal.wuyi.jcsvorm.annotation.CsvColumn;
-import personal.wuyi.jcsvorm.annotation.CsvEntity;
+import personal.wuyi.jcsvorm.api.CsvRow;
 import personal.wuyi.jcsvorm.api.Function;
-import personal.wuyi.reflect.ReflectUtil;
 
 /**
  * Object-Relational Mapping (ORM) with CSV data entities.
@@ -86,72 +85,1177 @@ public class CsvFactory {
 	 * @since   1.1
 	 */
 	public static <T> List<T> readCsv(final Class<T> clazz, final String csvFilePath, final HeaderOption header) throws IOException, IllegalAccessException, ParseException {
-		final List<CSVRecord> recordList = getRecord(csvFilePath, header);
-		return transformCsvRecords(recordList, clazz, header);
+		final CsvEntity csvEntity = getCsvEntity(csvFilePath, header);
+		return transformCsvRecords(csvEntity.getRecords(), clazz, header, csvEntity.getHeaderMapping());
+	}
+	
+	/**
+	 * Read a CSV file as a list of objects in a certain type, the records are 
+	 * mapped to objects in parallel.
+	 * 
+	 * <p>The file is parsed by one thread, then the records are mapped in 
+	 * batches by the tasks in the executor.
+	 * 
+	 * @param  clazz
+	 *         The type of the object you want to convert to.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @param  executor
+	 *         The executor for mapping the records.
+	 * 
+	 * @return  A list of objects in certain type, in the same order as the 
+	 *          records in the file.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 * 
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 * 
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> List<T> readCsv(final Class<T> clazz, final String csvFilePath, final HeaderOption header, final Executor executor) throws IOException, IllegalAccessException, ParseException {
+		final CsvEntity csvEntity = getCsvEntity(csvFilePath, header);
+		return transformCsvRecords(csvEntity.getRecords(), clazz, header, csvEntity.getHeaderMapping(), executor);
+	}
+	
+	/**
+	 * Read a CSV file as a list of objects in a certain type with options.
+	 * 
+	 * <p>If the options have a filter, the records which don't match the 
+	 * filter are skipped before any object is created for them. If the 
+	 * options have an offset, a limit or a sampling, the file is read record 
+	 * by record and the reading stops at the limit.
+	 * 
+	 * @param  clazz
+	 *         The type of the object you want to convert to.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @param  options
+	 *         The options for reading the CSV file.
+	 * 
+	 * @return  A list of objects in certain type.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 * 
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 * 
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> List<T> readCsv(final Class<T> clazz, final String csvFilePath, final HeaderOption header, final CsvReadOptions options) throws IOException, IllegalAccessException, ParseException {
+		final boolean mapped = options.getEngine() == CsvReadOptions.Engine.MAPPED && CsvParallelReader.isSupported(Charset.defaultCharset());
+		final boolean whole  = options.getOffset() == 0 && options.getLimit() == Long.MAX_VALUE && options.getSamplingRate() == 1.0;
+		if (!mapped && whole) {
+			final CsvEntity csvEntity = getCsvEntity(csvFilePath, header);
+			return transformCsvRecords(csvEntity.getRecords(), clazz, header, csvEntity.getHeaderMapping(), null, options.getFilter());
+		}
+		
+		checkClassHasCsvEntityAnnotation(clazz);
+		
+		verifyParametersInCsvColumnAnnotation(clazz, header);
+		
+		try (CsvRowReader reader = openRowReader(csvFilePath, header, options.withLimit(Long.MAX_VALUE))) {     // the limit counts the matched records
+			return transformRows(reader, CsvMapping.of(clazz), options);
+		}
+	}
+	
+	/**
+	 * Read a CSV file as a list of objects in a certain type in parallel.
+	 * 
+	 * <p>The tasks run on the common {@code ForkJoinPool}.
+	 * 
+	 * @param  clazz
+	 *         The type of the object you want to convert to.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @return  A list of objects in certain type, in the same order as the 
+	 *          records in the file.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 * 
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 * 
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> List<T> readCsvParallel(final Class<T> clazz, final String csvFilePath, final HeaderOption header) throws IOException, IllegalAccessException, ParseException {
+		return readCsvParallel(clazz, csvFilePath, header, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Read a CSV file as a list of objects in a certain type in parallel.
+	 * 
+	 * <p>The file is split into chunks at the boundaries of records, the 
+	 * chunks are parsed and mapped by the tasks in the pool at the same time. 
+	 * The file needs to follow RFC 4180 for quoting the values. If the 
+	 * default charset is not compatible with ASCII, the file is read by 
+	 * {@code readCsv} instead.
+	 * 
+	 * @param  clazz
+	 *         The type of the object you want to convert to.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @param  pool
+	 *         The pool for running the tasks.
+	 * 
+	 * @return  A list of objects in certain type, in the same order as the 
+	 *          records in the file.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 * 
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 * 
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> List<T> readCsvParallel(final Class<T> clazz, final String csvFilePath, final HeaderOption header, final ForkJoinPool pool) throws IOException, IllegalAccessException, ParseException {
+		final Charset charset = Charset.defaultCharset();
+		if (!CsvParallelReader.isSupported(charset)) {
+			return readCsv(clazz, csvFilePath, header);
+		}
+		
+		checkClassHasCsvEntityAnnotation(clazz);
+		
+		verifyParametersInCsvColumnAnnotation(clazz, header);
+		
+		return CsvParallelReader.read(CsvMapping.of(clazz), csvFilePath, header, charset, pool, 0);
+	}
+	
+	/**
+	 * Read a CSV file as a stream of objects in a certain type.
+	 * 
+	 * <p>The records are parsed and mapped one by one when the stream is 
+	 * consumed, so the memory usage doesn't depend on the size of the file. 
+	 * The stream holds the opened file, it needs to be closed after use, like 
+	 * using the try-with-resources statement.
+	 * 
+	 * <p>The errors occurred when mapping a record are thrown as 
+	 * {@code IllegalArgumentException} while consuming the stream, the 
+	 * original {@code ParseException} or {@code IllegalAccessException} is 
+	 * the cause.
+	 * 
+	 * @param  clazz
+	 *         The type of the object you want to convert to.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @return  The stream of objects in certain type.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> Stream<T> stream(final Class<T> clazz, final String csvFilePath, final HeaderOption header) throws IOException {
+		return stream(clazz, csvFilePath, header, CsvReadOptions.DEFAULT);
+	}
+	
+	/**
+	 * Read a CSV file as a stream of objects in a certain type with options.
+	 * 
+	 * <p>The records are tokenized by the engine of the options. If the 
+	 * options have a filter, the records which don't match the filter are 
+	 * skipped before any object is created for them. The offset, the 
+	 * sampling and the limit are applied in the same way as {@code readCsv}.
+	 * 
+	 * @param  clazz
+	 *         The type of the object you want to convert to.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @param  options
+	 *         The options for reading the CSV file.
+	 * 
+	 * @return  The stream of objects in certain type.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> Stream<T> stream(final Class<T> clazz, final String csvFilePath, final HeaderOption header, final CsvReadOptions options) throws IOException {
+		checkClassHasCsvEntityAnnotation(clazz);
+		
+		verifyParametersInCsvColumnAnnotation(clazz, header);
+		
+		final CsvRecordIterator<T> iterator = new CsvRecordIterator<>(CsvMapping.of(clazz), csvFilePath, header, options);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(() -> {
+			try {
+				iterator.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+	
+	/**
+	 * Read a CSV file as a columnar table.
+	 * 
+	 * <p>The values of each field are kept in a primitive array instead of 
+	 * in the objects, see {@code CsvColumnTable} for the types of columns.
+	 * 
+	 * @param  clazz
+	 *         The class annotated by {@code CsvEntity} which describes the 
+	 *         columns.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @return  The columnar table.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 *          
+	 * @since   1.2
+	 */
+	public static CsvColumnTable readColumns(final Class<?> clazz, final String csvFilePath, final HeaderOption header) throws IOException {
+		return readColumns(clazz, csvFilePath, header, CsvReadOptions.DEFAULT);
+	}
+	
+	/**
+	 * Read a CSV file as a columnar table.
+	 * 
+	 * <p>The values of each field are kept in a primitive array instead of 
+	 * in the objects, see {@code CsvColumnTable} for the types of columns. 
+	 * The storage option decides where the columns are kept, the table 
+	 * needs to be closed after use.
+	 * 
+	 * @param  clazz
+	 *         The class annotated by {@code CsvEntity} which describes the 
+	 *         columns.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @param  options
+	 *         The options for reading the CSV file.
+	 * 
+	 * @return  The columnar table.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 *          
+	 * @since   1.2
+	 */
+	public static CsvColumnTable readColumns(final Class<?> clazz, final String csvFilePath, final HeaderOption header, final CsvReadOptions options) throws IOException {
+		checkClassHasCsvEntityAnnotation(clazz);
+		
+		verifyParametersInCsvColumnAnnotation(clazz, header);
+		
+		final CsvMapping<?>    mapping = CsvMapping.of(clazz);
+		final CsvColumnStorage storage = CsvColumnStorage.of(options);
+		try (CsvRowReader reader = openRowReader(csvFilePath, header, options.withLimit(Long.MAX_VALUE))) {     // the limit counts the matched records
+			final CsvReadPlan<?>         plan    = new CsvReadPlan<>(mapping, reader.getHeaderNames(), options.getFilter());
+			final CsvColumnTable.Builder builder = new CsvColumnTable.Builder(mapping, plan, storage);
+			reader.setProjection(plan.getColumnIndexes());
+			reader.skipBlocks(options.getFilter());
+			for (long count = 0; count < options.getLimit(); ) {
+				final CsvRow row = reader.next();
+				if (row == null) {
+					break;
+				}
+				if (plan.accept(row)) {
+					builder.add(row);
+					count++;
+				}
+			}
+			return builder.build();
+		} catch (IOException | RuntimeException e) {
+			storage.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Build the row index of a CSV file and save it next to the file.
+	 * 
+	 * <p>The index keeps the byte offset of every {@code stride}-th record, 
+	 * so {@code readAt} and {@code readRange} can seek to a record without 
+	 * parsing the records before it. A smaller stride makes the seeking 
+	 * faster and the index larger. The index is also built by 
+	 * {@code readAt} and {@code readRange} when it is missing or the CSV 
+	 * file is changed.
+	 * 
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  stride
+	 *         The offset of every {@code stride}-th record is kept, 1 for 
+	 *         every record.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path or the index 
+	 *          can not be saved.
+	 *          
+	 * @since   1.2
+	 */
+	public static void buildIndex(final String csvFilePath, final int stride) throws IOException {
+		if (stride <= 0) {
+			throw new IllegalArgumentException("The stride must be positive, but it is " + stride + " right now.");
+		}
+		
+		final Charset charset = Charset.defaultCharset();
+		if (!CsvParallelReader.isSupported(charset)) {
+			throw new IllegalArgumentException("The default charset " + charset + " is not compatible with ASCII, the CSV file can not be indexed.");
+		}
+		CsvRowIndex.create(csvFilePath, charset, stride);
+	}
+	
+	/**
+	 * Read one record of a CSV file as an object in a certain type.
+	 * 
+	 * @param  clazz
+	 *         The type of the object you want to convert to.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @param  rowNumber
+	 *         The 0-based number of the record, not counting the header.
+	 * 
+	 * @return  The object of the record.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 * 
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 * 
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *          
+	 * @throws  NoSuchElementException
+	 *          If the CSV file doesn't have that record.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> T readAt(final Class<T> clazz, final String csvFilePath, final HeaderOption header, final long rowNumber) throws IOException, IllegalAccessException, ParseException {
+		final List<T> list = readRange(clazz, csvFilePath, header, rowNumber, rowNumber + 1);
+		if (list.isEmpty()) {
+			throw new NoSuchElementException("Can not find the record " + rowNumber + " in the CSV file.");
+		}
+		return list.get(0);
+	}
+	
+	/**
+	 * Read a range of records of a CSV file as a list of objects in a 
+	 * certain type.
+	 * 
+	 * <p>The reading seeks to the first record by the row index of the file, 
+	 * which is built and saved next to the file when it is missing or out of 
+	 * date. If the default charset is not compatible with ASCII, the records 
+	 * before the range are skipped by reading them instead.
+	 * 
+	 * @param  clazz
+	 *         The type of the object you want to convert to.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @param  from
+	 *         The 0-based number of the first record, inclusive, not 
+	 *         counting the header.
+	 * 
+	 * @param  to
+	 *         The 0-based number of the last record, exclusive.
+	 * 
+	 * @return  A list of objects in certain type, it has less objects than 
+	 *          the range if the file ends before the range.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 * 
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 * 
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> List<T> readRange(final Class<T> clazz, final String csvFilePath, final HeaderOption header, final long from, final long to) throws IOException, IllegalAccessException, ParseException {
+		if (from < 0 || to < from) {
+			throw new IllegalArgumentException("The range needs to be 0 <= from <= to, but it is from " + from + " to " + to + " right now.");
+		}
+		
+		final Charset charset = Charset.defaultCharset();
+		if (!CsvParallelReader.isSupported(charset)) {
+			return readCsv(clazz, csvFilePath, header, CsvReadOptions.DEFAULT.withOffset(from).withLimit(to - from));
+		}
+		
+		checkClassHasCsvEntityAnnotation(clazz);
+		
+		verifyParametersInCsvColumnAnnotation(clazz, header);
+		
+		final CsvRowIndex   index   = CsvRowIndex.of(csvFilePath, charset);
+		final CsvMapping<T> mapping = CsvMapping.of(clazz);
+		final long          first   = header == HeaderOption.WITH_HEADER ? from + 1 : from;
+		final List<T>       list    = new ArrayList<>();
+		try (CsvMappedReader reader = new CsvMappedReader(csvFilePath, charset)) {
+			CsvReadPlan<T> plan = null;
+			if (header == HeaderOption.WITH_HEADER) {
+				final CsvMappedRow row = reader.next();
+				plan = new CsvReadPlan<>(mapping, row == null ? new String[0] : row.toArray());
+				reader.setProjection(plan.getColumnIndexes());
+			}
+			if (first >= index.getRecordCount()) {
+				return list;
+			}
+			
+			index.seek(reader, first);
+			for (long i = from; i < to; i++) {
+				final CsvMappedRow row = reader.next();
+				if (row == null) {
+					break;
+				}
+				if (plan == null) {                             // without header, the columns are named by the index
+					plan = new CsvReadPlan<>(mapping, CsvReadPlan.getIndexNames(row.size()));
+				}
+				list.add(plan.read(row));
+			}
+		}
+		return list;
+	}
+	
+	/**
+	 * Build the key index of a CSV file and save it next to the file.
+	 * 
+	 * <p>The key column is the column of the field annotated by 
+	 * {@code CsvKey}. The index is also built by {@code findByKey} when it is 
+	 * missing or the CSV file is changed.
+	 * 
+	 * @param  clazz
+	 *         The type of the object with a key field.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path or the index 
+	 *          can not be saved.
+	 *          
+	 * @since   1.2
+	 */
+	public static void buildKeyIndex(final Class<?> clazz, final String csvFilePath, final HeaderOption header) throws IOException {
+		checkClassHasCsvEntityAnnotation(clazz);
+		
+		verifyParametersInCsvColumnAnnotation(clazz, header);
+		
+		final Charset charset = Charset.defaultCharset();
+		if (!CsvParallelReader.isSupported(charset)) {
+			throw new IllegalArgumentException("The default charset " + charset + " is not compatible with ASCII, the CSV file can not be indexed.");
+		}
+		
+		final CsvMapping<?> mapping = CsvMapping.of(clazz);
+		final int keyColumn;
+		try (CsvRowReader reader = openRowReader(csvFilePath, header, CsvReadOptions.DEFAULT.withEngine(CsvReadOptions.Engine.MAPPED))) {
+			keyColumn = getKeyColumnIndex(mapping, new CsvReadPlan<>(mapping, reader.getHeaderNames()));
+		}
+		CsvKeyIndex.build(csvFilePath, charset, keyColumn, header);
+	}
+	
+	/**
+	 * Find the records with a key value in a CSV file.
+	 * 
+	 * <p>The key column is the column of the field annotated by 
+	 * {@code CsvKey}, the key value is compared with the text in the CSV 
+	 * file. The records are found by the key index of the file, which is 
+	 * built and saved next to the file when it is missing or out of date, 
+	 * so only the matched records are read. If the default charset is not 
+	 * compatible with ASCII or the index can not be saved, the whole file is 
+	 * scanned instead.
+	 * 
+	 * @param  clazz
+	 *         The type of the object with a key field.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @param  key
+	 *         The key value.
+	 * 
+	 * @return  A list of objects with the key value, in the same order as 
+	 *          the records in the file.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 * 
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 * 
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> List<T> findByKey(final Class<T> clazz, final String csvFilePath, final HeaderOption header, final String key) throws IOException, IllegalAccessException, ParseException {
+		if (key == null) {
+			throw new IllegalArgumentException("The key can not be null.");
+		}
+		
+		checkClassHasCsvEntityAnnotation(clazz);
+		
+		verifyParametersInCsvColumnAnnotation(clazz, header);
+		
+		final CsvMapping<T>  mapping = CsvMapping.of(clazz);
+		final Charset        charset = Charset.defaultCharset();
+		final boolean        mapped  = CsvParallelReader.isSupported(charset);
+		final CsvReadOptions options = mapped ? CsvReadOptions.DEFAULT.withEngine(CsvReadOptions.Engine.MAPPED) : CsvReadOptions.DEFAULT;
+		try (CsvRowReader reader = openRowReader(csvFilePath, header, options)) {
+			final CsvReadPlan<T> plan      = new CsvReadPlan<>(mapping, reader.getHeaderNames());
+			final int            keyColumn = getKeyColumnIndex(mapping, plan);
+			
+			try (CsvKeyIndex index = mapped ? CsvKeyIndex.open(csvFilePath, charset, keyColumn, header) : null) {
+				if (index != null) {
+					return readByOffsets(csvFilePath, charset, plan, keyColumn, key, index.find(key));
+				}
+			}
+			
+			reader.setProjection(plan.getColumnIndexes());
+			final List<T> list = new ArrayList<>();
+			for (CsvRow row = reader.next(); row != null; row = reader.next()) {
+				if (keyColumn < row.size() && key.contentEquals(row.getCharSequence(keyColumn))) {
+					list.add(plan.read(row));
+				}
+			}
+			return list;
+		}
+	}
+	
+	/**
+	 * Get the index of the key column in a CSV file.
+	 * 
+	 * @param  mapping
+	 *         The compiled mapping model of the class.
+	 *         
+	 * @param  plan
+	 *         The plan for reading the CSV file.
+	 *         
+	 * @return  The 0-based index of the key column.
+	 * 
+	 * @throws  NoSuchElementException
+	 *          If the key column is not in the CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	protected static int getKeyColumnIndex(final CsvMapping<?> mapping, final CsvReadPlan<?> plan) {
+		final CsvColumnMapping keyColumnMapping = mapping.getKeyColumn();
+		final int keyColumn = plan.getColumnIndex(keyColumnMapping);
+		if (keyColumn < 0) {
+			throw new NoSuchElementException("Can not find the column of the key field " + keyColumnMapping.getField().getName() + " in the CSV file.");
+		}
+		return keyColumn;
+	}
+	
+	/**
+	 * Read the records at some offsets which have a key value.
+	 * 
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  charset
+	 *         The charset of the CSV file.
+	 * 
+	 * @param  plan
+	 *         The plan for reading the CSV file.
+	 *         
+	 * @param  keyColumn
+	 *         The 0-based index of the key column.
+	 *         
+	 * @param  key
+	 *         The key value.
+	 *         
+	 * @param  offsets
+	 *         The byte offsets of the records which may have the key value.
+	 *         
+	 * @return  A list of objects with the key value.
+	 * 
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the CSV file.
+	 *          
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 *          
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	protected static <T> List<T> readByOffsets(final String csvFilePath, final Charset charset, final CsvReadPlan<T> plan, final int keyColumn, final String key, final long[] offsets) throws IOException, IllegalAccessException, ParseException {
+		final List<T> list = new ArrayList<>();
+		if (offsets.length == 0) {
+			return list;
+		}
+		
+		try (CsvMappedReader reader = new CsvMappedReader(csvFilePath, charset)) {
+			reader.setProjection(plan.getColumnIndexes());
+			for (long offset : offsets) {
+				reader.seek(offset, 0);
+				final CsvMappedRow row = reader.next();
+				if (row != null && keyColumn < row.size() && key.contentEquals(row.getCharSequence(keyColumn))) {     // the hashes can collide
+					list.add(plan.read(row));
+				}
+			}
+		}
+		return list;
+	}
+	
+	/**
+	 * Build the zone map of a CSV file and save it next to the file.
+	 * 
+	 * <p>The zone map keeps the statistics of each column in every 65536 
+	 * records: the minimum, the maximum and the number of empty cells. When 
+	 * the file is read by the {@code MAPPED} engine with a range filter 
+	 * created by {@code CsvFilter.whereBetween}, the blocks which can not 
+	 * match the filter are skipped without being read. The zone map is 
+	 * ignored after the CSV file is changed, it needs to be built again.
+	 * 
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path or the zone map 
+	 *          can not be saved.
+	 *          
+	 * @since   1.2
+	 */
+	public static void buildZoneMap(final String csvFilePath, final HeaderOption header) throws IOException {
+		buildZoneMap(csvFilePath, header, CsvZoneMap.DEFAULT_BLOCK_SIZE);
+	}
+	
+	/**
+	 * Build the zone map of a CSV file and save it next to the file.
+	 * 
+	 * <p>A smaller block skips the rows more precisely and makes the zone 
+	 * map larger.
+	 * 
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @param  blockSize
+	 *         The number of records in a block.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path or the zone map 
+	 *          can not be saved.
+	 *          
+	 * @since   1.2
+	 */
+	public static void buildZoneMap(final String csvFilePath, final HeaderOption header, final int blockSize) throws IOException {
+		final Charset charset = Charset.defaultCharset();
+		if (!CsvParallelReader.isSupported(charset)) {
+			throw new IllegalArgumentException("The default charset " + charset + " is not compatible with ASCII, the CSV file can not be indexed.");
+		}
+		CsvZoneMap.create(csvFilePath, charset, header, blockSize);
+	}
+	
+	/**
+	 * Build the Bloom filter of a column in a CSV file and save it next to 
+	 * the file.
+	 * 
+	 * <p>The filter reports 1% of the values not in the column as possible 
+	 * matches.
+	 * 
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @param  columnName
+	 *         The name of the column, or its index like "0" for a file 
+	 *         without header.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path or the filter 
+	 *          can not be saved.
+	 *          
+	 * @since   1.2
+	 */
+	public static void buildBloomFilter(final String csvFilePath, final HeaderOption header, final String columnName) throws IOException {
+		buildBloomFilter(csvFilePath, header, columnName, CsvBloomFilter.DEFAULT_FALSE_POSITIVE_RATE);
+	}
+	
+	/**
+	 * Build the Bloom filter of a column in a CSV file and save it next to 
+	 * the file.
+	 * 
+	 * <p>A lower false positive rate makes the filter larger, about 10 bits 
+	 * for each record at 1%.
+	 * 
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @param  columnName
+	 *         The name of the column, or its index like "0" for a file 
+	 *         without header.
+	 * 
+	 * @param  falsePositiveRate
+	 *         The rate of the values not in the column but reported as 
+	 *         possible matches, between 0 and 1.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path or the filter 
+	 *          can not be saved.
+	 *          
+	 * @since   1.2
+	 */
+	public static void buildBloomFilter(final String csvFilePath, final HeaderOption header, final String columnName, final double falsePositiveRate) throws IOException {
+		final Charset charset = Charset.defaultCharset();
+		if (!CsvParallelReader.isSupported(charset)) {
+			throw new IllegalArgumentException("The default charset " + charset + " is not compatible with ASCII, the CSV file can not be indexed.");
+		}
+		
+		final int column;
+		try (CsvRowReader reader = openRowReader(csvFilePath, header, CsvReadOptions.DEFAULT.withEngine(CsvReadOptions.Engine.MAPPED))) {
+			column = reader.getColumnIndex(columnName);
+		}
+		CsvBloomFilter.build(csvFilePath, charset, header, columnName, column, falsePositiveRate);
+	}
+	
+	/**
+	 * Check whether a column in a CSV file may have a value, by the Bloom 
+	 * filter of the column.
+	 * 
+	 * <p>The CSV file is not opened. The value is compared with the text in 
+	 * the CSV file, {@code false} means the column doesn't have the value, 
+	 * while {@code true} means it may have. If the filter is missing or the 
+	 * CSV file is changed after the filter is built, {@code true} is 
+	 * returned, the filter needs to be built again by 
+	 * {@code buildBloomFilter}.
+	 * 
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  columnName
+	 *         The name of the column, or its index like "0" for a file 
+	 *         without header.
+	 * 
+	 * @param  value
+	 *         The value.
+	 * 
+	 * @return  {@code false} if the column doesn't have the value.
+	 * 
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the filter.
+	 *          
+	 * @since   1.2
+	 */
+	public static boolean mightContain(final String csvFilePath, final String columnName, final String value) throws IOException {
+		if (value == null) {
+			throw new IllegalArgumentException("The value can not be null.");
+		}
+		
+		final CsvBloomFilter filter = CsvBloomFilter.of(csvFilePath, columnName);
+		return filter == null || filter.mightContain(value);
+	}
+	
+	/**
+	 * Write a CSV file from a list of objects in a certain type.
+	 * 
+	 * <p>The order of columns is based on the {@code pos} parameter of the 
+	 * {@code CsvColumn} on each field.
+	 * 
+	 * @param  tList
+	 *         A list of objects needs to be exported, element is by row.
+	 * 
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify CSV file has the first line as header or 
+	 *         not.
+	 * 
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 * 
+	 * @throws  IOException
+	 *          If there is an error occurred when writing a CSV file.
+	 *          
+	 * @since   1.1
+	 */
+	public static <T> void writeCsv(final List<T> tList, final String csvFilePath, final HeaderOption header) throws IllegalAccessException, IOException {
+		final CsvMapping<T> mapping = getMapping(tList);
+		writeCsvFile(csvFilePath, tList, mapping, mapping.getPosSortedColumnList(), header);
 	}
 	
 	/**
 	 * Write a CSV file from a list of objects in a certain type.
 	 * 
+	 * @param  tList
+	 *         A list of objects needs to be exported, element is by row.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  columnList
+	 *         The list of column names.
+	 * 
+	 * @param  header
+	 *         The option to specify CSV file has the first line as header or 
+	 *         not.
+	 *         
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 * 
+	 * @throws  IOException
+	 *          If there is an error occurred when writing a CSV file.
+	 *          
+	 * @since   1.1  
+	 */
+	public static <T> void writeCsv(final List<T> tList, final String csvFilePath, final List<String> columnList, final HeaderOption header) throws IllegalAccessException, IOException {
+		final CsvMapping<T> mapping = getMapping(tList);
+		writeCsvFile(csvFilePath, tList, mapping, sortFieldListByColumnList(mapping, columnList), header);
+	}
+	
+	/**
+	 * Write a CSV file from a list of objects in a certain type, and save 
+	 * the Bloom filter of a column next to the file.
+	 * 
+	 * <p>The order of columns is based on the {@code pos} parameter of the 
+	 * {@code CsvColumn} on each field. The values of the column are added to 
+	 * the filter when they are written, so the file is not read again. See 
+	 * {@code mightContain} for the filter.
+	 * 
+	 * @param  tList
+	 *         A list of objects needs to be exported, element is by row.
+	 * 
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify CSV file has the first line as header or 
+	 *         not.
+	 * 
+	 * @param  bloomFilterColumn
+	 *         The column name in the {@code CsvColumn} of the field which 
+	 *         the filter is built for. Without header, the filter is saved 
+	 *         for the index of the column like "0".
+	 * 
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 * 
+	 * @throws  IOException
+	 *          If there is an error occurred when writing a CSV file or the 
+	 *          filter.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> void writeCsv(final List<T> tList, final String csvFilePath, final HeaderOption header, final String bloomFilterColumn) throws IllegalAccessException, IOException {
+		final CsvMapping<T>          mapping          = getMapping(tList);
+		final List<CsvColumnMapping> sortedColumnList = mapping.getPosSortedColumnList();
+		final int                    column           = sortedColumnList.indexOf(getFieldFromFieldListByParameter(mapping, bloomFilterColumn));
+		
+		final CsvBloomFilter filter = new CsvBloomFilter(tList.size(), CsvBloomFilter.DEFAULT_FALSE_POSITIVE_RATE);
+		try (CsvEntityWriter<T> writer = openWriter(csvFilePath, mapping, sortedColumnList, header, false)) {
+			writer.setBloomFilter(column, filter);
+			writer.writeAll(tList);
+		}
+		
+		final String columnName = header == HeaderOption.WITH_HEADER ? bloomFilterColumn : String.valueOf(column);
+		filter.save(CsvBloomFilter.getFilterFilePath(csvFilePath, columnName), CsvFileFingerprint.of(csvFilePath));
+	}
+	
+	/**
+	 * Open a writer for writing objects in a certain type into a CSV file 
+	 * incrementally.
+	 * 
+	 * <p>The order of columns is based on the {@code pos} parameter of the 
+	 * {@code CsvColumn} on each field. The existing file will be overwritten.
+	 * 
+	 * @param  clazz
+	 *         The type of the objects need to be written.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify CSV file has the first line as header or 
+	 *         not.
+	 *         
+	 * @return  The writer, it needs to be closed after use.
+	 * 
+	 * @throws  IOException
+	 *          If there is an error occurred when opening the CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> CsvEntityWriter<T> openWriter(final Class<T> clazz, final String csvFilePath, final HeaderOption header) throws IOException {
+		return openWriter(clazz, csvFilePath, header, false);
+	}
+	
+	/**
+	 * Open a writer for writing objects in a certain type into a CSV file 
+	 * incrementally.
+	 * 
 	 * <p>The order of columns is based on the {@code pos} parameter of the 
 	 * {@code CsvColumn} on each field.
 	 * 
-	 * @param  tList
-	 *         A list of objects needs to be exported, element is by row.
+	 * @param  clazz
+	 *         The type of the objects need to be written.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify CSV file has the first line as header or 
+	 *         not.
+	 *         
+	 * @param  append
+	 *         {@code true} to append the records to the end of the existing 
+	 *         file, the header line is only written when the file is empty; 
+	 *         {@code false} to overwrite the existing file.
+	 *         
+	 * @return  The writer, it needs to be closed after use.
+	 * 
+	 * @throws  IOException
+	 *          If there is an error occurred when opening the CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> CsvEntityWriter<T> openWriter(final Class<T> clazz, final String csvFilePath, final HeaderOption header, final boolean append) throws IOException {
+		checkClassHasCsvEntityAnnotation(clazz);
+		
+		final CsvMapping<T> mapping = CsvMapping.of(clazz);
+		return openWriter(csvFilePath, mapping, mapping.getPosSortedColumnList(), header, append);
+	}
+	
+	/**
+	 * Open a writer for writing objects in a certain type into a CSV file 
+	 * incrementally.
+	 * 
+	 * <p>The existing file will be overwritten.
+	 * 
+	 * @param  clazz
+	 *         The type of the objects need to be written.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  columnList
+	 *         The list of column names.
+	 * 
+	 * @param  header
+	 *         The option to specify CSV file has the first line as header or 
+	 *         not.
+	 *         
+	 * @return  The writer, it needs to be closed after use.
+	 * 
+	 * @throws  IOException
+	 *          If there is an error occurred when opening the CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> CsvEntityWriter<T> openWriter(final Class<T> clazz, final String csvFilePath, final List<String> columnList, final HeaderOption header) throws IOException {
+		return openWriter(clazz, csvFilePath, columnList, header, false);
+	}
+	
+	/**
+	 * Open a writer for writing objects in a certain type into a CSV file 
+	 * incrementally.
+	 * 
+	 * @param  clazz
+	 *         The type of the objects need to be written.
+	 *         
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  columnList
+	 *         The list of column names.
+	 * 
+	 * @param  header
+	 *         The option to specify CSV file has the first line as header or 
+	 *         not.
+	 *         
+	 * @param  append
+	 *         {@code true} to append the records to the end of the existing 
+	 *         file, the header line is only written when the file is empty; 
+	 *         {@code false} to overwrite the existing file.
+	 *         
+	 * @return  The writer, it needs to be closed after use.
+	 * 
+	 * @throws  IOException
+	 *          If there is an error occurred when opening the CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> CsvEntityWriter<T> openWriter(final Class<T> clazz, final String csvFilePath, final List<String> columnList, final HeaderOption header, final boolean append) throws IOException {
+		checkClassHasCsvEntityAnnotation(clazz);
+		
+		final CsvMapping<T> mapping = CsvMapping.of(clazz);
+		return openWriter(csvFilePath, mapping, sortFieldListByColumnList(mapping, columnList), header, append);
+	}
+	
+	/**
+	 * Open a CSV file for reading the rows without mapping them to objects.
+	 * 
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 * 
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @return  The reader, it needs to be closed after use.
+	 * 
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 *          
+	 * @since   1.2
+	 */
+	public static CsvRowReader openRowReader(final String csvFilePath, final HeaderOption header) throws IOException {
+		return openRowReader(csvFilePath, header, CsvReadOptions.DEFAULT);
+	}
+	
+	/**
+	 * Open a CSV file for reading the rows without mapping them to objects.
+	 * 
+	 * <p>With the {@code MAPPED} engine, the rows are the flyweights over 
+	 * the mapped bytes and reading the values by the typed getters of 
+	 * {@code CsvRow} doesn't create any object.
 	 * 
 	 * @param  csvFilePath
 	 *         The path of the CSV file.
 	 * 
 	 * @param  header
-	 *         The option to specify CSV file has the first line as header or 
-	 *         not.
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
 	 * 
-	 * @throws  IllegalAccessException
-	 *          If a field in a Java class is enforcing Java language access 
-	 *          control and the underlying field is either inaccessible or final.
+	 * @param  options
+	 *         The options for reading the CSV file.
+	 * 
+	 * @return  The reader, it needs to be closed after use.
 	 * 
 	 * @throws  IOException
-	 *          If there is an error occurred when writing a CSV file.
+	 *          If the CSV file is not existing for given path.
 	 *          
-	 * @since   1.1
+	 * @since   1.2
 	 */
-	public static <T> void writeCsv(final List<T> tList, final String csvFilePath, final HeaderOption header) throws IllegalAccessException, IOException {
-		final Map<Integer, List<String>> map = transformObjects(tList, header);
-		writeCsvFile(csvFilePath, map);
+	public static CsvRowReader openRowReader(final String csvFilePath, final HeaderOption header, final CsvReadOptions options) throws IOException {
+		return new CsvRowReader(csvFilePath, header, options);
 	}
 	
 	/**
-	 * Write a CSV file from a list of objects in a certain type.
+	 * Read CSV file as a list of CSVRecord.
 	 * 
-	 * @param  tList
-	 *         A list of objects needs to be exported, element is by row.
-	 *         
 	 * @param  csvFilePath
 	 *         The path of the CSV file.
-	 * 
-	 * @param  columnList
-	 *         The list of column names.
-	 * 
+	 *         
 	 * @param  header
-	 *         The option to specify CSV file has the first line as header or 
-	 *         not.
+	 *         The option to specify CSV file has the first line as header or not.
 	 *         
-	 * @throws  IllegalAccessException
-	 *          If a field in a Java class is enforcing Java language access 
-	 *          control and the underlying field is either inaccessible or final.
+	 * @return  A list of CSVRecord.
 	 * 
 	 * @throws  IOException
-	 *          If there is an error occurred when writing a CSV file.
+	 *          If the CSV file is not existing for given path.
 	 *          
-	 * @since   1.1  
+	 * @since   1.1
 	 */
-	public static <T> void writeCsv(final List<T> tList, final String csvFilePath, final List<String> columnList, final HeaderOption header) throws IllegalAccessException, IOException {
-		final Map<Integer, List<String>> map = transformObjects(tList, columnList, header);
-		writeCsvFile(csvFilePath, map);
+	protected static List<CSVRecord> getRecord(final String csvFilePath, final HeaderOption header) throws IOException {
+		return getCsvEntity(csvFilePath, header).getRecords();
 	}
 	
 	/**
-	 * Read CSV file as a list of CSVRecord.
+	 * Read CSV file as the list of CSVRecord together with the column names 
+	 * in the header.
 	 * 
 	 * @param  csvFilePath
 	 *         The path of the CSV file.
@@ -159,16 +1263,16 @@ public class CsvFactory {
 	 * @param  header
 	 *         The option to specify CSV file has the first line as header or not.
 	 *         
-	 * @return  A list of CSVRecord.
+	 * @return  The records and the header of the CSV file.
 	 * 
 	 * @throws  IOException
 	 *          If the CSV file is not existing for given path.
 	 *          
-	 * @since   1.1
+	 * @since   1.2
 	 */
-	protected static List<CSVRecord> getRecord(final String csvFilePath, final HeaderOption header) throws IOException {
+	protected static CsvEntity getCsvEntity(final String csvFilePath, final HeaderOption header) throws IOException {
 		final CSVReader reader = new CSVReader(csvFilePath, CSVFormat.DEFAULT, header);
-		return reader.getCsvEntity().getRecords();
+		return reader.getCsvEntity();
 	}
 	
 	/**
@@ -184,6 +1288,10 @@ public class CsvFactory {
 	 *         The option to specify CSV file has the first line as header or 
 	 *         not.
 	 *         
+	 * @param  headerNames
+	 *         The names of the columns in the header, the index of a name is 
+	 *         the index of the column.
+	 *         
 	 * @return  A list of objects in certain type.
 	 *          
 	 * @throws  IllegalAccessException
@@ -193,39 +1301,157 @@ public class CsvFactory {
 	 * @throws  ParseException
 	 *          If there is an error occurred when parsing a value in CSV file.
 	 *          
-	 * @since   1.1
+	 * @since   1.2
+	 */
+	protected static <T> List<T> transformCsvRecords(final List<CSVRecord> list, final Class<T> clazz, final HeaderOption header, final String[] headerNames) throws IllegalAccessException, ParseException {
+		return transformCsvRecords(list, clazz, header, headerNames, null);
+	}
+	
+	/**
+	 * Transform a list of CSVRecord to a list of objects in a certain type.
+	 * 
+	 * @param  list
+	 *         A list of CSVRecord.
+	 *         
+	 * @param  clazz
+	 *         The type of the object you want to convert to.
+	 *         
+	 * @param  header
+	 *         The option to specify CSV file has the first line as header or 
+	 *         not.
+	 *         
+	 * @param  headerNames
+	 *         The names of the columns in the header, the index of a name is 
+	 *         the index of the column.
+	 *         
+	 * @param  executor
+	 *         The executor for mapping the records in parallel, or 
+	 *         {@code null} to map the records in the current thread.
+	 *         
+	 * @return  A list of objects in certain type.
+	 *          
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 *          
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	protected static <T> List<T> transformCsvRecords(final List<CSVRecord> list, final Class<T> clazz, final HeaderOption header, final String[] headerNames, final Executor executor) throws IllegalAccessException, ParseException {
+		return transformCsvRecords(list, clazz, header, headerNames, executor, null);
+	}
+	
+	/**
+	 * Transform a list of CSVRecord to a list of objects in a certain type, 
+	 * the records which don't match the filter are skipped.
+	 * 
+	 * @param  list
+	 *         A list of CSVRecord.
+	 *         
+	 * @param  clazz
+	 *         The type of the object you want to convert to.
+	 *         
+	 * @param  header
+	 *         The option to specify CSV file has the first line as header or 
+	 *         not.
+	 *         
+	 * @param  headerNames
+	 *         The names of the columns in the header, the index of a name is 
+	 *         the index of the column.
+	 *         
+	 * @param  executor
+	 *         The executor for mapping the records in parallel, or 
+	 *         {@code null} to map the records in the current thread.
+	 *         
+	 * @param  filter
+	 *         The filter on the records, or {@code null} to transform all the 
+	 *         records.
+	 *         
+	 * @return  A list of objects in certain type.
+	 *          
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 *          
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *          
+	 * @since   1.2
 	 */
-	protected static <T> List<T> transformCsvRecords(final List<CSVRecord> list, final Class<T> clazz, final HeaderOption header) throws IllegalAccessException, ParseException {
+	protected static <T> List<T> transformCsvRecords(final List<CSVRecord> list, final Class<T> clazz, final HeaderOption header, final String[] headerNames, final Executor executor, final CsvFilter filter) throws IllegalAccessException, ParseException {
 		checkClassHasCsvEntityAnnotation(clazz);
 		
 		verifyParametersInCsvColumnAnnotation(clazz, header);
 		
-		return CsvPipe.map(list, clazz, new Function<CSVRecord, T>() {
+		final String[]       names = header == HeaderOption.WITH_HEADER || filter == null ? headerNames : CsvReadPlan.getIndexNames(list.isEmpty() ? 0 : list.get(0).size());
+		final CsvReadPlan<T> plan  = new CsvReadPlan<>(CsvMapping.of(clazz), names, filter);
+		
+		List<CSVRecord> acceptedList = list;
+		if (filter != null) {
+			acceptedList = new ArrayList<>();
+			for (CSVRecord record : list) {
+				if (plan.accept(new CsvRecordRow(record))) {
+					acceptedList.add(record);
+				}
+			}
+		}
+		
+		final Function<CSVRecord, T> f = new Function<CSVRecord, T>() {
 			@Override
 			public T call(CSVRecord record, Class<T> clazz) throws IllegalAccessException, ParseException {
-				final List<Field> fieldList = FieldUtils.getFieldsListWithAnnotation(clazz, CsvColumn.class);
-				final T t = ReflectUtil.getInstance(clazz, true);
-				
-				for (Field field : fieldList) {
-					final CsvColumn column = field.getAnnotation(CsvColumn.class);
-		            
-					field.setAccessible(true);
-		            if (ReflectUtil.isStaticField(field)) {
-		            	throw new IllegalArgumentException(field.getName() + " field can not be static.");
-		            } else if (!Strings.isNullOrEmpty(column.name())) {                      // if name is not empty, use name to locate the column first
-		            	if (record.isMapped(column.name())) {                                //     if the column is mapped, transform the value
-		            		setValue(t, field, column, record.get(column.name()));       
-		            	} else if (column.required()) {                                      //     if the column is not mapped but it is required, throw an exception
-		            		throw new IllegalArgumentException("The column " + column.name() + " is required in the CSV file, but it is missing in the CSV file right now.");
-		            	}                                                                    //     if the column is not mapped but it is not required, ignore that column
-		            } else if (column.pos() != -Integer.MAX_VALUE) {                         // if name is empty use index to locate the column
-		            	setValue(t, field, column, record.get(column.pos()));
-		            }
-				}
-				
-				return t;
+				return plan.read(new CsvRecordRow(record));
 			}
-		});
+		};
+		
+		return executor == null ? CsvPipe.map(acceptedList, clazz, f) : CsvPipe.map(acceptedList, clazz, f, executor);
+	}
+	
+	/**
+	 * Transform the rows from a row reader to a list of objects in a certain 
+	 * type.
+	 * 
+	 * @param  reader
+	 *         The reader of the rows, the header has been read.
+	 *         
+	 * @param  mapping
+	 *         The compiled mapping model of the class.
+	 *         
+	 * @param  options
+	 *         The options for reading the CSV file, the filter and the limit 
+	 *         are applied here.
+	 *         
+	 * @return  A list of objects in certain type.
+	 * 
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the CSV file.
+	 *          
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 *          
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	protected static <T> List<T> transformRows(final CsvRowReader reader, final CsvMapping<T> mapping, final CsvReadOptions options) throws IOException, IllegalAccessException, ParseException {
+		final CsvReadPlan<T> plan = new CsvReadPlan<>(mapping, reader.getHeaderNames(), options.getFilter());
+		reader.setProjection(plan.getColumnIndexes());          // only the mapped and filtered columns are tokenized
+		reader.skipBlocks(options.getFilter());
+		
+		final List<T> list = new ArrayList<>();
+		while (list.size() < options.getLimit()) {
+			final CsvRow row = reader.next();
+			if (row == null) {
+				break;
+			}
+			if (plan.accept(row)) {
+				list.add(plan.read(row));
+			}
+		}
+		return list;
 	}
 	
 	/**
@@ -237,10 +1463,7 @@ public class CsvFactory {
 	 * @since   1.1
 	 */
 	protected static void checkClassHasCsvEntityAnnotation(final Class<?> clazz) {
-		final CsvEntity entity = clazz.getAnnotation(CsvEntity.class); 
-		if (entity == null) {
-			throw new IllegalArgumentException(clazz.getSimpleName() + " needs to have " + CsvEntity.class.getSimpleName() + " anntation.");
-		}
+		CsvMapping.of(clazz).checkEntity();
 	}
 	
 	/**
@@ -254,6 +1477,9 @@ public class CsvFactory {
 	 * files, some parameter are mandatory otherwise the program can not know 
 	 * which column needs to map to which field.
 	 * 
+	 * <p>The result of the check is compiled once per class by 
+	 * {@code CsvMapping}.
+	 * 
 	 * <p>There are 2 rules for {@code CsvColumn} annotation:
 	 * <ul>
 	 * 	<li>If you specify the CSV file is without the header line, the 
@@ -272,143 +1498,28 @@ public class CsvFactory {
 	 * @since   1.1
 	 */
 	protected static <T> void verifyParametersInCsvColumnAnnotation(final Class<T> clazz, final HeaderOption header) {
-		final List<Field> fieldList = FieldUtils.getFieldsListWithAnnotation(clazz, CsvColumn.class);
-			
-		for (Field field : fieldList) {
-			final CsvColumn column = field.getAnnotation(CsvColumn.class);
-	        
-	        if (header == HeaderOption.WITHOUT_HEADER) {
-	        	if (column.pos() == -Integer.MAX_VALUE) {
-	        		throw new IllegalArgumentException("For field " + field.getName() + ", pos parameter is required for the CsvColumn annotation when the CSV file doesn't have header line.");
-	        	}
-			} else if (header == HeaderOption.WITH_HEADER && column.pos() == -Integer.MAX_VALUE && column.name().isEmpty()) {
-	        	throw new IllegalArgumentException("For field " + field.getName() + ", must specify at least one parameter among pos and name in the CsvColumn annotation when the CSV file has a header line.");
-	        }
-		}
+		CsvMapping.of(clazz).verify(header);
 	}
 	
 	/**
-	 * Transform a list of T objects to a hash map for aligning up columns 
-	 * (based on the pos parameter in the {@code CsvColumn} annotation).
-	 * 
-	 * <p>This function will transform a list of T objects to the hash map for 
-	 * aligning up columns. Each entry in the hash map represents one column 
-	 * in the CSV file, the key will be ordinal numbers starting from 0 to 
-	 * indicate the order of columns, the value will be a list of values in 
-	 * that column.
+	 * Get the compiled mapping model of the class of the objects needs to be 
+	 * written.
 	 * 
-	 * <p>This function will also check the {@code pos} parameters in all the 
-	 * {@code CsvColumn} are ordinal numbers or not. If yes, it will use the 
-	 * ordinal order of the {@code pos} value as the order of the columns.  
+	 * <p>The class is decided by the first object in the list.
 	 * 
 	 * @param  tList
 	 *         The list of T objects.
-	 * 
-	 * @param  header
-	 *         The option to specify the CSV file has the first line as header 
-	 *         or not.
 	 *         
-	 * @return  The hash map for storing all the data separated by columns.
-	 * 
-	 * @throws  IllegalAccessException
-	 *          If a field in a Java class is enforcing Java language access 
-	 *          control and the underlying field is either inaccessible or 
-	 *          final.
-	 *          
-	 * @since   1.1
-	 */
-	protected static <T> Map<Integer, List<String>> transformObjects(final List<T> tList, final HeaderOption header) throws IllegalAccessException {		
-		final Class<? extends Object> clazz = tList.get(0).getClass();
-		checkClassHasCsvEntityAnnotation(clazz);
-		final List<Field> fieldList = FieldUtils.getFieldsListWithAnnotation(clazz, CsvColumn.class);
-		
-		if (checkPosSequentialAndNoRepeat(fieldList)) {
-			sortFieldListByPos(fieldList);
-		}
-		
-		return transformObjectsIntoColumnBasedMap(tList, fieldList, header);
-	}
-	
-	/**
-	 * Transform a list of T objects to a hash map for aligning up columns.
-	 * (Based on the order in the column name)
-	 * 
-	 * <p>This function will transform a list of T objects to the hash map for 
-	 * aligning up columns. Each entry in the hash map represents one column 
-	 * in the CSV file, the key will be ordinal numbers starting from 0 to 
-	 * indicate the order of columns, the value will be a list of values in 
-	 * that column.
-	 * 
-	 * <p>This function will use the order in the list of column names to 
-	 * decide the column order in the CSV file.
-	 * 
-	 * @param  tList
-	 *         The list of T objects.
-	 * 
-	 * @param  columnList
-	 *         The list of column names.
-	 * 
-	 * @param  header
-	 *         The option to specify the CSV file has the first line as header 
-	 *         or not.
+	 * @return  The compiled mapping model of the class.
 	 * 
-	 * @return  The hash map for storing all the data separated by columns.
-	 * 
-	 * @throws  IllegalAccessException
-	 *          If a field in a Java class is enforcing Java language access 
-	 *          control and the underlying field is either inaccessible or 
-	 *          final.
-	 *          
-	 * @since   1.1    
+	 * @since   1.2
 	 */
-	protected static <T> Map<Integer, List<String>> transformObjects(final List<T> tList, final List<String> columnList, final HeaderOption header) throws IllegalAccessException {
+	@SuppressWarnings("unchecked")
+	protected static <T> CsvMapping<T> getMapping(final List<T> tList) {
 		final Class<? extends Object> clazz = tList.get(0).getClass();
 		checkClassHasCsvEntityAnnotation(clazz);
-		final List<Field> fieldList = FieldUtils.getFieldsListWithAnnotation(clazz, CsvColumn.class);
-		
-		List<Field> sortedFieldList = sortFieldListByColumnList(clazz, fieldList, columnList);
-		
-		return transformObjectsIntoColumnBasedMap(tList, sortedFieldList, header);
-	}
-	
-	/**
-	 * Transform a list of T objects to a hash map based on the sorted 
-	 * {@code Field} list.
-	 * 
-	 * <p>The sorted {@code Field} list decides the order of columns.
-	 * 
-	 * @param  tList
-	 *         The list of T objects.
-	 * 
-	 * @param  sortedFieldList
-	 *         The sorted {@code Field} list.
-	 * 
-	 * @param  header
-	 *         The option to specify the CSV file has the first line as header 
-	 *         or not.
-	 * 
-	 * @return  The hash map for storing all the data separated by columns.
-	 * 
-	 * @throws  IllegalAccessException
-	 *          If a field in a Java class is enforcing Java language access 
-	 *          control and the underlying field is either inaccessible or 
-	 *          final.
-	 *          
-	 * @since   1.1
-	 */
-	protected static <T> Map<Integer, List<String>> transformObjectsIntoColumnBasedMap(final List<T> tList, final List<Field> sortedFieldList, final HeaderOption header) throws IllegalAccessException {
-		final Map<Integer, List<String>> map = new HashMap<>();
-		
-		for (int i = 0; i < sortedFieldList.size(); i++) {
-			map.put(i, new ArrayList<>());
-		}
-		
-		if (header == HeaderOption.WITH_HEADER) {
-			addHeaderToMap(map, sortedFieldList);
-		}
-		addRecordsToMap(tList, map, sortedFieldList);
 		
-		return map;
+		return (CsvMapping<T>) CsvMapping.of(clazz);
 	}
 	
 	/**
@@ -418,8 +1529,8 @@ public class CsvFactory {
 	 * <p>{@code pos} parameters should be sequential, starting from 0 with no 
 	 * repeat values.
 	 * 
-	 * @param  fieldList
-	 *         The list of {@code Field} objects.
+	 * @param  columnList
+	 *         The list of {@code CsvColumnMapping} objects.
 	 *         
 	 * @return  {@code true} if {@code pos} parameters are sequential, 
 	 *          starting from 0 with no repeat values.
@@ -427,14 +1538,13 @@ public class CsvFactory {
 	 *          
 	 * @since   1.1
 	 */
-	protected static boolean checkPosSequentialAndNoRepeat(final List<Field> fieldList) {
-		final boolean[] boolArray = new boolean[fieldList.size()];
+	protected static boolean checkPosSequentialAndNoRepeat(final List<CsvColumnMapping> columnList) {
+		final boolean[] boolArray = new boolean[columnList.size()];
 		
-		for (Field field : fieldList) {
-			final CsvColumn column = field.getAnnotation(CsvColumn.class);
-			final int pos = column.pos();
+		for (CsvColumnMapping columnMapping : columnList) {
+			final int pos = columnMapping.getPos();
 			
-			if (pos < 0 || pos >= fieldList.size()) {   // index out of bound
+			if (pos < 0 || pos >= columnList.size()) {   // index out of bound
 				return false;
 			}
 			if (boolArray[pos]) {         // repeat
@@ -454,174 +1564,164 @@ public class CsvFactory {
 	}
 	
 	/**
-	 * Sort a list of {@code Field} objects by the ascending order of the 
-	 * {@code pos} values of the {@code CsvColumn} annotation marked on each 
-	 * field.
+	 * Sort a list of {@code CsvColumnMapping} objects by the ascending order 
+	 * of the {@code pos} values of the {@code CsvColumn} annotation marked on 
+	 * each field.
 	 * 
-	 * @param  fieldList
-	 *         The list of {@code Field} objects.
+	 * @param  columnList
+	 *         The list of {@code CsvColumnMapping} objects.
 	 *         
 	 * @since   1.1
 	 */
-	protected static void sortFieldListByPos(final List<Field> fieldList) {
-		fieldList.sort(new Comparator<Field>() {
+	protected static void sortFieldListByPos(final List<CsvColumnMapping> columnList) {
+		columnList.sort(new Comparator<CsvColumnMapping>() {
 		    @Override
-		    public int compare(Field f1, Field f2) {
-				final CsvColumn c1 = f1.getAnnotation(CsvColumn.class);
-				final CsvColumn c2 = f2.getAnnotation(CsvColumn.class);
-
-		        return c1.pos() - c2.pos();
+		    public int compare(CsvColumnMapping c1, CsvColumnMapping c2) {
+		        return c1.getPos() - c2.getPos();
 		     }
 		});
 	}
 	
 	/**
-	 * Sort the list of {@code Field} based on the order in the list of column 
-	 * names.
+	 * Sort the list of {@code CsvColumnMapping} based on the order in the 
+	 * list of column names.
 	 * 
-	 * @param  clazz
-	 *         The class where the field list from.
-	 *         
-	 * @param  fieldList
-	 *         The list of {@code Field} objects.
+	 * @param  mapping
+	 *         The compiled mapping model of the class.
 	 *         
 	 * @param  columnList
 	 *         The list of column names.
 	 *         
-	 * @return  The list of sorted {@code Field}.
+	 * @return  The list of sorted {@code CsvColumnMapping}.
 	 * 
 	 * @since   1.1  
 	 */
-	protected static List<Field> sortFieldListByColumnList(final Class<?> clazz, final List<Field> fieldList, final List<String> columnList) {
-		final List<Field> sortedFieldList = new ArrayList<>();
+	protected static List<CsvColumnMapping> sortFieldListByColumnList(final CsvMapping<?> mapping, final List<String> columnList) {
+		final List<CsvColumnMapping> sortedColumnList = new ArrayList<>();
 		
 		for (String columnName : columnList) {
 			if (!Strings.isNullOrEmpty(columnName)) {
-				sortedFieldList.add(getFieldFromFieldListByParameter(clazz, fieldList, columnName));
+				sortedColumnList.add(getFieldFromFieldListByParameter(mapping, columnName));
 			}
 		}
 		
-		return sortedFieldList;
+		return sortedColumnList;
 	}
 	
 	/**
-	 * Get a {@code Field} object from a {@code Field} list by the name in the 
-	 * {@code CsvColumn} annotation.
+	 * Get a {@code CsvColumnMapping} object from the compiled mapping model 
+	 * by the name in the {@code CsvColumn} annotation.
 	 * 
-	 * @param  clazz
-	 *         The class where the field list from.
-	 *         
-	 * @param  fieldList
-	 *         The list of {@code Field} objects.
+	 * @param  mapping
+	 *         The compiled mapping model of the class.
 	 * 
 	 * @param  columnName
 	 *         The column name of the field needs to retrieve.
 	 *         
-	 * @return  The {@code Field} object annotated by {@code CsvColumn} with 
-	 *          columnName as the value for the name parameter.
+	 * @return  The {@code CsvColumnMapping} object with columnName as the 
+	 *          value for the name parameter.
 	 *          
 	 * @since   1.1  
 	 */
-	protected static Field getFieldFromFieldListByParameter(final Class<?> clazz, final List<Field> fieldList, String columnName) {
-		for (Field field : fieldList) {
-			final CsvColumn cc = field.getAnnotation(CsvColumn.class);
-			if (cc.name().equals(columnName)) {
-				return field;
-			}
+	protected static CsvColumnMapping getFieldFromFieldListByParameter(final CsvMapping<?> mapping, String columnName) {
+		final CsvColumnMapping columnMapping = mapping.getColumnByName(columnName);
+		if (columnMapping != null) {
+			return columnMapping;
 		}
-		throw new NoSuchElementException("Can not find a field in the " + clazz.getSimpleName() + " class which the name parameter in the CsvColumn is " + columnName + ".");
+		throw new NoSuchElementException("Can not find a field in the " + mapping.getEntityClass().getSimpleName() + " class which the name parameter in the CsvColumn is " + columnName + ".");
 	}
 	
 	/**
-	 * Add the header line into the hash map.
+	 * Write records into a CSV file.
 	 * 
-	 * @param  map
-	 *         The hash map.
-	 *         
-	 * @param  fieldList
-	 *         The list of {@code Field} objects.
-	 *         
-	 * @since   1.1
-	 */
-	protected static void addHeaderToMap(final Map<Integer, List<String>> map, final List<Field> fieldList) {
-		for (int i = 0; i < fieldList.size(); i++) {
-			final CsvColumn column = fieldList.get(i).getAnnotation(CsvColumn.class);
-			map.get(i).add(Strings.nullToEmpty(column.name()));
-		}
-	}
-	
-	/**
-	 * Add all the data into the hash map.
+	 * <p>Each object is formatted and written as one record right away, 
+	 * without building the whole data set in memory.
 	 * 
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *         
 	 * @param  tList
 	 *         The list of T objects.
 	 *         
-	 * @param  map
-	 *         The hash map.
-	 *       
-	 * @param  fieldList
-	 *         The list of {@code Field} objects.
+	 * @param  mapping
+	 *         The compiled mapping model of the class.
+	 *         
+	 * @param  sortedColumnList
+	 *         The sorted {@code CsvColumnMapping} list, it decides the order 
+	 *         of columns.
 	 *         
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
 	 * @throws  IllegalAccessException
 	 *          If a field in a Java class is enforcing Java language access 
 	 *          control and the underlying field is either inaccessible or 
 	 *          final.
 	 *          
-	 * @since   1.1
+	 * @throws  IOException
+	 *          Error occurred when  writing the CSV file. 
+	 *          
+	 * @since   1.2
 	 */
-	protected static <T> void addRecordsToMap(final List<T> tList, final Map<Integer, List<String>> map, final List<Field> fieldList) throws IllegalAccessException {
-		for (T t : tList) {
-			for (int i = 0; i < fieldList.size(); i++) {
-				fieldList.get(i).setAccessible(true);
-				map.get(i).add(getValue(t, fieldList.get(i)));
-			}
+	protected static <T> void writeCsvFile(final String csvFilePath, final List<T> tList, final CsvMapping<T> mapping, final List<CsvColumnMapping> sortedColumnList, final HeaderOption header) throws IllegalAccessException, IOException {
+		try (CsvEntityWriter<T> writer = openWriter(csvFilePath, mapping, sortedColumnList, header, false)) {
+			writer.writeAll(tList);
 		}
 	}
 	
 	/**
-	 * Write records into a CSV file.
+	 * Open a writer for a CSV file.
 	 * 
 	 * @param  csvFilePath
 	 *         The path of the CSV file.
 	 *         
-	 * @param  map
-	 *         The map contains the key as column index and the value as the 
-	 *         values in the certain column.
+	 * @param  mapping
+	 *         The compiled mapping model of the class.
+	 *         
+	 * @param  sortedColumnList
+	 *         The sorted {@code CsvColumnMapping} list, it decides the order 
+	 *         of columns.
+	 *         
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 * 
+	 * @param  append
+	 *         {@code true} to append the records to the end of the existing 
+	 *         file; {@code false} to overwrite the existing file.
+	 * 
+	 * @return  The writer.
 	 * 
 	 * @throws  IOException
-	 *          Error occurred when  writing the CSV file. 
+	 *          Error occurred when opening the CSV file. 
 	 *          
-	 * @since   1.1
+	 * @since   1.2
 	 */
-	protected static void writeCsvFile(final String csvFilePath, final Map<Integer, List<String>> map) throws IOException {
-		final FileWriter fileWriter = new FileWriter(csvFilePath);
-	    final CSVPrinter csvFilePrinter = new CSVPrinter(fileWriter, CSVFormat.DEFAULT.withRecordSeparator("\n"));
-	    
-	    final int columnNum = map.size();
-	    final int rowNum    = map.get(0).size();
-	    
-	    for(int i = 0; i < rowNum; i++) {
-	    	final List<Object> objectList = new ArrayList<>();
-	    	for (int j = 0; j < columnNum; j++) {
-	    		objectList.add(map.get(j).get(i));
-	    	}
-	    	csvFilePrinter.printRecord(objectList);
-	    }
-	    
-	    csvFilePrinter.close();	
+	protected static <T> CsvEntityWriter<T> openWriter(final String csvFilePath, final CsvMapping<T> mapping, final List<CsvColumnMapping> sortedColumnList, final HeaderOption header, final boolean append) throws IOException {
+		final File file = new File(csvFilePath);
+		final HeaderOption actualHeader = append && file.length() > 0 ? HeaderOption.WITHOUT_HEADER : header;
+		
+		final Writer writer = new BufferedWriter(new FileWriter(file, append));
+		try {
+			return new CsvEntityWriter<>(mapping, sortedColumnList, writer, actualHeader);
+		} catch (IOException | RuntimeException e) {
+			writer.close();
+			throw e;
+		}
 	}
 	
 	/**
 	 * Set the value for a certain field in Java object
 	 * 
+	 * <p>The value is parsed by the converter which is resolved for the type 
+	 * of the field in advance.
+	 * 
 	 * @param  t
 	 *         The object in the certain type.
 	 *         
-	 * @param  field
-	 *         The {@code Field} object represents one field in a class.
-	 *         
-	 * @param  column
-	 *         The CsvColumn annotation.
+	 * @param  columnMapping
+	 *         The compiled mapping of one field in a class.
 	 *         
 	 * @param  value
 	 *         The value in a certain cell in CSV file.
@@ -635,51 +1735,11 @@ public class CsvFactory {
 	 *          
 	 * @since   1.1
 	 */
-	protected static <T> void setValue(final T t, final Field field, final CsvColumn column, final String value) throws IllegalAccessException, ParseException {
-		final Class<?> fieldType = field.getType(); 
-		
+	protected static <T> void setValue(final T t, final CsvColumnMapping columnMapping, final String value) throws IllegalAccessException, ParseException {
 		if (value == null) {
-			field.set(t, null);
-		} else if (fieldType == Object.class){
-			field.set(t, value);
-		} else if (fieldType == String.class) {
-			field.set(t, value);
-		} else if (fieldType == Integer.class || fieldType == Integer.TYPE) {
-			field.set(t, Integer.parseInt(value));
-		} else if (fieldType == Long.class || fieldType == Long.TYPE) {
-			field.set(t, Long.parseLong(value));
-		} else if (fieldType == Double.class || fieldType == Double.TYPE) {
-			field.set(t, Double.parseDouble(value));
-		} else if (fieldType == Float.class || fieldType == Float.TYPE) {
-			field.set(t, Float.parseFloat(value));
-		} else if (fieldType == Short.class || fieldType == Short.TYPE) {
-			field.set(t, Short.parseShort(value));
-		} else if (fieldType == Character.class || fieldType == Character.TYPE) { 
-			field.set(t, value.charAt(0));
-		} else if (fieldType == Boolean.class || fieldType == Boolean.TYPE) { 
-			field.set(t, Boolean.parseBoolean(value));
-		} else if (fieldType == java.util.Date.class || fieldType == java.sql.Date.class || fieldType == Timestamp.class || fieldType == Calendar.class || fieldType == LocalDate.class) {
-			if (Strings.isNullOrEmpty(column.format())) {
-				throw new IllegalArgumentException("The field " + field.getName() + " needs to spefic the format for parsing date or date time.");
-			}
-			final java.util.Date date = (new SimpleDateFormat(column.format())).parse(value);
-			if (fieldType == java.util.Date.class) {
-				field.set(t, date);
-			} else if (fieldType == Timestamp.class) {
-				field.set(t, new Timestamp(date.getTime()));
-			} else if (fieldType == Calendar.class) {
-				final Calendar cal = Calendar.getInstance();
-				cal.setTime(date);
-				field.set(t, cal);
-			} else if (fieldType == java.sql.Date.class) {
-				field.set(t, new java.sql.Date(date.getTime()));
-			} else if (fieldType == LocalDate.class) {
-				field.set(t, LocalDate.parse(value, DateTimeFormatter.ofPattern(column.format())));
-			}
-		} else if (fieldType == LocalDateTime.class) { 
-			field.set(t, LocalDateTime.parse(value, DateTimeFormatter.ofPattern(column.format())));
+			columnMapping.getConverter().setNull(t);
 		} else {
-			throw new IllegalArgumentException("The field " + field.getName() + " is not an easy type (" + fieldType.getName() + ") for parsing CSV file.");
+			columnMapping.getConverter().parse(t, value);
 		}
 	}
 	
@@ -687,11 +1747,14 @@ public class CsvFactory {
 	 * Get the value for a certain field in Java object and convert it to 
 	 * {@code String}.
 	 * 
+	 * <p>The value is formatted by the converter which is resolved for the 
+	 * type of the field in advance.
+	 * 
 	 * @param  t
 	 *         The object in the certain type.
 	 *         
-	 * @param  field
-	 *         The {@code Field} object represents one field in a class.
+	 * @param  columnMapping
+	 *         The compiled mapping of one field in a class.
 	 * 
 	 * @return  The {@code String} value of the value in the field.
 	 * 
@@ -701,53 +1764,7 @@ public class CsvFactory {
 	 *          
 	 * @since   1.1
 	 */
-	protected static <T> String getValue(final T t, final Field field) throws IllegalAccessException {
-		final Class<?> fieldType = field.getType();
-		final Object value = field.get(t);
-		
-		if (value == null) {
-			return null;
-		} else if (fieldType == String.class) {
-			return (String) value;
-		} else if (fieldType == Object.class) {
-			return value.toString();
-		} else if (fieldType == Integer.class || fieldType == Integer.TYPE) {
-			return Integer.toString((int) value);
-		} else if (fieldType == Long.class    || fieldType == Long.TYPE) {
-			return Long.toString((long) value);
-		} else if (fieldType == Double.class  || fieldType == Double.TYPE) {
-			return Double.toString((double) value);
-		} else if (fieldType == Float.class   || fieldType == Float.TYPE) {
-			return Float.toString((float) value);
-		} else if (fieldType == Short.class   || fieldType == Short.TYPE) {
-			return Short.toString((short) value);
-		} else if (fieldType == Character.TYPE) {
-			return Character.toString((char) value);  
-		} else if (fieldType == Boolean.class || fieldType == Boolean.TYPE) { 
-			return Boolean.toString((boolean) value);
-		} else if (fieldType == java.util.Date.class || fieldType == java.sql.Date.class ||  fieldType == Timestamp.class || fieldType == Calendar.class || fieldType == LocalDate.class || fieldType == LocalDateTime.class) {
-			final CsvColumn column = field.getAnnotation(CsvColumn.class);
-			if (Strings.isNullOrEmpty(column.format())) {
-				throw new IllegalArgumentException("The field " + field.getName() + " needs to spefic the format for writing date or date time.");
-			}
-			final SimpleDateFormat df = new SimpleDateFormat(column.format());
-			if (fieldType == java.util.Date.class) {
-				return df.format((java.util.Date) value);
-			} else if (fieldType == Timestamp.class) {
-				return df.format((Timestamp) value);
-			} else if (fieldType == Calendar.class) {
-				return df.format(((Calendar) value).getTime());
-			} else if (fieldType == java.sql.Date.class) {
-				return df.format((java.sql.Date) value);
-			} else if (fieldType == LocalDate.class) {
-				return ((LocalDate) value).format(DateTimeFormatter.ofPattern(column.format()));
-			} else if (fieldType == LocalDateTime.class) {
-				return ((LocalDateTime) value).format(DateTimeFormatter.ofPattern(column.format()));
-			}
-		} else {
-			throw new IllegalArgumentException("The field " + field.getName() + " is not an easy type (" + fieldType.getName() + ") for writing CSV file.");
-		}
-		
-		return null;
+	protected static <T> String getValue(final T t, final CsvColumnMapping columnMapping) throws IllegalAccessException {
+		return columnMapping.getConverter().format(t);
 	}
 }
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * The accessor for reading and writing the value of one field in a Java
+ * class.
+ *
+ * <p>The field is bound to a {@code MethodHandle} once, and the typed
+ * methods ({@code getInt}, {@code setInt}, ...) invoke the handle without
+ * boxing the value or checking the access again. If the field can not be
+ * bound to a {@code MethodHandle} (for example, it is static or the access
+ * is denied), the accessor falls back to reflection.
+ *
+ * <p>Only the typed methods matching the type of the field can be used,
+ * the generic {@code get} and {@code set} methods can be used for any type.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+abstract class CsvFieldAccessor {
+	abstract Object  get(Object target)                         throws IllegalAccessException;
+	abstract void    set(Object target, Object value)           throws IllegalAccessException;
+	abstract int     getInt(Object target)                      throws IllegalAccessException;
+	abstract void    setInt(Object target, int value)           throws IllegalAccessException;
+	abstract long    getLong(Object target)                     throws IllegalAccessException;
+	abstract void    setLong(Object target, long value)         throws IllegalAccessException;
+	abstract double  getDouble(Object target)                   throws IllegalAccessException;
+	abstract void    setDouble(Object target, double value)     throws IllegalAccessException;
+	abstract float   getFloat(Object target)                    throws IllegalAccessException;
+	abstract void    setFloat(Object target, float value)       throws IllegalAccessException;
+	abstract short   getShort(Object target)                    throws IllegalAccessException;
+	abstract void    setShort(Object target, short value)       throws IllegalAccessException;
+	abstract char    getChar(Object target)                     throws IllegalAccessException;
+	abstract void    setChar(Object target, char value)         throws IllegalAccessException;
+	abstract boolean getBoolean(Object target)                  throws IllegalAccessException;
+	abstract void    setBoolean(Object target, boolean value)   throws IllegalAccessException;
+
+	/**
+	 * Bind a field to an accessor.
+	 *
+	 * @param  field
+	 *         The {@code Field} object represents one field in a class, it
+	 *         should be accessible already.
+	 *
+	 * @return  The {@code MethodHandle} based accessor if the field can be
+	 *          bound, otherwise the reflection based accessor.
+	 *
+	 * @since   1.2
+	 */
+	static CsvFieldAccessor of(final Field field) {
+		if (!Modifier.isStatic(field.getModifiers())) {
+			try {
+				return new MethodHandleAccessor(field);
+			} catch (IllegalAccessException | SecurityException e) {
+				// fall back to reflection
+			}
+		}
+		return new ReflectionAccessor(field);
+	}
+
+	/**
+	 * Bind a field to a getter {@code MethodHandle}.
+	 *
+	 * @param  field
+	 *         The {@code Field} object represents one field in a class, it
+	 *         should be accessible already.
+	 *
+	 * @param  holderType
+	 *         The type of the object holding the field in the handle type.
+	 *
+	 * @return  The handle of the type {@code (holderType) -> field type}.
+	 *
+	 * @throws  IllegalAccessException
+	 *          If the access to the field is denied.
+	 *
+	 * @since   1.2
+	 */
+	static MethodHandle bindGetter(final Field field, final Class<?> holderType) throws IllegalAccessException {
+		return MethodHandles.lookup().unreflectGetter(field).asType(MethodType.methodType(field.getType(), holderType));
+	}
+
+	/**
+	 * Bind a field to a setter {@code MethodHandle}.
+	 *
+	 * @param  field
+	 *         The {@code Field} object represents one field in a class, it
+	 *         should be accessible already.
+	 *
+	 * @param  holderType
+	 *         The type of the object holding the field in the handle type.
+	 *
+	 * @return  The handle of the type {@code (holderType, field type) -> void}.
+	 *
+	 * @throws  IllegalAccessException
+	 *          If the access to the field is denied, for example, the field
+	 *          is final.
+	 *
+	 * @since   1.2
+	 */
+	static MethodHandle bindSetter(final Field field, final Class<?> holderType) throws IllegalAccessException {
+		return MethodHandles.lookup().unreflectSetter(field).asType(MethodType.methodType(void.class, holderType, field.getType()));
+	}
+
+	/**
+	 * The accessor based on {@code MethodHandle}.
+	 */
+	static final class MethodHandleAccessor extends CsvFieldAccessor {
+		private final Field        field;
+		private final MethodHandle getter;           // (Object) -> field type
+		private final MethodHandle setter;           // (Object, field type) -> void
+		private final MethodHandle objectGetter;     // (Object) -> Object
+		private final MethodHandle objectSetter;     // (Object, Object) -> void
+
+		MethodHandleAccessor(final Field field) throws IllegalAccessException {
+			this.field        = field;
+			this.getter       = bindGetter(field, Object.class);
+			this.setter       = bindSetter(field, Object.class);
+			this.objectGetter = getter.asType(MethodType.methodType(Object.class, Object.class));
+			this.objectSetter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+		}
+
+		@Override
+		Object get(final Object target) {
+			try {
+				return (Object) objectGetter.invokeExact(target);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		void set(final Object target, final Object value) {
+			if (value == null && field.getType().isPrimitive()) {
+				throw new IllegalArgumentException("Can not set " + field.getType().getName() + " field " + field.getName() + " to null value");
+			}
+			try {
+				objectSetter.invokeExact(target, value);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		int getInt(final Object target) {
+			try {
+				return (int) getter.invokeExact(target);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		void setInt(final Object target, final int value) {
+			try {
+				setter.invokeExact(target, value);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		long getLong(final Object target) {
+			try {
+				return (long) getter.invokeExact(target);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		void setLong(final Object target, final long value) {
+			try {
+				setter.invokeExact(target, value);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		double getDouble(final Object target) {
+			try {
+				return (double) getter.invokeExact(target);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		void setDouble(final Object target, final double value) {
+			try {
+				setter.invokeExact(target, value);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		float getFloat(final Object target) {
+			try {
+				return (float) getter.invokeExact(target);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		void setFloat(final Object target, final float value) {
+			try {
+				setter.invokeExact(target, value);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		short getShort(final Object target) {
+			try {
+				return (short) getter.invokeExact(target);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		void setShort(final Object target, final short value) {
+			try {
+				setter.invokeExact(target, value);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		char getChar(final Object target) {
+			try {
+				return (char) getter.invokeExact(target);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		void setChar(final Object target, final char value) {
+			try {
+				setter.invokeExact(target, value);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		boolean getBoolean(final Object target) {
+			try {
+				return (boolean) getter.invokeExact(target);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		@Override
+		void setBoolean(final Object target, final boolean value) {
+			try {
+				setter.invokeExact(target, value);
+			} catch (Throwable e) {
+				throw rethrow(e);
+			}
+		}
+
+		/**
+		 * Rethrow the exception from invoking a {@code MethodHandle}.
+		 *
+		 * <p>Field handles only throw unchecked exceptions (for example,
+		 * {@code ClassCastException} for a wrong target), so they are thrown
+		 * as they are.
+		 *
+		 * @param  e
+		 *         The exception from invoking a {@code MethodHandle}.
+		 *
+		 * @return  Never returns, only for the {@code throw} statement in the
+		 *          caller.
+		 *
+		 * @since   1.2
+		 */
+		private static RuntimeException rethrow(final Throwable e) {
+			if (e instanceof RuntimeException) {
+				throw (RuntimeException) e;
+			} else if (e instanceof Error) {
+				throw (Error) e;
+			}
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * The accessor based on reflection, which is the fallback when a field
+	 * can not be bound to a {@code MethodHandle}.
+	 */
+	static final class ReflectionAccessor extends CsvFieldAccessor {
+		private final Field field;
+
+		ReflectionAccessor(final Field field) {
+			this.field = field;
+		}
+
+		@Override Object  get(final Object target)                             throws IllegalAccessException { return field.get(target);         }
+		@Override void    set(final Object target, final Object value)         throws IllegalAccessException { field.set(target, value);         }
+		@Override int     getInt(final Object target)                          throws IllegalAccessException { return field.getInt(target);      }
+		@Override void    setInt(final Object target, final int value)         throws IllegalAccessException { field.setInt(target, value);      }
+		@Override long    getLong(final Object target)                         throws IllegalAccessException { return field.getLong(target);     }
+		@Override void    setLong(final Object target, final long value)       throws IllegalAccessException { field.setLong(target, value);     }
+		@Override double  getDouble(final Object target)                       throws IllegalAccessException { return field.getDouble(target);   }
+		@Override void    setDouble(final Object target, final double value)   throws IllegalAccessException { field.setDouble(target, value);   }
+		@Override float   getFloat(final Object target)                        throws IllegalAccessException { return field.getFloat(target);    }
+		@Override void    setFloat(final Object target, final float value)     throws IllegalAccessException { field.setFloat(target, value);    }
+		@Override short   getShort(final Object target)                        throws IllegalAccessException { return field.getShort(target);    }
+		@Override void    setShort(final Object target, final short value)     throws IllegalAccessException { field.setShort(target, value);    }
+		@Override char    getChar(final Object target)                         throws IllegalAccessException { return field.getChar(target);     }
+		@Override void    setChar(final Object target, final char value)       throws IllegalAccessException { field.setChar(target, value);     }
+		@Override boolean getBoolean(final Object target)                      throws IllegalAccessException { return field.getBoolean(target);  }
+		@Override void    setBoolean(final Object target, final boolean value) throws IllegalAccessException { field.setBoolean(target, value);  }
+	}
+}
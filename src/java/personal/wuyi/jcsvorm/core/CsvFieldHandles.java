@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@code MethodHandle}s of the fields annotated by {@code CsvColumn},
+ * for the generated mappers to read and write the fields which they can not
+ * access directly, like the private fields.
+ *
+ * <p>The handles are bound by {@code CsvFieldAccessor} and kept in the
+ * {@code static final} fields of the generated mapper, so the JIT compiler
+ * can inline them like a direct field access.
+ *
+ * <p>This class is an internal SPI for the mappers generated by jcsvorm. It
+ * is not a part of the public API and may change without notice.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public final class CsvFieldHandles {
+	private CsvFieldHandles() {}
+
+	/**
+	 * Get the getter of a field.
+	 *
+	 * @param  clazz
+	 *         The class annotated by {@code CsvEntity}.
+	 *
+	 * @param  fieldName
+	 *         The name of a field annotated by {@code CsvColumn} in the class
+	 *         or its super classes.
+	 *
+	 * @return  The handle of the type {@code (clazz) -> field type}.
+	 *
+	 * @throws  NoSuchElementException
+	 *          If there is no such field.
+	 *
+	 * @throws  IllegalArgumentException
+	 *          If the field can not be accessed.
+	 *
+	 * @since   1.2
+	 */
+	public static MethodHandle getter(final Class<?> clazz, final String fieldName) {
+		final Field field = getField(clazz, fieldName);
+		try {
+			return CsvFieldAccessor.bindGetter(field, clazz);
+		} catch (IllegalAccessException | SecurityException e) {
+			throw new IllegalArgumentException("Can not read the field " + fieldName + " of " + clazz.getName() + ".", e);
+		}
+	}
+
+	/**
+	 * Get the setter of a field.
+	 *
+	 * @param  clazz
+	 *         The class annotated by {@code CsvEntity}.
+	 *
+	 * @param  fieldName
+	 *         The name of a field annotated by {@code CsvColumn} in the class
+	 *         or its super classes.
+	 *
+	 * @return  The handle of the type {@code (clazz, field type) -> void}.
+	 *
+	 * @throws  NoSuchElementException
+	 *          If there is no such field.
+	 *
+	 * @throws  IllegalArgumentException
+	 *          If the field can not be accessed, for example, it is final.
+	 *
+	 * @since   1.2
+	 */
+	public static MethodHandle setter(final Class<?> clazz, final String fieldName) {
+		final Field field = getField(clazz, fieldName);
+		try {
+			return CsvFieldAccessor.bindSetter(field, clazz);
+		} catch (IllegalAccessException | SecurityException e) {
+			throw new IllegalArgumentException("Can not write the field " + fieldName + " of " + clazz.getName() + ".", e);
+		}
+	}
+
+	/**
+	 * Find a field in the mapping of a class, the field declared in the
+	 * class hides the fields with the same name in its super classes.
+	 */
+	private static Field getField(final Class<?> clazz, final String fieldName) {
+		for (CsvColumnMapping columnMapping : CsvMapping.of(clazz).getColumnList()) {
+			if (!columnMapping.isStaticField() && columnMapping.getField().getName().equals(fieldName)) {
+				return columnMapping.getField();
+			}
+		}
+		throw new NoSuchElementException("Can not find the field " + fieldName + " annotated by CsvColumn in " + clazz.getName() + ".");
+	}
+}
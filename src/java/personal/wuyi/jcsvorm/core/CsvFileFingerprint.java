@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.zip.CRC32;
+
+/**
+ * The fingerprint of a CSV file, for checking whether a sidecar file built
+ * from the CSV file is still valid.
+ *
+ * <p>The fingerprint is made of the size, the last modified time and the
+ * CRC-32 of the first and the last blocks of the file, so it is cheap to
+ * compute for a huge file. A sidecar file is rebuilt when the fingerprint
+ * of the CSV file is changed.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvFileFingerprint {
+	private static final int BLOCK_SIZE = 4096;
+
+	private final long size;
+	private final long lastModified;
+	private final long checksum;
+
+	private CsvFileFingerprint(final long size, final long lastModified, final long checksum) {
+		this.size         = size;
+		this.lastModified = lastModified;
+		this.checksum     = checksum;
+	}
+
+	/**
+	 * Compute the fingerprint of a file.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @return  The fingerprint.
+	 *
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 *
+	 * @since   1.2
+	 */
+	static CsvFileFingerprint of(final String csvFilePath) throws IOException {
+		final File file = new File(csvFilePath);
+		try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+			final long   size   = randomAccessFile.length();
+			final CRC32  crc    = new CRC32();
+			final byte[] buffer = new byte[BLOCK_SIZE];
+
+			int length = (int) Math.min(BLOCK_SIZE, size);
+			randomAccessFile.readFully(buffer, 0, length);
+			crc.update(buffer, 0, length);
+
+			if (size > BLOCK_SIZE) {
+				length = (int) Math.min(BLOCK_SIZE, size - BLOCK_SIZE);
+				randomAccessFile.seek(size - length);
+				randomAccessFile.readFully(buffer, 0, length);
+				crc.update(buffer, 0, length);
+			}
+			return new CsvFileFingerprint(size, file.lastModified(), crc.getValue());
+		}
+	}
+
+	/**
+	 * Read a fingerprint written by {@code write}.
+	 *
+	 * @param  in
+	 *         The input of the sidecar file.
+	 *
+	 * @return  The fingerprint.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the input.
+	 *
+	 * @since   1.2
+	 */
+	static CsvFileFingerprint read(final DataInput in) throws IOException {
+		return new CsvFileFingerprint(in.readLong(), in.readLong(), in.readLong());
+	}
+
+	/**
+	 * Write this fingerprint.
+	 *
+	 * @param  out
+	 *         The output of the sidecar file.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when writing the output.
+	 *
+	 * @since   1.2
+	 */
+	void write(final DataOutput out) throws IOException {
+		out.writeLong(size);
+		out.writeLong(lastModified);
+		out.writeLong(checksum);
+	}
+
+	/**
+	 * Check whether a file still has the size and the last modified time 
+	 * of this fingerprint, without opening the file. It is cheaper but 
+	 * weaker than comparing with the fingerprint of the file.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @return  {@code true} if the file has the same size and last 
+	 *          modified time.
+	 *
+	 * @since   1.2
+	 */
+	boolean matchesAttributes(final String csvFilePath) {
+		final File file = new File(csvFilePath);
+		return file.isFile() && file.length() == size && file.lastModified() == lastModified;
+	}
+
+	/**
+	 * Get the size of the file.
+	 *
+	 * @return  The number of bytes.
+	 *
+	 * @since   1.2
+	 */
+	long getSize() {
+		return size;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (!(obj instanceof CsvFileFingerprint)) {
+			return false;
+		}
+
+		final CsvFileFingerprint other = (CsvFileFingerprint) obj;
+		return size == other.size && lastModified == other.lastModified && checksum == other.checksum;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(size) * 31 + Long.hashCode(checksum);
+	}
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+import personal.wuyi.jcsvorm.api.CsvRow;
+
+/**
+ * The filter on the raw values of the columns in a CSV file.
+ *
+ * <p>A row is tested before an object is created for it, so the rows
+ * which don't match the filter don't cost the conversion of any field. The
+ * columns are named by the header, or by their indexes ("0", "1" and so on)
+ * for a file without header, like:
+ * <pre>
+ * CsvReadOptions options = CsvReadOptions.DEFAULT.withFilter(
+ *         CsvFilter.whereInt("int_amount", v -&gt; v &gt; 1000).and(CsvFilter.where("state", "NY"::contentEquals)));
+ * </pre>
+ *
+ * <p>A typed predicate doesn't match an empty cell, and a cell which is
+ * not a number is reported by a {@code NumberFormatException}. The text
+ * passed to a raw predicate may be a view of the row, it is only valid
+ * during the call.
+ *
+ * <p>The range filters created by {@code whereBetween} can also skip the
+ * whole blocks of a file by the statistics built by
+ * {@code CsvFactory.buildZoneMap}, when the file is read by the
+ * {@code MAPPED} engine. The other filters test every row.
+ *
+ * <p>This class is immutable.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public abstract class CsvFilter {
+	CsvFilter() {
+	}
+
+	/**
+	 * Create a filter on the raw text of a column.
+	 *
+	 * @param  columnName
+	 *         The name of the column.
+	 *
+	 * @param  predicate
+	 *         The predicate on the text in the cell.
+	 *
+	 * @return  The new filter.
+	 *
+	 * @since   1.2
+	 */
+	public static CsvFilter where(final String columnName, final Predicate<? super CharSequence> predicate) {
+		checkNotNull(predicate);
+		return new ColumnFilter(columnName) {
+			@Override
+			boolean test(final CsvRow row, final int index) {
+				return predicate.test(row.getCharSequence(index));
+			}
+		};
+	}
+
+	/**
+	 * Create a filter on the {@code int} values of a column.
+	 *
+	 * @param  columnName
+	 *         The name of the column.
+	 *
+	 * @param  predicate
+	 *         The predicate on the value in the cell.
+	 *
+	 * @return  The new filter.
+	 *
+	 * @since   1.2
+	 */
+	public static CsvFilter whereInt(final String columnName, final IntPredicate predicate) {
+		checkNotNull(predicate);
+		return new ColumnFilter(columnName) {
+			@Override
+			boolean test(final CsvRow row, final int index) {
+				return !row.isNull(index) && predicate.test(row.getInt(index));
+			}
+		};
+	}
+
+	/**
+	 * Create a filter on the {@code long} values of a column.
+	 *
+	 * @param  columnName
+	 *         The name of the column.
+	 *
+	 * @param  predicate
+	 *         The predicate on the value in the cell.
+	 *
+	 * @return  The new filter.
+	 *
+	 * @since   1.2
+	 */
+	public static CsvFilter whereLong(final String columnName, final LongPredicate predicate) {
+		checkNotNull(predicate);
+		return new ColumnFilter(columnName) {
+			@Override
+			boolean test(final CsvRow row, final int index) {
+				return !row.isNull(index) && predicate.test(row.getLong(index));
+			}
+		};
+	}
+
+	/**
+	 * Create a filter on the {@code double} values of a column.
+	 *
+	 * @param  columnName
+	 *         The name of the column.
+	 *
+	 * @param  predicate
+	 *         The predicate on the value in the cell.
+	 *
+	 * @return  The new filter.
+	 *
+	 * @since   1.2
+	 */
+	public static CsvFilter whereDouble(final String columnName, final DoublePredicate predicate) {
+		checkNotNull(predicate);
+		return new ColumnFilter(columnName) {
+			@Override
+			boolean test(final CsvRow row, final int index) {
+				return !row.isNull(index) && predicate.test(row.getDouble(index));
+			}
+		};
+	}
+
+	/**
+	 * Create a filter on the range of the text of a column, the text is 
+	 * compared like {@code String.compareTo}, so it fits the columns like 
+	 * ISO dates and codes.
+	 *
+	 * @param  columnName
+	 *         The name of the column.
+	 *
+	 * @param  from
+	 *         The lowest text matched, or {@code null} for no lower bound.
+	 *
+	 * @param  to
+	 *         The highest text matched, or {@code null} for no upper bound.
+	 *
+	 * @return  The new filter.
+	 *
+	 * @since   1.2
+	 */
+	public static CsvFilter whereBetween(final String columnName, final String from, final String to) {
+		return new ColumnFilter(columnName) {
+			@Override
+			boolean test(final CsvRow row, final int index) {
+				if (row.isNull(index)) {
+					return false;
+				}
+				final CharSequence value = row.getCharSequence(index);
+				return (from == null || CsvZoneMap.compare(value, from) >= 0) && (to == null || CsvZoneMap.compare(value, to) <= 0);
+			}
+
+			@Override
+			boolean mayMatch(final CsvZoneMap.Block block, final int index) {
+				if (block.isAllNull(index)) {
+					return false;
+				}
+				final String min = block.getTextMin(index);
+				final String max = block.getTextMax(index);
+				if (min == null) {                                      // the range is not known
+					return true;
+				}
+				return (from == null || max.compareTo(from) >= 0) && (to == null || min.compareTo(to) <= 0);
+			}
+		};
+	}
+
+	/**
+	 * Create a filter on the range of the {@code double} values of a column.
+	 *
+	 * @param  columnName
+	 *         The name of the column.
+	 *
+	 * @param  from
+	 *         The lowest value matched, or 
+	 *         {@code Double.NEGATIVE_INFINITY} for no lower bound.
+	 *
+	 * @param  to
+	 *         The highest value matched, or 
+	 *         {@code Double.POSITIVE_INFINITY} for no upper bound.
+	 *
+	 * @return  The new filter.
+	 *
+	 * @since   1.2
+	 */
+	public static CsvFilter whereBetween(final String columnName, final double from, final double to) {
+		return new ColumnFilter(columnName) {
+			@Override
+			boolean test(final CsvRow row, final int index) {
+				if (row.isNull(index)) {
+					return false;
+				}
+				final double value = row.getDouble(index);
+				return value >= from && value <= to;
+			}
+
+			@Override
+			boolean mayMatch(final CsvZoneMap.Block block, final int index) {
+				if (block.isAllNull(index)) {
+					return false;
+				}
+				if (!block.hasNumberRange(index)) {
+					return true;
+				}
+				return block.getNumberMax(index) >= from && block.getNumberMin(index) <= to;
+			}
+		};
+	}
+
+	/**
+	 * Create a filter which matches the rows matched by both filters, the
+	 * other filter is not tested if this filter doesn't match.
+	 *
+	 * @param  other
+	 *         The other filter.
+	 *
+	 * @return  The new filter.
+	 *
+	 * @since   1.2
+	 */
+	public CsvFilter and(final CsvFilter other) {
+		checkNotNull(other);
+		return new CsvFilter() {
+			@Override
+			Predicate<CsvRow> bind(final Map<String, Integer> headerMap, final BitSet columns) {
+				return CsvFilter.this.bind(headerMap, columns).and(other.bind(headerMap, columns));
+			}
+
+			@Override
+			boolean mayMatch(final Map<String, Integer> headerMap, final CsvZoneMap.Block block) {
+				return CsvFilter.this.mayMatch(headerMap, block) && other.mayMatch(headerMap, block);
+			}
+		};
+	}
+
+	/**
+	 * Create a filter which matches the rows matched by either filter, the
+	 * other filter is not tested if this filter matches.
+	 *
+	 * @param  other
+	 *         The other filter.
+	 *
+	 * @return  The new filter.
+	 *
+	 * @since   1.2
+	 */
+	public CsvFilter or(final CsvFilter other) {
+		checkNotNull(other);
+		return new CsvFilter() {
+			@Override
+			Predicate<CsvRow> bind(final Map<String, Integer> headerMap, final BitSet columns) {
+				return CsvFilter.this.bind(headerMap, columns).or(other.bind(headerMap, columns));
+			}
+
+			@Override
+			boolean mayMatch(final Map<String, Integer> headerMap, final CsvZoneMap.Block block) {
+				return CsvFilter.this.mayMatch(headerMap, block) || other.mayMatch(headerMap, block);
+			}
+		};
+	}
+
+	/**
+	 * Create a filter which matches the rows not matched by this filter.
+	 *
+	 * @return  The new filter.
+	 *
+	 * @since   1.2
+	 */
+	public CsvFilter negate() {
+		return new CsvFilter() {
+			@Override
+			Predicate<CsvRow> bind(final Map<String, Integer> headerMap, final BitSet columns) {
+				return CsvFilter.this.bind(headerMap, columns).negate();
+			}
+		};
+	}
+
+	/**
+	 * Resolve the columns of this filter by the header of a CSV file.
+	 *
+	 * @param  headerMap
+	 *         The map from the name of a column to its index.
+	 *
+	 * @param  columns
+	 *         The set collects the indexes of the columns tested by this
+	 *         filter.
+	 *
+	 * @return  The predicate on the rows in the CSV file.
+	 *
+	 * @throws  NoSuchElementException
+	 *          If a column is not in the CSV file.
+	 *
+	 * @since   1.2
+	 */
+	abstract Predicate<CsvRow> bind(Map<String, Integer> headerMap, BitSet columns);
+
+	/**
+	 * Check whether a block of rows may have a row matched by this filter, 
+	 * by the statistics of the block. The filters without a range can not 
+	 * tell, so they always return {@code true}.
+	 *
+	 * @param  headerMap
+	 *         The map from the name of a column to its index.
+	 *
+	 * @param  block
+	 *         The statistics of the block.
+	 *
+	 * @return  {@code false} if no row in the block matches this filter.
+	 *
+	 * @since   1.2
+	 */
+	boolean mayMatch(final Map<String, Integer> headerMap, final CsvZoneMap.Block block) {
+		return true;
+	}
+
+	private static void checkNotNull(final Object object) {
+		if (object == null) {
+			throw new IllegalArgumentException("The predicate of a filter can not be null.");
+		}
+	}
+
+	/**
+	 * The filter on the cells of one column.
+	 */
+	private abstract static class ColumnFilter extends CsvFilter {
+		private final String columnName;
+
+		private ColumnFilter(final String columnName) {
+			if (columnName == null) {
+				throw new IllegalArgumentException("The column name of a filter can not be null.");
+			}
+			this.columnName = columnName;
+		}
+
+		@Override
+		Predicate<CsvRow> bind(final Map<String, Integer> headerMap, final BitSet columns) {
+			final Integer index = headerMap.get(columnName);
+			if (index == null) {
+				throw new NoSuchElementException("Can not find the column " + columnName + " in the CSV file.");
+			}
+
+			final int i = index;
+			columns.set(i);
+			return row -> i < row.size() && test(row, i);               // a short row doesn't match
+		}
+
+		@Override
+		boolean mayMatch(final Map<String, Integer> headerMap, final CsvZoneMap.Block block) {
+			final Integer index = headerMap.get(columnName);
+			return index == null || mayMatch(block, index);
+		}
+
+		abstract boolean test(CsvRow row, int index);
+
+		boolean mayMatch(final CsvZoneMap.Block block, final int index) {
+			return true;
+		}
+	}
+}
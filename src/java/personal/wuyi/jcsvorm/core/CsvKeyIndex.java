@@ -0,0 +1,327 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+
+/**
+ * The index from the values of a key column to the byte offsets of the
+ * records in a CSV file.
+ *
+ * <p>The index is a sidecar file next to the CSV file with the
+ * {@code .keyidx} suffix. It holds the 64-bit hashes of the key values in
+ * ascending order and the offsets of their records, both as fixed-width
+ * arrays, so a key is looked up by a binary search on the file without
+ * loading the index. The hashes can collide, the caller needs to compare
+ * the key value of each record found.
+ *
+ * <p>The index is rebuilt when the fingerprint of the CSV file is changed.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvKeyIndex implements Closeable {
+	static final String SUFFIX = ".keyidx";
+
+	private static final int MAGIC       = 0x4A434B49;                       // "JCKI"
+	private static final int VERSION     = 1;
+	private static final int HEADER_SIZE = 4 + 4 + 24 + 4 + 1 + 8;
+
+	private final FileChannel channel;
+	private final long        count;
+	private final ByteBuffer  buffer = ByteBuffer.allocate(Long.BYTES);
+
+	private CsvKeyIndex(final FileChannel channel, final long count) {
+		this.channel = channel;
+		this.count   = count;
+	}
+
+	/**
+	 * Get the path of the index file for a key column.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  keyColumn
+	 *         The 0-based index of the key column.
+	 *
+	 * @return  The path of the index file.
+	 *
+	 * @since   1.2
+	 */
+	static String getIndexFilePath(final String csvFilePath, final int keyColumn) {
+		return csvFilePath + "." + keyColumn + SUFFIX;
+	}
+
+	/**
+	 * Open the valid index of a key column, the index is built if it is
+	 * missing or out of date.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  charset
+	 *         The charset of the CSV file, it needs to be compatible with
+	 *         ASCII.
+	 *
+	 * @param  keyColumn
+	 *         The 0-based index of the key column.
+	 *
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header
+	 *         or not.
+	 *
+	 * @return  The index, it needs to be closed after use; or {@code null}
+	 *          if the index can not be saved because the directory is 
+	 *          read-only.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the CSV file.
+	 *
+	 * @since   1.2
+	 */
+	static CsvKeyIndex open(final String csvFilePath, final Charset charset, final int keyColumn, final HeaderOption header) throws IOException {
+		final CsvFileFingerprint fingerprint   = CsvFileFingerprint.of(csvFilePath);
+		final String             indexFilePath = getIndexFilePath(csvFilePath, keyColumn);
+
+		CsvKeyIndex index = openIfValid(indexFilePath, fingerprint, keyColumn, header);
+		if (index == null) {
+			if (!new File(indexFilePath).getAbsoluteFile().getParentFile().canWrite()) {
+				return null;
+			}
+			build(csvFilePath, charset, keyColumn, header);
+			index = openIfValid(indexFilePath, CsvFileFingerprint.of(csvFilePath), keyColumn, header);
+		}
+		return index;
+	}
+
+	private static CsvKeyIndex openIfValid(final String indexFilePath, final CsvFileFingerprint fingerprint, final int keyColumn, final HeaderOption header) throws IOException {
+		if (!new File(indexFilePath).isFile()) {
+			return null;
+		}
+
+		final FileChannel channel = FileChannel.open(Paths.get(indexFilePath), StandardOpenOption.READ);
+		try {
+			final DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), HEADER_SIZE));
+			if (channel.size() >= HEADER_SIZE && in.readInt() == MAGIC && in.readInt() == VERSION && CsvFileFingerprint.read(in).equals(fingerprint)
+					&& in.readInt() == keyColumn && in.readBoolean() == (header == HeaderOption.WITH_HEADER)) {
+				final long count = in.readLong();
+				if (channel.size() == HEADER_SIZE + count * 2 * Long.BYTES) {
+					return new CsvKeyIndex(channel, count);
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+		channel.close();                                                     // out of date, it will be rebuilt
+		return null;
+	}
+
+	/**
+	 * Build the index of a key column and save it next to the CSV file.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  charset
+	 *         The charset of the CSV file, it needs to be compatible with
+	 *         ASCII.
+	 *
+	 * @param  keyColumn
+	 *         The 0-based index of the key column.
+	 *
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header
+	 *         or not.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the CSV file or
+	 *          writing the index file.
+	 *
+	 * @since   1.2
+	 */
+	static void build(final String csvFilePath, final Charset charset, final int keyColumn, final HeaderOption header) throws IOException {
+		final CsvFileFingerprint fingerprint = CsvFileFingerprint.of(csvFilePath);         // taken before reading, so a concurrent change makes it stale
+
+		long[] hashes  = new long[1024];
+		long[] offsets = new long[1024];
+		int    size    = 0;
+		try (CsvMappedReader reader = new CsvMappedReader(csvFilePath, charset)) {
+			if (header == HeaderOption.WITH_HEADER) {
+				reader.skip(1);
+			}
+			reader.setProjection(keyColumn);
+			for (CsvMappedRow row = reader.next(); row != null; row = reader.next()) {
+				if (keyColumn >= row.size()) {
+					continue;
+				}
+				if (size == hashes.length) {
+					hashes  = Arrays.copyOf(hashes, size * 2);
+					offsets = Arrays.copyOf(offsets, size * 2);
+				}
+				hashes[size]  = hash(row.getCharSequence(keyColumn));
+				offsets[size] = reader.getRecordOffset();
+				size++;
+			}
+		}
+		sort(hashes, offsets, 0, size - 1);
+
+		final File file = new File(getIndexFilePath(csvFilePath, keyColumn));
+		final File temp = new File(file.getPath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			fingerprint.write(out);
+			out.writeInt(keyColumn);
+			out.writeBoolean(header == HeaderOption.WITH_HEADER);
+			out.writeLong(size);
+			for (int i = 0; i < size; i++) {
+				out.writeLong(hashes[i]);
+			}
+			for (int i = 0; i < size; i++) {
+				out.writeLong(offsets[i]);
+			}
+		}
+		Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);           // the readers never see a partial index
+	}
+
+	/**
+	 * Find the offsets of the records which may have a key value.
+	 *
+	 * @param  key
+	 *         The key value.
+	 *
+	 * @return  The byte offsets of the records in ascending order.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the index file.
+	 *
+	 * @since   1.2
+	 */
+	long[] find(final CharSequence key) throws IOException {
+		final long hash = hash(key);
+
+		long low  = 0;
+		long high = count;
+		while (low < high) {                                                 // the first entry not less than the hash
+			final long middle = (low + high) >>> 1;
+			if (readLong(HEADER_SIZE + middle * Long.BYTES) < hash) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+
+		long end = low;
+		while (end < count && readLong(HEADER_SIZE + end * Long.BYTES) == hash) {
+			end++;
+		}
+
+		final long[] offsets = new long[(int) (end - low)];
+		for (int i = 0; i < offsets.length; i++) {
+			offsets[i] = readLong(HEADER_SIZE + (count + low + i) * Long.BYTES);
+		}
+		Arrays.sort(offsets);
+		return offsets;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private long readLong(final long position) throws IOException {
+		buffer.clear();
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("The key index is truncated.");
+			}
+		}
+		return buffer.getLong(0);
+	}
+
+	/**
+	 * Get the 64-bit FNV-1a hash of a key value.
+	 */
+	static long hash(final CharSequence text) {
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < text.length(); i++) {
+			hash ^= text.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+		return hash;
+	}
+
+	/**
+	 * Sort the hashes and move the offsets together, by quick sort.
+	 */
+	private static void sort(final long[] hashes, final long[] offsets, int low, int high) {
+		while (low < high) {
+			final long pivot = hashes[(low + high) >>> 1];
+			int i = low;
+			int j = high;
+			while (i <= j) {
+				while (hashes[i] < pivot) {
+					i++;
+				}
+				while (hashes[j] > pivot) {
+					j--;
+				}
+				if (i <= j) {
+					swap(hashes, i, j);
+					swap(offsets, i, j);
+					i++;
+					j--;
+				}
+			}
+			if (j - low < high - i) {                                    // recurse into the smaller part
+				sort(hashes, offsets, low, j);
+				low = i;
+			} else {
+				sort(hashes, offsets, i, high);
+				high = j;
+			}
+		}
+	}
+
+	private static void swap(final long[] array, final int i, final int j) {
+		final long temp = array[i];
+		array[i] = array[j];
+		array[j] = temp;
+	}
+}
@@ -0,0 +1,475 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The reader tokenizes a CSV file from the bytes mapped into memory.
+ *
+ * <p>The file is mapped by {@code FileChannel.map} in windows, so it works 
+ * for the files larger than 2 GB. When a record crosses the end of a 
+ * window, the next window is mapped from the start of that record. The 
+ * records follow the same rules as {@code CSVFormat.DEFAULT}: the values 
+ * are separated by comma, the quote character is {@code "}, the line 
+ * breaks can be LF, CR or CRLF and the empty lines are ignored.
+ *
+ * <p>The file needs to be encoded by a charset which is compatible with 
+ * ASCII, the values are decoded only when they are needed.
+ *
+ * <p>A projection can be set to tokenize only the columns which are needed. 
+ * The other columns are skipped without recording their positions, and 
+ * after the last needed column the rest of the record is only scanned for 
+ * its end. The records can be skipped in the same way.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvMappedReader implements Closeable {
+	static final int DEFAULT_WINDOW_SIZE = 1 << 26;
+
+	private static final byte COMMA           = ',';
+	private static final byte QUOTE           = '"';
+	private static final byte LINE_FEED       = '\n';
+	private static final byte CARRIAGE_RETURN = '\r';
+
+	private final FileChannel  channel;
+	private final long         fileSize;
+	private final CsvMappedRow row;
+	private int                windowSize;
+	private long               windowStart;
+	private MappedByteBuffer   buffer;
+	private int                limit;
+	private int                position;
+	private long               recordNumber;
+	private long               recordOffset;
+	private boolean[]          projection;
+	private int                lastColumn = Integer.MAX_VALUE;
+
+	/**
+	 * Construct a new {@code CsvMappedReader}.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  charset
+	 *         The charset of the CSV file.
+	 *
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 *
+	 * @since   1.2
+	 */
+	CsvMappedReader(final String csvFilePath, final Charset charset) throws IOException {
+		this(csvFilePath, charset, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Construct a new {@code CsvMappedReader}.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  charset
+	 *         The charset of the CSV file.
+	 *
+	 * @param  windowSize
+	 *         The number of bytes mapped at a time.
+	 *
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 *
+	 * @since   1.2
+	 */
+	CsvMappedReader(final String csvFilePath, final Charset charset, final int windowSize) throws IOException {
+		this.channel    = FileChannel.open(Paths.get(csvFilePath), StandardOpenOption.READ);
+		this.fileSize   = channel.size();
+		this.row        = new CsvMappedRow(charset);
+		this.windowSize = windowSize;
+		map(0);
+	}
+
+	/**
+	 * Read the next record.
+	 *
+	 * @return  The row of the next record, the same object is returned for 
+	 *          all the records; or {@code null} if there are no more records.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the CSV file or the 
+	 *          CSV file is malformed.
+	 *
+	 * @since   1.2
+	 */
+	CsvMappedRow next() throws IOException {
+		return advance(false) ? row : null;
+	}
+
+	/**
+	 * Skip the next records, the records are only scanned for their ends 
+	 * without being tokenized.
+	 *
+	 * @param  count
+	 *         The number of records to skip.
+	 *
+	 * @return  The number of records skipped, which is less than 
+	 *          {@code count} if the end of the file is reached.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the CSV file or the 
+	 *          CSV file is malformed.
+	 *
+	 * @since   1.2
+	 */
+	long skip(final long count) throws IOException {
+		long skipped = 0;
+		while (skipped < count && advance(true)) {
+			skipped++;
+		}
+		return skipped;
+	}
+
+	private boolean advance(final boolean skip) throws IOException {
+		while (true) {
+			skipEmptyLines();
+			if (position >= limit && isLastWindow()) {
+				return false;
+			}
+
+			final int recordStart = position;
+			if (skip ? skipRest(position, isLastWindow()) : tokenize()) {
+				recordNumber++;
+				recordOffset = windowStart + recordStart;
+				return true;
+			}
+
+			// the record crosses the end of the window
+			if (recordStart == 0) {                       // the record is larger than the window
+				if (windowSize == Integer.MAX_VALUE) {
+					throw new IOException("The record " + (recordNumber + 1) + " is larger than " + Integer.MAX_VALUE + " bytes.");
+				}
+				windowSize = (int) Math.min(Integer.MAX_VALUE, windowSize * 2L);
+			}
+			map(windowStart + recordStart);
+		}
+	}
+
+	/**
+	 * Set the columns need to be tokenized for the next records.
+	 *
+	 * <p>The row only has the columns up to the last one in the projection, 
+	 * and the values of the columns which are not in the projection can not 
+	 * be read.
+	 *
+	 * @param  columnIndexes
+	 *         The 0-based indexes of the columns, or {@code null} for all 
+	 *         the columns.
+	 *
+	 * @since   1.2
+	 */
+	void setProjection(final int... columnIndexes) {
+		if (columnIndexes == null) {
+			projection = null;
+			lastColumn = Integer.MAX_VALUE;
+			return;
+		}
+
+		int max = -1;
+		for (int index : columnIndexes) {
+			max = Math.max(max, index);
+		}
+		projection = new boolean[max + 1];
+		for (int index : columnIndexes) {
+			if (index >= 0) {
+				projection[index] = true;
+			}
+		}
+		lastColumn = max;
+	}
+
+	/**
+	 * Move to the start of a record, the next record is read from there.
+	 *
+	 * @param  offset
+	 *         The byte offset of the record in the file, it needs to be the 
+	 *         start of a record.
+	 *
+	 * @param  recordNumber
+	 *         The number of records before that record.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the CSV file.
+	 *
+	 * @since   1.2
+	 */
+	void seek(final long offset, final long recordNumber) throws IOException {
+		if (offset < 0 || offset > fileSize) {
+			throw new IllegalArgumentException("The offset needs to be from 0 to " + fileSize + ", but it is " + offset + " right now.");
+		}
+		map(offset);
+		this.recordNumber = recordNumber;
+	}
+
+	/**
+	 * Get the byte offset of the last record read or skipped in the file.
+	 *
+	 * @return  The offset of the first byte of the record.
+	 *
+	 * @since   1.2
+	 */
+	long getRecordOffset() {
+		return recordOffset;
+	}
+
+	/**
+	 * Get the number of records read so far, which is also the 1-based 
+	 * number of the current record.
+	 *
+	 * @return  The number of records.
+	 *
+	 * @since   1.2
+	 */
+	long getRecordNumber() {
+		return recordNumber;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private void map(final long start) throws IOException {
+		final long length = Math.min(windowSize, fileSize - start);
+		this.buffer      = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+		this.windowStart = start;
+		this.limit       = (int) length;
+		this.position    = 0;
+	}
+
+	private boolean isLastWindow() {
+		return windowStart + limit >= fileSize;
+	}
+
+	private void skipEmptyLines() throws IOException {
+		while (true) {
+			while (position < limit) {
+				final byte b = buffer.get(position);
+				if (b != LINE_FEED && b != CARRIAGE_RETURN) {
+					return;
+				}
+				position++;
+			}
+			if (isLastWindow()) {
+				return;
+			}
+			map(windowStart + position);
+		}
+	}
+
+	/**
+	 * Tokenize one record from the current position.
+	 *
+	 * @return  {@code true} if a whole record is tokenized; 
+	 *          {@code false} if the record crosses the end of the window.
+	 */
+	private boolean tokenize() throws IOException {
+		final boolean last = isLastWindow();
+		int p = position;
+
+		row.reset(buffer);
+		if (lastColumn < 0) {
+			return skipRest(p, last);
+		}
+		while (true) {
+			final boolean needed = projection == null || projection[row.size()];
+			if (p < limit && buffer.get(p) == QUOTE) {
+				final int start   = ++p;
+				boolean   escaped = false;
+				while (true) {
+					if (p >= limit) {
+						if (last) {
+							throw new IOException("EOF reached before encapsulated token finished at record " + (recordNumber + 1) + ".");
+						}
+						return false;
+					}
+					if (buffer.get(p) == QUOTE) {
+						if (p + 1 < limit && buffer.get(p + 1) == QUOTE) {
+							escaped = true;
+							p += 2;
+							continue;
+						}
+						if (p + 1 >= limit && !last) {
+							return false;
+						}
+						break;
+					}
+					p++;
+				}
+				if (needed) {
+					row.add(start, p, escaped);
+				} else {
+					row.skip();
+				}
+				p = skipWhitespace(p + 1);                // the closing quote and the whitespace after it, like commons-csv
+				if (p >= limit && !last) {
+					return false;
+				}
+			} else {
+				final int start = p;
+				while (p < limit) {
+					final byte b = buffer.get(p);
+					if (b == COMMA || b == LINE_FEED || b == CARRIAGE_RETURN) {
+						break;
+					}
+					p++;
+				}
+				if (p >= limit && !last) {
+					return false;
+				}
+				if (needed) {
+					row.add(start, p, false);
+				} else {
+					row.skip();
+				}
+			}
+
+			if (p >= limit) {                             // the end of the file
+				position = p;
+				return true;
+			}
+
+			final byte b = buffer.get(p);
+			if (b == COMMA) {
+				p++;
+				if (row.size() > lastColumn) {
+					return skipRest(p, last);
+				}
+			} else if (b == LINE_FEED) {
+				position = p + 1;
+				return true;
+			} else if (b == CARRIAGE_RETURN) {
+				if (p + 1 >= limit && !last) {
+					return false;
+				}
+				position = p + 1 < limit && buffer.get(p + 1) == LINE_FEED ? p + 2 : p + 1;
+				return true;
+			} else {
+				throw new IOException("Invalid char between encapsulated token and delimiter at record " + (recordNumber + 1) + ".");
+			}
+		}
+	}
+
+	/**
+	 * Skip the whitespace after the closing quote of a value, which is 
+	 * ignored by commons-csv as well.
+	 *
+	 * @return  The position of the first byte which is not whitespace, or 
+	 *          the end of the window.
+	 */
+	private int skipWhitespace(int p) {
+		while (p < limit) {
+			final byte b = buffer.get(p);
+			if (b != ' ' && b != '\t' && b != 0x0B && b != 0x0C && (b < 0x1C || b > 0x1F)) {      // Character.isWhitespace without the line breaks
+				break;
+			}
+			p++;
+		}
+		return p;
+	}
+
+	/**
+	 * Skip the rest of a record from the start of a column, only the quoted 
+	 * values are tracked for finding the end of the record.
+	 *
+	 * @return  {@code true} if the end of the record is found; 
+	 *          {@code false} if the record crosses the end of the window.
+	 */
+	private boolean skipRest(int p, final boolean last) throws IOException {
+		boolean columnStart = true;
+		while (true) {
+			if (p >= limit) {
+				if (!last) {
+					return false;
+				}
+				position = p;
+				return true;
+			}
+
+			final byte b = buffer.get(p);
+			if (columnStart && b == QUOTE) {
+				p++;
+				while (true) {
+					if (p >= limit) {
+						if (last) {
+							throw new IOException("EOF reached before encapsulated token finished at record " + (recordNumber + 1) + ".");
+						}
+						return false;
+					}
+					if (buffer.get(p) == QUOTE) {
+						if (p + 1 >= limit && !last) {
+							return false;
+						}
+						if (p + 1 < limit && buffer.get(p + 1) == QUOTE) {
+							p += 2;
+							continue;
+						}
+						p++;                              // the closing quote
+						break;
+					}
+					p++;
+				}
+				p = skipWhitespace(p);
+				if (p >= limit && !last) {
+					return false;
+				}
+				if (p < limit) {
+					final byte next = buffer.get(p);
+					if (next != COMMA && next != LINE_FEED && next != CARRIAGE_RETURN) {
+						throw new IOException("Invalid char between encapsulated token and delimiter at record " + (recordNumber + 1) + ".");
+					}
+				}
+				columnStart = false;
+				continue;
+			}
+
+			columnStart = false;
+			if (b == COMMA) {
+				columnStart = true;
+				p++;
+			} else if (b == LINE_FEED) {
+				position = p + 1;
+				return true;
+			} else if (b == CARRIAGE_RETURN) {
+				if (p + 1 >= limit && !last) {
+					return false;
+				}
+				position = p + 1 < limit && buffer.get(p + 1) == LINE_FEED ? p + 2 : p + 1;
+				return true;
+			} else {
+				p++;
+			}
+		}
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import personal.wuyi.jcsvorm.api.CsvRow;
+
+/**
+ * The row over the bytes of one record in a mapped CSV file.
+ *
+ * <p>The row only keeps the offsets of the columns, the value of a column 
+ * is decoded when it is needed. The same object is reused for all the 
+ * records by {@code CsvMappedReader}, so it is only valid until the next 
+ * record is read.
+ *
+ * <p>{@code getCharSequence} returns a view over the bytes if the value is 
+ * ASCII, and the typed getters parse the numbers from that view by 
+ * {@code CsvNumbers}, so reading these values doesn't create any object.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvMappedRow implements CsvRow {
+	private static final byte QUOTE = '"';
+
+	private final Charset charset;
+	private ByteBuffer    buffer;
+	private int           size;
+	private int[]         starts  = new int[16];
+	private int[]         ends    = new int[16];
+	private boolean[]     escaped = new boolean[16];
+	private byte[]        bytes   = new byte[64];
+	private final AsciiSequence sequence = new AsciiSequence();
+
+	CsvMappedRow(final Charset charset) {
+		this.charset = charset;
+	}
+
+	/**
+	 * Start a new record.
+	 *
+	 * @param  buffer
+	 *         The buffer which the record is in.
+	 *
+	 * @since   1.2
+	 */
+	void reset(final ByteBuffer buffer) {
+		this.buffer = buffer;
+		this.size   = 0;
+	}
+
+	/**
+	 * Add a column into the record.
+	 *
+	 * @param  start
+	 *         The start position of the column in the buffer (inclusive).
+	 *
+	 * @param  end
+	 *         The end position of the column in the buffer (exclusive).
+	 *
+	 * @param  hasEscapedQuote
+	 *         The value has the escaped quote characters ({@code ""}).
+	 *
+	 * @since   1.2
+	 */
+	void add(final int start, final int end, final boolean hasEscapedQuote) {
+		if (size == starts.length) {
+			starts  = Arrays.copyOf(starts,  size * 2);
+			ends    = Arrays.copyOf(ends,    size * 2);
+			escaped = Arrays.copyOf(escaped, size * 2);
+		}
+		starts[size]  = start;
+		ends[size]    = end;
+		escaped[size] = hasEscapedQuote;
+		size++;
+	}
+
+	/**
+	 * Add a column which is not in the projection, its value can not be 
+	 * read.
+	 *
+	 * @since   1.2
+	 */
+	void skip() {
+		add(-1, -1, false);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public String get(final int index) {
+		checkIndex(index);
+
+		final int start  = starts[index];
+		final int length = ends[index] - start;
+		if (length == 0) {
+			return "";
+		}
+		if (bytes.length < length) {
+			bytes = new byte[Math.max(length, bytes.length * 2)];
+		}
+
+		int n = 0;
+		if (escaped[index]) {
+			for (int i = start; i < start + length; i++) {
+				final byte b = buffer.get(i);
+				bytes[n++] = b;
+				if (b == QUOTE) {
+					i++;                                  // skip the second quote of ""
+				}
+			}
+		} else {
+			for (int i = start; i < start + length; i++) {
+				bytes[n++] = buffer.get(i);
+			}
+		}
+		return new String(bytes, 0, n, charset);
+	}
+
+	@Override
+	public CharSequence getCharSequence(final int index) {
+		checkIndex(index);
+
+		if (escaped[index]) {
+			return get(index);
+		}
+		for (int i = starts[index]; i < ends[index]; i++) {
+			if (buffer.get(i) < 0) {                      // not ASCII
+				return get(index);
+			}
+		}
+		sequence.reset(starts[index], ends[index]);
+		return sequence;
+	}
+
+	@Override
+	public int getInt(final int index) {
+		return CsvNumbers.parseInt(getCharSequence(index));
+	}
+
+	@Override
+	public long getLong(final int index) {
+		return CsvNumbers.parseLong(getCharSequence(index));
+	}
+
+	@Override
+	public double getDouble(final int index) {
+		return CsvNumbers.parseDouble(getCharSequence(index));
+	}
+
+	@Override
+	public boolean isNull(final int index) {
+		checkIndex(index);
+		return starts[index] == ends[index];
+	}
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= size) {
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+		if (starts[index] < 0) {
+			throw new IllegalStateException("The column " + index + " is not in the projection.");
+		}
+	}
+
+	/**
+	 * Get the values of all the columns.
+	 *
+	 * @return  The array of values.
+	 *
+	 * @since   1.2
+	 */
+	String[] toArray() {
+		final String[] values = new String[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = get(i);
+		}
+		return values;
+	}
+
+	/**
+	 * The view over the ASCII bytes of one column.
+	 */
+	private final class AsciiSequence implements CharSequence {
+		private int start;
+		private int end;
+
+		private void reset(final int start, final int end) {
+			this.start = start;
+			this.end   = end;
+		}
+
+		@Override
+		public int length() {
+			return end - start;
+		}
+
+		@Override
+		public char charAt(final int index) {
+			if (index < 0 || index >= end - start) {
+				throw new StringIndexOutOfBoundsException(index);
+			}
+			return (char) buffer.get(start + index);
+		}
+
+		@Override
+		public CharSequence subSequence(final int from, final int to) {
+			return toString().subSequence(from, to);
+		}
+
+		@Override
+		public String toString() {
+			final char[] chars = new char[end - start];
+			for (int i = 0; i < chars.length; i++) {
+				chars[i] = (char) buffer.get(start + i);
+			}
+			return new String(chars);
+		}
+	}
+}
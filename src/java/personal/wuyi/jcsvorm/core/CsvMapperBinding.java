@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import personal.wuyi.jcsvorm.api.CsvMapper;
+
+/**
+ * The binding between the columns in a {@code CsvMapping} and the slots of 
+ * a {@code CsvMapper}.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvMapperBinding<T> {
+	private final CsvMapper<T> mapper;
+	private final int[]        slots;
+
+	private CsvMapperBinding(final CsvMapper<T> mapper, final int[] slots) {
+		this.mapper = mapper;
+		this.slots  = slots;
+	}
+
+	/**
+	 * Bind a mapper to the columns of a {@code CsvMapping}.
+	 *
+	 * @param  mapping
+	 *         The compiled mapping model of a class.
+	 *
+	 * @param  mapper
+	 *         The mapper for the same class.
+	 *
+	 * @return  The binding or {@code null} if the fields handled by the 
+	 *          mapper don't match the columns in the mapping.
+	 *
+	 * @since   1.2
+	 */
+	static <T> CsvMapperBinding<T> of(final CsvMapping<T> mapping, final CsvMapper<T> mapper) {
+		final List<CsvColumnMapping> columnList = mapping.getColumnList();
+		final String[]               fieldNames = mapper.getFieldNames();
+		if (fieldNames.length != columnList.size()) {
+			return null;
+		}
+		
+		final Map<String, Integer> slotMap = new HashMap<>();
+		for (int i = 0; i < fieldNames.length; i++) {
+			slotMap.put(fieldNames[i], i);
+		}
+
+		final int[] slots = new int[columnList.size()];
+		for (int i = 0; i < slots.length; i++) {
+			final Integer slot = slotMap.remove(columnList.get(i).getField().getName());
+			if (slot == null) {
+				return null;
+			}
+			slots[i] = slot;
+		}
+
+		return new CsvMapperBinding<>(mapper, slots);
+	}
+
+	/**
+	 * Bind a mapper whose slots are in the same order as the columns in the 
+	 * mapping.
+	 *
+	 * @param  mapper
+	 *         The mapper for the class.
+	 *
+	 * @param  size
+	 *         The number of columns.
+	 *
+	 * @return  The binding.
+	 *
+	 * @since   1.2
+	 */
+	static <T> CsvMapperBinding<T> direct(final CsvMapper<T> mapper, final int size) {
+		final int[] slots = new int[size];
+		for (int i = 0; i < size; i++) {
+			slots[i] = i;
+		}
+		return new CsvMapperBinding<>(mapper, slots);
+	}
+
+	/**
+	 * Get the slot in the mapper for a column.
+	 *
+	 * @param  columnMapping
+	 *         The column in the mapping.
+	 *
+	 * @return  The slot in the mapper.
+	 *
+	 * @since   1.2
+	 */
+	int getSlot(final CsvColumnMapping columnMapping) {
+		return slots[columnMapping.getIndex()];
+	}
+
+	CsvMapper<T> getMapper() { return mapper;       }
+	int          size()      { return slots.length; }
+}
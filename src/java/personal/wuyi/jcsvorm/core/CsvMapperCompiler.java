@@ -0,0 +1,311 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.security.CodeSource;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import personal.wuyi.jcsvorm.api.CsvMapper;
+import personal.wuyi.jcsvorm.codegen.CsvColumnKind;
+import personal.wuyi.jcsvorm.codegen.CsvMapperWriter;
+
+/**
+ * The compiler for generating a dedicated {@code CsvMapper} class for a 
+ * class annotated by {@code CsvEntity} at runtime.
+ *
+ * <p>The source of the mapper is generated by {@code CsvMapperWriter} and 
+ * compiled in memory by the system Java compiler, then the class is defined 
+ * in a child class loader of the loader of the entity class. Like the 
+ * reflective mapper, the generated mapper reads and writes the fields 
+ * directly and never calls the setters and getters. As the mapper is in 
+ * another class loader, the entity class needs to be public and has a 
+ * public no-arg constructor. The public fields are accessed by the mapper 
+ * directly, and the other fields (like the private fields) are accessed by 
+ * their {@code MethodHandle}s, but none of the mapped fields can be final. 
+ * If a class can not be handled, or there is no system Java compiler 
+ * (running on a JRE), {@code null} is returned and the caller falls back 
+ * to the reflective mapper.
+ *
+ * <p>Generating mappers at runtime is disabled by default, it can be enabled 
+ * by setting the system property {@code jcsvorm.mapper.generate} to 
+ * {@code true}.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvMapperCompiler {
+	static final String GENERATE_PROPERTY = "jcsvorm.mapper.generate";
+
+	private CsvMapperCompiler() {}
+
+	/**
+	 * Check generating mappers at runtime is enabled or not.
+	 *
+	 * @return  {@code true} if it is enabled;
+	 *          {@code false} otherwise.
+	 *
+	 * @since   1.2
+	 */
+	static boolean isEnabled() {
+		return Boolean.getBoolean(GENERATE_PROPERTY);
+	}
+
+	/**
+	 * Compile a dedicated mapper for a class.
+	 *
+	 * @param  mapping
+	 *         The compiled mapping model of the class.
+	 *
+	 * @return  The new mapper or {@code null} if the mapper can not be 
+	 *          generated for the class.
+	 *
+	 * @since   1.2
+	 */
+	static <T> CsvMapper<T> compile(final CsvMapping<T> mapping) {
+		final Class<T> clazz = mapping.getEntityClass();
+		final String   source = generateSource(mapping);
+		if (source == null) {
+			return null;
+		}
+
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		if (compiler == null) {
+			return null;
+		}
+
+		try {
+			final ClassLoader parent = clazz.getClassLoader();
+			if (parent == null || Class.forName(CsvMapper.class.getName(), false, parent) != CsvMapper.class) {
+				return null;
+			}
+
+			final String mapperName = getMapperName(clazz);
+			final MemoryFileManager fileManager = new MemoryFileManager(compiler.getStandardFileManager(null, null, null));
+			final JavaFileObject sourceFile = new SimpleJavaFileObject(URI.create("string:///" + mapperName.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+				@Override
+				public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+					return source;
+				}
+			};
+
+			final Boolean success = compiler.getTask(null, fileManager, diagnostic -> {}, Arrays.asList("-classpath", getClassPath(clazz), "-proc:none"), null, Arrays.asList(sourceFile)).call();
+			if (!Boolean.TRUE.equals(success)) {
+				return null;
+			}
+
+			final Class<?> mapperClass = new MapperClassLoader(parent, fileManager.getClassBytes()).loadClass(mapperName);
+			@SuppressWarnings("unchecked")
+			final CsvMapper<T> mapper = (CsvMapper<T>) mapperClass.getConstructor().newInstance();
+			return mapper;
+		} catch (Exception | LinkageError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Generate the Java source of the mapper for a class.
+	 *
+	 * @param  mapping
+	 *         The compiled mapping model of the class.
+	 *
+	 * @return  The Java source or {@code null} if the mapper can not be 
+	 *          generated for the class.
+	 *
+	 * @since   1.2
+	 */
+	static String generateSource(final CsvMapping<?> mapping) {
+		final Class<?> clazz = mapping.getEntityClass();
+		if (!isPublicClass(clazz) || Modifier.isAbstract(clazz.getModifiers())) {
+			return null;
+		}
+
+		try {
+			clazz.getConstructor();
+		} catch (NoSuchMethodException | SecurityException e) {
+			return null;
+		}
+
+		final String name        = clazz.getName();
+		final int    index       = name.lastIndexOf('.');
+		final String packageName = index < 0 ? "" : name.substring(0, index);
+
+		final CsvMapperWriter writer = new CsvMapperWriter(packageName, getMapperName(clazz).substring(index + 1), clazz.getCanonicalName());
+		final Set<String> fieldNameSet = new HashSet<>();
+		for (CsvColumnMapping columnMapping : mapping.getColumnList()) {
+			final Field         field = columnMapping.getField();
+			final CsvColumnKind kind  = CsvColumnKind.of(field.getType());
+			if (columnMapping.isStaticField() || kind == null || !fieldNameSet.add(field.getName())) {
+				return null;
+			}
+			if (kind.isDate() && columnMapping.getColumn().format().isEmpty()) {
+				return null;
+			}
+
+			if (Modifier.isFinal(field.getModifiers())) {               // the same field access as the reflective mapper
+				return null;
+			}
+
+			if (Modifier.isPublic(field.getModifiers()) && Modifier.isPublic(field.getDeclaringClass().getModifiers())) {
+				writer.addColumn(field.getName(), kind, columnMapping.getColumn().format(), "t." + field.getName(), "t." + field.getName() + " = {}");
+			} else {                                                    // the mapper is in another runtime package
+				writer.addHandleColumn(field.getName(), kind, columnMapping.getColumn().format());
+			}
+		}
+
+		return writer.write();
+	}
+
+	/**
+	 * Get the binary name of the mapper class for a class.
+	 *
+	 * @param  clazz
+	 *         The class annotated by {@code CsvEntity}.
+	 *
+	 * @return  The binary name of the mapper class.
+	 *
+	 * @since   1.2
+	 */
+	static String getMapperName(final Class<?> clazz) {
+		final String name  = clazz.getName();
+		final int    index = name.lastIndexOf('.');
+		return name.substring(0, index + 1) + CsvMapperWriter.getMapperClassName(name.substring(index + 1));
+	}
+
+	/**
+	 * Check a class and all its enclosing classes are public, and all the 
+	 * member classes are static.
+	 *
+	 * @param  clazz
+	 *         The class needs to be checked.
+	 *
+	 * @return  {@code true} if the class can be accessed by the mapper;
+	 *          {@code false} otherwise.
+	 *
+	 * @since   1.2
+	 */
+	private static boolean isPublicClass(final Class<?> clazz) {
+		for (Class<?> c = clazz; c != null; c = c.getEnclosingClass()) {
+			if (!Modifier.isPublic(c.getModifiers()) || c.isLocalClass() || c.isAnonymousClass()) {
+				return false;
+			}
+			if (c.isMemberClass() && !Modifier.isStatic(c.getModifiers())) {
+				return false;
+			}
+		}
+		return clazz.getCanonicalName() != null;
+	}
+
+	/**
+	 * Get the class path for compiling the mapper, which is the class path 
+	 * of this JVM plus the locations of the entity class and this library.
+	 *
+	 * @param  clazz
+	 *         The class annotated by {@code CsvEntity}.
+	 *
+	 * @return  The class path.
+	 *
+	 * @since   1.2
+	 */
+	private static String getClassPath(final Class<?> clazz) {
+		final Set<String> pathSet = new LinkedHashSet<>();
+		for (Class<?> c : Arrays.asList(clazz, CsvMapper.class)) {
+			try {
+				final CodeSource codeSource = c.getProtectionDomain().getCodeSource();
+				if (codeSource != null && codeSource.getLocation() != null) {
+					pathSet.add(new File(codeSource.getLocation().toURI()).getPath());
+				}
+			} catch (Exception e) {
+				// rely on the class path of this JVM
+			}
+		}
+		pathSet.add(System.getProperty("java.class.path"));
+		return String.join(File.pathSeparator, pathSet);
+	}
+
+	/**
+	 * The file manager keeps the compiled classes in memory.
+	 */
+	private static final class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+		private final Map<String, ByteArrayOutputStream> classMap = new HashMap<>();
+
+		private MemoryFileManager(final StandardJavaFileManager fileManager) {
+			super(fileManager);
+		}
+
+		@Override
+		public JavaFileObject getJavaFileForOutput(Location location, final String className, JavaFileObject.Kind kind, FileObject sibling) {
+			return new SimpleJavaFileObject(URI.create("bytes:///" + className.replace('.', '/') + kind.extension), kind) {
+				@Override
+				public OutputStream openOutputStream() {
+					final ByteArrayOutputStream out = new ByteArrayOutputStream();
+					classMap.put(className, out);
+					return out;
+				}
+			};
+		}
+
+		private Map<String, byte[]> getClassBytes() {
+			final Map<String, byte[]> map = new HashMap<>();
+			for (Map.Entry<String, ByteArrayOutputStream> entry : classMap.entrySet()) {
+				map.put(entry.getKey(), entry.getValue().toByteArray());
+			}
+			return map;
+		}
+	}
+
+	/**
+	 * The class loader defines the compiled mapper classes.
+	 */
+	private static final class MapperClassLoader extends ClassLoader {
+		private final Map<String, byte[]> classMap;
+
+		private MapperClassLoader(final ClassLoader parent, final Map<String, byte[]> classMap) {
+			super(parent);
+			this.classMap = classMap;
+		}
+
+		@Override
+		protected Class<?> findClass(final String name) throws ClassNotFoundException {
+			final byte[] bytes = classMap.get(name);
+			if (bytes == null) {
+				throw new ClassNotFoundException(name);
+			}
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+	}
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.api.CsvMapper;
+import personal.wuyi.jcsvorm.annotation.CsvColumn;
+import personal.wuyi.jcsvorm.annotation.CsvEntity;
+import personal.wuyi.jcsvorm.annotation.CsvKey;
+import personal.wuyi.reflect.ReflectUtil;
+
+/**
+ * The compiled mapping model of a Java class used for ORM.
+ *
+ * <p>All the reflection work on a class (looking up the fields annotated by
+ * {@code CsvColumn}, reading the annotations, making the fields accessible,
+ * verifying the parameters and sorting the columns) is done only once per
+ * class. The result is cached by {@code ClassValue}, so it is thread-safe and
+ * it will be released together with the class.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvMapping<T> {
+	private static final ClassValue<CsvMapping<?>> CACHE = new ClassValue<CsvMapping<?>>() {
+		@Override
+		protected CsvMapping<?> computeValue(Class<?> type) {
+			return new CsvMapping<>(type);
+		}
+	};
+
+	private final Class<T>                      clazz;
+	private final boolean                       entity;
+	private final Constructor<T>                constructor;
+	private final List<CsvColumnMapping>        columnList;
+	private final List<CsvColumnMapping>        posSortedColumnList;
+	private final Map<String, CsvColumnMapping> nameMap;
+	private final String                        withHeaderError;
+	private final String                        withoutHeaderError;
+	private final List<CsvColumnMapping>        keyColumnList;
+	private volatile CsvMapperBinding<T>        binding;
+
+	/**
+	 * Construct a new {@code CsvMapping}.
+	 *
+	 * @param  clazz
+	 *         The class needs to be compiled.
+	 *
+	 * @since   1.2
+	 */
+	private CsvMapping(final Class<T> clazz) {
+		this.clazz       = clazz;
+		this.entity      = clazz.getAnnotation(CsvEntity.class) != null;
+		this.constructor = getNoArgConstructor(clazz);
+
+		final List<CsvColumnMapping> list = new ArrayList<>();
+		final List<CsvColumnMapping> keyList = new ArrayList<>();
+		final Map<String, CsvColumnMapping> map = new HashMap<>();
+		for (Field field : FieldUtils.getFieldsListWithAnnotation(clazz, CsvColumn.class)) {
+			final CsvColumnMapping columnMapping = new CsvColumnMapping(list.size(), field);
+			list.add(columnMapping);
+			if (!map.containsKey(columnMapping.getName())) {
+				map.put(columnMapping.getName(), columnMapping);
+			}
+			if (field.getAnnotation(CsvKey.class) != null) {
+				keyList.add(columnMapping);
+			}
+		}
+		this.columnList    = Collections.unmodifiableList(list);
+		this.nameMap       = map;
+		this.keyColumnList = keyList;
+
+		final List<CsvColumnMapping> sortedList = new ArrayList<>(list);
+		if (CsvFactory.checkPosSequentialAndNoRepeat(sortedList)) {
+			CsvFactory.sortFieldListByPos(sortedList);
+		}
+		this.posSortedColumnList = Collections.unmodifiableList(sortedList);
+
+		this.withHeaderError    = findParameterError(list, HeaderOption.WITH_HEADER);
+		this.withoutHeaderError = findParameterError(list, HeaderOption.WITHOUT_HEADER);
+	}
+
+	/**
+	 * Get the compiled mapping model of a class.
+	 *
+	 * @param  clazz
+	 *         The class needs to be mapped.
+	 *
+	 * @return  The cached {@code CsvMapping} of the class.
+	 *
+	 * @since   1.2
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> CsvMapping<T> of(final Class<T> clazz) {
+		return (CsvMapping<T>) CACHE.get(clazz);
+	}
+
+	/**
+	 * Get the no-arg constructor of a class and make it accessible.
+	 *
+	 * @param  clazz
+	 *         The class needs to be instantiated.
+	 *
+	 * @return  The no-arg constructor or {@code null} if the class doesn't
+	 *          have one.
+	 *
+	 * @since   1.2
+	 */
+	private static <T> Constructor<T> getNoArgConstructor(final Class<T> clazz) {
+		try {
+			final Constructor<T> ctor = clazz.getDeclaredConstructor();
+			ctor.setAccessible(true);
+			return ctor;
+		} catch (NoSuchMethodException | SecurityException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Find the first violation of the rules for the {@code CsvColumn}
+	 * annotation under a certain header option.
+	 *
+	 * @param  list
+	 *         The list of {@code CsvColumnMapping} objects.
+	 *
+	 * @param  header
+	 *         The option to specify CSV file has the first line as header or not.
+	 *
+	 * @return  The error message or {@code null} if there is no violation.
+	 *
+	 * @since   1.2
+	 */
+	private static String findParameterError(final List<CsvColumnMapping> list, final HeaderOption header) {
+		for (CsvColumnMapping columnMapping : list) {
+			final String fieldName = columnMapping.getField().getName();
+
+			if (header == HeaderOption.WITHOUT_HEADER) {
+				if (!columnMapping.hasPos()) {
+					return "For field " + fieldName + ", pos parameter is required for the CsvColumn annotation when the CSV file doesn't have header line.";
+				}
+			} else if (header == HeaderOption.WITH_HEADER && !columnMapping.hasPos() && columnMapping.getName().isEmpty()) {
+				return "For field " + fieldName + ", must specify at least one parameter among pos and name in the CsvColumn annotation when the CSV file has a header line.";
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Check the class has annotated by {@code CsvEntity}.
+	 *
+	 * @since   1.2
+	 */
+	void checkEntity() {
+		if (!entity) {
+			throw new IllegalArgumentException(clazz.getSimpleName() + " needs to have " + CsvEntity.class.getSimpleName() + " anntation.");
+		}
+	}
+
+	/**
+	 * Check the parameters in each {@code CsvColumn} annotation based on
+	 * different header options.
+	 *
+	 * @param  header
+	 *         The option to specify CSV file has the first line as header or not.
+	 *
+	 * @since   1.2
+	 */
+	void verify(final HeaderOption header) {
+		final String error = header == HeaderOption.WITH_HEADER ? withHeaderError : (header == HeaderOption.WITHOUT_HEADER ? withoutHeaderError : null);
+		if (error != null) {
+			throw new IllegalArgumentException(error);
+		}
+	}
+
+	/**
+	 * Create a new instance of the class.
+	 *
+	 * @return  The new instance.
+	 *
+	 * @since   1.2
+	 */
+	T newInstance() {
+		if (constructor != null) {
+			try {
+				return constructor.newInstance();
+			} catch (ReflectiveOperationException e) {
+				// fall back to the default instantiation
+			}
+		}
+		return ReflectUtil.getInstance(clazz, true);
+	}
+
+	/**
+	 * Get the binding of the mapper for this class.
+	 *
+	 * <p>The mapper is chosen once when it is needed for the first time. The 
+	 * mapper generated by the annotation processor is used if it is present, 
+	 * then the mapper generated at runtime if it is enabled and the class can 
+	 * be handled by the generated mapper, otherwise the reflective mapper is 
+	 * used.
+	 *
+	 * @return  The binding of the mapper.
+	 *
+	 * @since   1.2
+	 */
+	CsvMapperBinding<T> getBinding() {
+		CsvMapperBinding<T> result = binding;
+		if (result == null) {
+			synchronized (this) {
+				result = binding;
+				if (result == null) {
+					binding = result = bind();
+				}
+			}
+		}
+		return result;
+	}
+
+	private CsvMapperBinding<T> bind() {
+		CsvMapperBinding<T> result = bind(loadGeneratedMapper());
+		if (result == null && CsvMapperCompiler.isEnabled()) {
+			result = bind(CsvMapperCompiler.compile(this));
+		}
+		return result != null ? result : CsvMapperBinding.direct(new ReflectiveCsvMapper<>(this), columnList.size());
+	}
+
+	private CsvMapperBinding<T> bind(final CsvMapper<T> mapper) {
+		return mapper == null ? null : CsvMapperBinding.of(this, mapper);
+	}
+
+	/**
+	 * Load the mapper generated by the annotation processor for this class.
+	 *
+	 * @return  The generated mapper or {@code null} if there is no such 
+	 *          mapper.
+	 *
+	 * @since   1.2
+	 */
+	private CsvMapper<T> loadGeneratedMapper() {
+		final ClassLoader loader = clazz.getClassLoader();
+		if (loader == null) {
+			return null;
+		}
+
+		try {
+			final Class<?> mapperClass = Class.forName(CsvMapperCompiler.getMapperName(clazz), true, loader);
+			if (!CsvMapper.class.isAssignableFrom(mapperClass)) {
+				return null;
+			}
+			@SuppressWarnings("unchecked")
+			final CsvMapper<T> mapper = (CsvMapper<T>) mapperClass.getConstructor().newInstance();
+			return mapper;
+		} catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Get the {@code CsvColumnMapping} by the name parameter in the
+	 * {@code CsvColumn} annotation.
+	 *
+	 * @param  columnName
+	 *         The column name.
+	 *
+	 * @return  The first {@code CsvColumnMapping} with that name or
+	 *          {@code null} if there is no such column.
+	 *
+	 * @since   1.2
+	 */
+	CsvColumnMapping getColumnByName(final String columnName) {
+		return nameMap.get(columnName);
+	}
+
+	/**
+	 * Get the column of the field annotated by {@code CsvKey}.
+	 *
+	 * @return  The {@code CsvColumnMapping} of the key field.
+	 *
+	 * @throws  IllegalArgumentException
+	 *          If the class doesn't have exactly one key field.
+	 *
+	 * @since   1.2
+	 */
+	CsvColumnMapping getKeyColumn() {
+		if (keyColumnList.size() != 1) {
+			throw new IllegalArgumentException(clazz.getSimpleName() + " needs to have one field annotated by both " + CsvKey.class.getSimpleName() + " and " + CsvColumn.class.getSimpleName() + " annotations, but it has " + keyColumnList.size() + " right now.");
+		}
+		return keyColumnList.get(0);
+	}
+
+	Class<T>               getEntityClass()          { return clazz;               }
+	List<CsvColumnMapping> getColumnList()           { return columnList;          }
+	List<CsvColumnMapping> getPosSortedColumnList()  { return posSortedColumnList; }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+/**
+ * The parsers for the numbers in a {@code CharSequence}.
+ *
+ * <p>The common forms are parsed from the characters directly without
+ * creating a {@code String}: the integers with an optional sign and the
+ * decimals like {@code -12.5} or {@code 1.5e3}. A decimal is only parsed
+ * directly when the result is exact, which means the significant digits
+ * fit in 53 bits and the power of ten is at most 22 (Clinger's fast path),
+ * so the result is the same as {@code Double.parseDouble}. Any other input
+ * (like too many digits, whitespace, {@code NaN} or an error) is passed to
+ * the parser in JDK, so the results and the error messages are unchanged.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvNumbers {
+	private static final long NOT_A_NUMBER       = Long.MIN_VALUE;
+	private static final int  MAX_INT_DIGITS     = 9;
+	private static final int  MAX_LONG_DIGITS    = 18;
+	private static final int  MAX_DOUBLE_DIGITS  = 18;
+	private static final int  MAX_EXPONENT       = 22;
+	private static final int  MAX_EXPONENT_VALUE = 100000;
+	private static final long MAX_MANTISSA       = 1L << 53;
+
+	private static final double[] POW10 = {
+		1e0,  1e1,  1e2,  1e3,  1e4,  1e5,  1e6,  1e7,  1e8,  1e9,  1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	private CsvNumbers() {}
+
+	/**
+	 * Parse an {@code int} like {@code Integer.parseInt}.
+	 *
+	 * @param  s
+	 *         The characters need to be parsed.
+	 *
+	 * @return  The {@code int} value.
+	 *
+	 * @throws  NumberFormatException
+	 *          If the characters are not a valid {@code int}.
+	 *
+	 * @since   1.2
+	 */
+	static int parseInt(final CharSequence s) {
+		final long value = parseDigits(s, MAX_INT_DIGITS);
+		return value != NOT_A_NUMBER ? (int) value : Integer.parseInt(s.toString());
+	}
+
+	/**
+	 * Parse a {@code long} like {@code Long.parseLong}.
+	 *
+	 * @param  s
+	 *         The characters need to be parsed.
+	 *
+	 * @return  The {@code long} value.
+	 *
+	 * @throws  NumberFormatException
+	 *          If the characters are not a valid {@code long}.
+	 *
+	 * @since   1.2
+	 */
+	static long parseLong(final CharSequence s) {
+		final long value = parseDigits(s, MAX_LONG_DIGITS);
+		return value != NOT_A_NUMBER ? value : Long.parseLong(s.toString());
+	}
+
+	/**
+	 * Parse a {@code short} like {@code Short.parseShort}.
+	 *
+	 * @param  s
+	 *         The characters need to be parsed.
+	 *
+	 * @return  The {@code short} value.
+	 *
+	 * @throws  NumberFormatException
+	 *          If the characters are not a valid {@code short}.
+	 *
+	 * @since   1.2
+	 */
+	static short parseShort(final CharSequence s) {
+		final long value = parseDigits(s, MAX_INT_DIGITS);
+		if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+			return (short) value;
+		}
+		return Short.parseShort(s.toString());
+	}
+
+	/**
+	 * Parse a {@code double} like {@code Double.parseDouble}.
+	 *
+	 * @param  s
+	 *         The characters need to be parsed.
+	 *
+	 * @return  The {@code double} value.
+	 *
+	 * @throws  NumberFormatException
+	 *          If the characters are not a valid {@code double}.
+	 *
+	 * @since   1.2
+	 */
+	static double parseDouble(final CharSequence s) {
+		final int length   = s.length();
+		int       p        = 0;
+		boolean   negative = false;
+
+		if (p < length && (s.charAt(p) == '-' || s.charAt(p) == '+')) {
+			negative = s.charAt(p) == '-';
+			p++;
+		}
+
+		long    mantissa  = 0;
+		int     digits    = 0;                                  // the significant digits in mantissa
+		int     exponent  = 0;
+		boolean hasDigits = false;
+		boolean fraction  = false;
+		for (; p < length; p++) {
+			final char c = s.charAt(p);
+			if (c == '.' && !fraction) {
+				fraction = true;
+				continue;
+			}
+			if (c < '0' || c > '9') {
+				break;
+			}
+
+			hasDigits = true;
+			if (fraction) {
+				exponent--;
+			}
+			if (mantissa == 0 && c == '0') {                    // leading zeros
+				continue;
+			}
+			if (++digits > MAX_DOUBLE_DIGITS) {
+				return Double.parseDouble(s.toString());
+			}
+			mantissa = mantissa * 10 + (c - '0');
+		}
+		if (!hasDigits) {
+			return Double.parseDouble(s.toString());
+		}
+
+		if (p < length && (s.charAt(p) == 'e' || s.charAt(p) == 'E')) {
+			p++;
+			boolean negativeExponent = false;
+			if (p < length && (s.charAt(p) == '-' || s.charAt(p) == '+')) {
+				negativeExponent = s.charAt(p) == '-';
+				p++;
+			}
+
+			final int start = p;
+			int       value = 0;
+			for (; p < length && s.charAt(p) >= '0' && s.charAt(p) <= '9'; p++) {
+				if (value < MAX_EXPONENT_VALUE) {
+					value = value * 10 + (s.charAt(p) - '0');
+				}
+			}
+			if (p == start) {
+				return Double.parseDouble(s.toString());
+			}
+			exponent += negativeExponent ? -value : value;
+		}
+
+		if (p != length || mantissa > MAX_MANTISSA) {
+			return Double.parseDouble(s.toString());
+		}
+
+		final double value;
+		if (mantissa == 0) {
+			value = 0.0;
+		} else if (exponent >= 0 && exponent <= MAX_EXPONENT) {
+			value = mantissa * POW10[exponent];
+		} else if (exponent < 0 && exponent >= -MAX_EXPONENT) {
+			value = mantissa / POW10[-exponent];
+		} else {
+			return Double.parseDouble(s.toString());
+		}
+		return negative ? -value : value;
+	}
+
+	/**
+	 * Parse a decimal integer with an optional sign.
+	 *
+	 * @param  s
+	 *         The characters need to be parsed.
+	 *
+	 * @param  maxDigits
+	 *         The maximum number of digits which can't overflow.
+	 *
+	 * @return  The value or {@code NOT_A_NUMBER} if the value needs to be
+	 *          parsed by JDK (like an error or too many digits).
+	 */
+	private static long parseDigits(final CharSequence s, final int maxDigits) {
+		final int length = s.length();
+		if (length == 0) {
+			return NOT_A_NUMBER;
+		}
+
+		int        p    = 0;
+		final char sign = s.charAt(0);
+		if (sign == '-' || sign == '+') {
+			p++;
+		}
+		if (p == length || length - p > maxDigits) {
+			return NOT_A_NUMBER;
+		}
+
+		long value = 0;
+		for (; p < length; p++) {
+			final int digit = s.charAt(p) - '0';
+			if (digit < 0 || digit > 9) {
+				return NOT_A_NUMBER;
+			}
+			value = value * 10 + digit;
+		}
+		return sign == '-' ? -value : value;
+	}
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+
+/**
+ * The reader parses one CSV file in parallel.
+ *
+ * <p>The file is split into byte ranges (chunks). The number of quote 
+ * characters and the first line breaks in each chunk are counted in 
+ * parallel, then a serial pass over the chunks decides whether each chunk 
+ * starts inside a quoted value, so every split is moved to the first line 
+ * break which is really the end of a record. At last the ranges between the 
+ * splits are parsed and mapped in parallel, and the results are 
+ * concatenated in the original order.
+ *
+ * <p>The file needs to be encoded by a charset which is compatible with 
+ * ASCII (like UTF-8 or ISO-8859-1), and the quote characters in the values 
+ * need to be escaped by doubling them (RFC 4180).
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvParallelReader {
+	static final long MIN_CHUNK_SIZE = 1L << 20;
+	static final long MAX_CHUNK_SIZE = 1L << 28;
+
+	private static final int  BUFFER_SIZE = 1 << 16;
+	private static final byte QUOTE       = '"';
+	private static final byte LINE_FEED   = '\n';
+
+	private CsvParallelReader() {}
+
+	/**
+	 * Check a charset is compatible with ASCII for the characters which 
+	 * decide the boundaries of records.
+	 *
+	 * @param  charset
+	 *         The charset of the CSV file.
+	 *
+	 * @return  {@code true} if the boundaries of records can be found in the 
+	 *          bytes directly;
+	 *          {@code false} otherwise.
+	 *
+	 * @since   1.2
+	 */
+	static boolean isSupported(final Charset charset) {
+		return Arrays.equals("\"\r\n,".getBytes(charset), new byte[] { QUOTE, '\r', LINE_FEED, ',' });
+	}
+
+	/**
+	 * Read a CSV file in parallel.
+	 *
+	 * @param  mapping
+	 *         The compiled mapping model of the class.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 *
+	 * @param  charset
+	 *         The charset of the CSV file.
+	 *
+	 * @param  pool
+	 *         The pool for running the tasks.
+	 *
+	 * @param  chunkSize
+	 *         The size of each chunk in bytes, 0 to decide it by the size of 
+	 *         the file and the parallelism of the pool.
+	 *
+	 * @return  The list of objects in the original order.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the CSV file.
+	 *
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 *
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *
+	 * @since   1.2
+	 */
+	static <T> List<T> read(final CsvMapping<T> mapping, final String csvFilePath, final HeaderOption header, final Charset charset, final ForkJoinPool pool, final long chunkSize) throws IOException, IllegalAccessException, ParseException {
+		try (FileChannel channel = FileChannel.open(Paths.get(csvFilePath), StandardOpenOption.READ)) {
+			final long size = channel.size();
+
+			final long      firstEnd    = findFirstRecordEnd(channel, 0, size);
+			final CSVRecord firstRecord = parseFirst(channel, 0, firstEnd, charset);
+
+			final String[] headerNames;
+			final long     dataStart;
+			if (header == HeaderOption.WITH_HEADER) {
+				headerNames = new String[firstRecord == null ? 0 : firstRecord.size()];
+				for (int i = 0; i < headerNames.length; i++) {
+					headerNames[i] = firstRecord.get(i);
+				}
+				dataStart   = firstEnd;
+			} else {
+				headerNames = CsvReadPlan.getIndexNames(firstRecord == null ? 0 : firstRecord.size());
+				dataStart   = 0;
+			}
+
+			final CsvReadPlan<T> plan   = new CsvReadPlan<>(mapping, headerNames);
+			final long[]         bounds = findBounds(channel, dataStart, size, pool, chunkSize > 0 ? chunkSize : getChunkSize(size - dataStart, pool.getParallelism()));
+
+			final List<ForkJoinTask<List<T>>> taskList = new ArrayList<>();
+			for (int i = 0; i < bounds.length - 1; i++) {
+				final long start = bounds[i];
+				final long end   = bounds[i + 1];
+				taskList.add(pool.submit(() -> parse(channel, start, end, charset, plan)));
+			}
+
+			final List<T> result = new ArrayList<>();
+			for (ForkJoinTask<List<T>> task : taskList) {
+				result.addAll(join(task, taskList));
+			}
+			return result;
+		}
+	}
+
+	private static long getChunkSize(final long length, final int parallelism) {
+		final long chunkSize = (length + parallelism * 4L - 1) / (parallelism * 4L);
+		return Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, chunkSize));
+	}
+
+	/**
+	 * Find the boundaries of the records for splitting a range of the file.
+	 *
+	 * @return  The sorted positions, the first one is {@code start} and the 
+	 *          last one is {@code end}.
+	 */
+	private static long[] findBounds(final FileChannel channel, final long start, final long end, final ForkJoinPool pool, final long chunkSize) throws IOException {
+		final int chunkNum = (int) Math.max(1, (end - start + chunkSize - 1) / chunkSize);
+		if (chunkNum == 1) {
+			return new long[] { start, end };
+		}
+
+		final List<ForkJoinTask<ChunkScan>> taskList = new ArrayList<>();
+		for (int i = 0; i < chunkNum; i++) {
+			final long chunkStart = start + i * chunkSize;
+			final long chunkEnd   = Math.min(end, chunkStart + chunkSize);
+			taskList.add(pool.submit(() -> scan(channel, chunkStart, chunkEnd)));
+		}
+
+		final long[] bounds = new long[chunkNum + 1];
+		int     count   = 0;
+		boolean inQuote = false;
+		bounds[count++] = start;
+		for (int i = 0; i < chunkNum; i++) {
+			final ChunkScan scan = joinScan(taskList.get(i), taskList);
+			if (i > 0) {
+				final long bound = inQuote ? scan.firstOddEnd : scan.firstEvenEnd;
+				if (bound > bounds[count - 1] && bound < end) {
+					bounds[count++] = bound;
+				}
+			}
+			inQuote ^= scan.oddQuotes;
+		}
+		bounds[count++] = end;
+
+		return Arrays.copyOf(bounds, count);
+	}
+
+	/**
+	 * Count the quote characters and find the first line breaks after an 
+	 * even and an odd number of quote characters in a range.
+	 */
+	private static ChunkScan scan(final FileChannel channel, final long start, final long end) throws IOException {
+		final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+		boolean odd          = false;
+		long    firstEvenEnd = -1;
+		long    firstOddEnd  = -1;
+		long    position     = start;
+		while (position < end) {
+			buffer.clear();
+			buffer.limit((int) Math.min(BUFFER_SIZE, end - position));
+			final int n = channel.read(buffer, position);
+			if (n < 0) {
+				break;
+			}
+
+			final byte[] array = buffer.array();
+			for (int i = 0; i < n; i++) {
+				final byte b = array[i];
+				if (b == QUOTE) {
+					odd = !odd;
+				} else if (b == LINE_FEED) {
+					if (!odd && firstEvenEnd < 0) {
+						firstEvenEnd = position + i + 1;
+					} else if (odd && firstOddEnd < 0) {
+						firstOddEnd = position + i + 1;
+					}
+				}
+			}
+			position += n;
+		}
+
+		return new ChunkScan(odd, firstEvenEnd, firstOddEnd);
+	}
+
+	/**
+	 * Find the end of the first record in a range.
+	 */
+	private static long findFirstRecordEnd(final FileChannel channel, final long start, final long end) throws IOException {
+		final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+		boolean odd      = false;
+		long    position = start;
+		while (position < end) {
+			buffer.clear();
+			buffer.limit((int) Math.min(BUFFER_SIZE, end - position));
+			final int n = channel.read(buffer, position);
+			if (n < 0) {
+				break;
+			}
+
+			final byte[] array = buffer.array();
+			for (int i = 0; i < n; i++) {
+				if (array[i] == QUOTE) {
+					odd = !odd;
+				} else if (array[i] == LINE_FEED && !odd) {
+					return position + i + 1;
+				}
+			}
+			position += n;
+		}
+		return end;
+	}
+
+	private static CSVRecord parseFirst(final FileChannel channel, final long start, final long end, final Charset charset) throws IOException {
+		try (Reader reader = new InputStreamReader(new RangeInputStream(channel, start, end), charset); 
+			 CSVParser parser = CSVFormat.DEFAULT.parse(reader)) {
+			final Iterator<CSVRecord> iterator = parser.iterator();
+			return iterator.hasNext() ? iterator.next() : null;
+		}
+	}
+
+	private static <T> List<T> parse(final FileChannel channel, final long start, final long end, final Charset charset, final CsvReadPlan<T> plan) throws IOException, IllegalAccessException, ParseException {
+		final List<T> list = new ArrayList<>();
+		try (Reader reader = new InputStreamReader(new RangeInputStream(channel, start, end), charset); 
+			 CSVParser parser = CSVFormat.DEFAULT.parse(reader)) {
+			for (CSVRecord record : parser) {
+				list.add(plan.read(new CsvRecordRow(record)));
+			}
+		}
+		return list;
+	}
+
+	private static ChunkScan joinScan(final ForkJoinTask<ChunkScan> task, final List<? extends ForkJoinTask<?>> taskList) throws IOException {
+		try {
+			return join(task, taskList);
+		} catch (IllegalAccessException | ParseException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Wait for a task and rethrow its exception, the other tasks are 
+	 * cancelled if it fails.
+	 */
+	private static <R> R join(final ForkJoinTask<R> task, final List<? extends ForkJoinTask<?>> taskList) throws IOException, IllegalAccessException, ParseException {
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+			cancel(taskList);
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		} catch (ExecutionException e) {
+			cancel(taskList);
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof IllegalAccessException) {
+				throw (IllegalAccessException) cause;
+			} else if (cause instanceof ParseException) {
+				throw (ParseException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	private static void cancel(final List<? extends ForkJoinTask<?>> taskList) {
+		for (ForkJoinTask<?> task : taskList) {
+			task.cancel(false);
+		}
+	}
+
+	/**
+	 * The result of scanning one chunk.
+	 */
+	private static final class ChunkScan {
+		private final boolean oddQuotes;
+		private final long    firstEvenEnd;
+		private final long    firstOddEnd;
+
+		private ChunkScan(final boolean oddQuotes, final long firstEvenEnd, final long firstOddEnd) {
+			this.oddQuotes    = oddQuotes;
+			this.firstEvenEnd = firstEvenEnd;
+			this.firstOddEnd  = firstOddEnd;
+		}
+	}
+
+	/**
+	 * The input stream reads a range of a file by the positional reads, so 
+	 * the channel can be shared by multiple threads.
+	 */
+	private static final class RangeInputStream extends InputStream {
+		private final FileChannel channel;
+		private final long        end;
+		private long              position;
+
+		private RangeInputStream(final FileChannel channel, final long start, final long end) {
+			this.channel  = channel;
+			this.position = start;
+			this.end      = end;
+		}
+
+		@Override
+		public int read() throws IOException {
+			final byte[] b = new byte[1];
+			return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			if (position >= end) {
+				return -1;
+			}
+			final int n = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, end - position)), position);
+			if (n > 0) {
+				position += n;
+			}
+			return n;
+		}
+	}
+}
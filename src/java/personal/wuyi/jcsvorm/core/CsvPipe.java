@@ -18,7 +18,12 @@ package personal.wuyi.jcsvorm.core;
 
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.apache.commons.csv.CSVRecord;
 
@@ -34,6 +39,13 @@ import personal.wuyi.jcsvorm.api.Function;
  * @since   1.1
  */
 public class CsvPipe {
+	/**
+	 * The default number of records mapped by one task.
+	 * 
+	 * @since   1.2
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1024;
+	
 	private CsvPipe() {}
 	
 	/**
@@ -66,4 +78,172 @@ public class CsvPipe {
 		}
 		return newlist;
 	}
+	
+	/**
+	 * Map the list of {@code CSVRecord} to the list of objects in other type 
+	 * in parallel, with the default batch size.
+	 * 
+	 * @param  list
+	 *         The list of {@code CSVRecord}.
+	 * 
+	 * @param  clazz
+	 *         The type of the object you want to convert to.
+	 * 
+	 * @param  f
+	 *         The function interface to handle each element, it needs to be 
+	 *         thread-safe.
+	 *         
+	 * @param  executor
+	 *         The executor for running the tasks.
+	 *         
+	 * @return  The list of objects in other type, in the same order as the 
+	 *          list of {@code CSVRecord}.
+	 * 
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 *          
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> List<T> map(final List<CSVRecord> list, final Class<T> clazz, final Function<CSVRecord, T> f, final Executor executor) throws IllegalAccessException, ParseException {
+		return map(list, clazz, f, executor, DEFAULT_BATCH_SIZE);
+	}
+	
+	/**
+	 * Map the list of {@code CSVRecord} to the list of objects in other type 
+	 * in parallel.
+	 * 
+	 * <p>The list is split into batches, each batch is mapped by one task in 
+	 * the executor. If there are errors, the error of the first record in 
+	 * order is thrown and the tasks which haven't started are cancelled. The 
+	 * {@code IllegalAccessException} and {@code ParseException} are thrown 
+	 * with the record number in the message and the original exception as 
+	 * the cause. The runtime exceptions (like 
+	 * {@code NumberFormatException}) are thrown as they are, like the 
+	 * sequential {@code map} method, and the record number is in the message 
+	 * of a suppressed exception. The records are mapped by the calling 
+	 * thread if they fit in one batch, with the same errors.
+	 * 
+	 * @param  list
+	 *         The list of {@code CSVRecord}.
+	 * 
+	 * @param  clazz
+	 *         The type of the object you want to convert to.
+	 * 
+	 * @param  f
+	 *         The function interface to handle each element, it needs to be 
+	 *         thread-safe.
+	 *         
+	 * @param  executor
+	 *         The executor for running the tasks.
+	 *         
+	 * @param  batchSize
+	 *         The number of records mapped by one task.
+	 *         
+	 * @return  The list of objects in other type, in the same order as the 
+	 *          list of {@code CSVRecord}.
+	 * 
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 *          
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *          
+	 * @since   1.2
+	 */
+	public static <T> List<T> map(final List<CSVRecord> list, final Class<T> clazz, final Function<CSVRecord, T> f, final Executor executor, final int batchSize) throws IllegalAccessException, ParseException {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("The batch size must be positive, but it is " + batchSize + " right now.");
+		}
+		
+		final int      size   = list.size();
+		final Object[] result = new Object[size];
+		if (size <= batchSize) {                                            // one batch is mapped by the caller
+			mapBatch(list, clazz, f, result, 0, size);
+			return toList(result);
+		}
+		
+		final List<FutureTask<Void>> taskList = new ArrayList<>();
+		for (int start = 0; start < size; start += batchSize) {
+			final int from = start;
+			final int to   = Math.min(size, start + batchSize);
+			final FutureTask<Void> task = new FutureTask<>(() -> {
+				mapBatch(list, clazz, f, result, from, to);
+				return null;
+			});
+			taskList.add(task);
+			executor.execute(task);
+		}
+		
+		for (FutureTask<Void> task : taskList) {
+			try {
+				task.get();
+			} catch (InterruptedException e) {
+				cancel(taskList);
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("The thread is interrupted when mapping the records.", e);
+			} catch (ExecutionException e) {
+				cancel(taskList);
+				final Throwable cause = e.getCause();
+				if (cause instanceof IllegalAccessException) {
+					throw (IllegalAccessException) cause;
+				} else if (cause instanceof ParseException) {
+					throw (ParseException) cause;
+				} else if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				} else if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw new IllegalStateException(cause);
+			}
+		}
+		
+		return toList(result);
+	}
+	
+	/**
+	 * Map a range of records, the checked exception of a record is thrown 
+	 * with the record number in the message and the original exception as 
+	 * the cause, and the runtime exception keeps its type with the record 
+	 * number in a suppressed exception.
+	 */
+	private static <T> void mapBatch(final List<CSVRecord> list, final Class<T> clazz, final Function<CSVRecord, T> f, final Object[] result, final int from, final int to) throws IllegalAccessException, ParseException {
+		for (int i = from; i < to; i++) {
+			final CSVRecord record = list.get(i);
+			try {
+				result[i] = f.call(record, clazz);
+			} catch (IllegalAccessException e) {
+				final IllegalAccessException ex = new IllegalAccessException(getErrorMessage(record, e));
+				ex.initCause(e);
+				throw ex;
+			} catch (ParseException e) {
+				final ParseException ex = new ParseException(getErrorMessage(record, e), e.getErrorOffset());
+				ex.initCause(e);
+				throw ex;
+			} catch (RuntimeException e) {                                  // like NumberFormatException
+				e.addSuppressed(new Exception(getErrorMessage(record, e)));
+				throw e;
+			}
+		}
+	}
+	
+	private static <T> List<T> toList(final Object[] result) {
+		@SuppressWarnings("unchecked")
+		final List<T> newlist = (List<T>) new ArrayList<>(Arrays.asList(result));
+		return newlist;
+	}
+	
+	private static String getErrorMessage(final CSVRecord record, final Exception e) {
+		return "Failed to map the record " + record.getRecordNumber() + ": " + e.getMessage();
+	}
+	
+	private static void cancel(final List<? extends Future<?>> taskList) {
+		for (Future<?> task : taskList) {
+			task.cancel(false);
+		}
+	}
 }
@@ -0,0 +1,642 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.api.CsvRow;
+
+/**
+ * The aggregation of the columns in a CSV file, grouped by some columns.
+ *
+ * <p>The file is read in one pass without creating any object for the
+ * rows, the groups are kept in a hash table and the aggregated values in
+ * primitive arrays, so the memory grows with the number of groups instead
+ * of the number of rows. The columns are named by the header like the
+ * {@code name} of {@code CsvColumn}, or by their indexes ("0", "1" and so
+ * on) for a file without header, like:
+ * <pre>
+ * CsvQuery.Result result = CsvQuery.from(path).groupBy("region").sum("int_amount").count().execute();
+ * for (int i = 0; i &lt; result.size(); i++) {
+ *     System.out.println(result.getGroupKey(i) + ": " + result.getLong(i, "sum(int_amount)"));
+ * }
+ * </pre>
+ *
+ * <p>The empty cells are ignored by the aggregations except {@code count},
+ * and a cell which is not a number is reported by a
+ * {@code NumberFormatException}. The options of the reading, like the
+ * filter and the sampling, are applied before the rows are aggregated.
+ * The {@code MAPPED} engine is used by default.
+ *
+ * <p>This class is immutable, each method returns a new {@code CsvQuery}.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public final class CsvQuery {
+	private enum Kind {
+		COUNT, SUM, SUM_DOUBLE, MIN, MAX
+	}
+
+	private final String         csvFilePath;
+	private final HeaderOption   header;
+	private final CsvReadOptions options;
+	private final List<String>   groupColumns;
+	private final List<Kind>     kinds;
+	private final List<String>   columns;
+
+	private CsvQuery(final String csvFilePath, final HeaderOption header, final CsvReadOptions options, final List<String> groupColumns, final List<Kind> kinds, final List<String> columns) {
+		this.csvFilePath  = csvFilePath;
+		this.header       = header;
+		this.options      = options;
+		this.groupColumns = groupColumns;
+		this.kinds        = kinds;
+		this.columns      = columns;
+	}
+
+	/**
+	 * Create a query on a CSV file with the first line as header.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @return  The new query.
+	 *
+	 * @since   1.2
+	 */
+	public static CsvQuery from(final String csvFilePath) {
+		return from(csvFilePath, HeaderOption.WITH_HEADER);
+	}
+
+	/**
+	 * Create a query on a CSV file.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header
+	 *         or not.
+	 *
+	 * @return  The new query.
+	 *
+	 * @since   1.2
+	 */
+	public static CsvQuery from(final String csvFilePath, final HeaderOption header) {
+		if (csvFilePath == null || header == null) {
+			throw new IllegalArgumentException("The path and the header option of a query can not be null.");
+		}
+		return new CsvQuery(csvFilePath, header, CsvReadOptions.DEFAULT.withEngine(CsvReadOptions.Engine.MAPPED), Collections.<String>emptyList(), Collections.<Kind>emptyList(), Collections.<String>emptyList());
+	}
+
+	/**
+	 * Get a copy of this query with different options for reading the CSV
+	 * file.
+	 *
+	 * @param  options
+	 *         The options for reading the CSV file.
+	 *
+	 * @return  The new query.
+	 *
+	 * @since   1.2
+	 */
+	public CsvQuery withOptions(final CsvReadOptions options) {
+		if (options == null) {
+			throw new IllegalArgumentException("The options of a query can not be null.");
+		}
+		return new CsvQuery(csvFilePath, header, options, groupColumns, kinds, columns);
+	}
+
+	/**
+	 * Get a copy of this query grouped by some more columns. Without any
+	 * group column, all the rows are aggregated as one group.
+	 *
+	 * @param  columnNames
+	 *         The names of the columns.
+	 *
+	 * @return  The new query.
+	 *
+	 * @since   1.2
+	 */
+	public CsvQuery groupBy(final String... columnNames) {
+		final List<String> newGroupColumns = new ArrayList<>(groupColumns);
+		for (String columnName : columnNames) {
+			newGroupColumns.add(checkColumnName(columnName));
+		}
+		return new CsvQuery(csvFilePath, header, options, Collections.unmodifiableList(newGroupColumns), kinds, columns);
+	}
+
+	/**
+	 * Get a copy of this query which counts the rows in each group, the
+	 * aggregation is named "count".
+	 *
+	 * @return  The new query.
+	 *
+	 * @since   1.2
+	 */
+	public CsvQuery count() {
+		return aggregate(Kind.COUNT, null);
+	}
+
+	/**
+	 * Get a copy of this query which sums the {@code long} values of a
+	 * column in each group, the aggregation is named "sum(column)".
+	 *
+	 * @param  columnName
+	 *         The name of the column.
+	 *
+	 * @return  The new query.
+	 *
+	 * @since   1.2
+	 */
+	public CsvQuery sum(final String columnName) {
+		return aggregate(Kind.SUM, checkColumnName(columnName));
+	}
+
+	/**
+	 * Get a copy of this query which sums the {@code double} values of a
+	 * column in each group, the aggregation is named "sumDouble(column)".
+	 *
+	 * @param  columnName
+	 *         The name of the column.
+	 *
+	 * @return  The new query.
+	 *
+	 * @since   1.2
+	 */
+	public CsvQuery sumDouble(final String columnName) {
+		return aggregate(Kind.SUM_DOUBLE, checkColumnName(columnName));
+	}
+
+	/**
+	 * Get a copy of this query which finds the minimum {@code double} value
+	 * of a column in each group, the aggregation is named "min(column)".
+	 *
+	 * @param  columnName
+	 *         The name of the column.
+	 *
+	 * @return  The new query.
+	 *
+	 * @since   1.2
+	 */
+	public CsvQuery min(final String columnName) {
+		return aggregate(Kind.MIN, checkColumnName(columnName));
+	}
+
+	/**
+	 * Get a copy of this query which finds the maximum {@code double} value
+	 * of a column in each group, the aggregation is named "max(column)".
+	 *
+	 * @param  columnName
+	 *         The name of the column.
+	 *
+	 * @return  The new query.
+	 *
+	 * @since   1.2
+	 */
+	public CsvQuery max(final String columnName) {
+		return aggregate(Kind.MAX, checkColumnName(columnName));
+	}
+
+	private CsvQuery aggregate(final Kind kind, final String columnName) {
+		final List<Kind>   newKinds   = new ArrayList<>(kinds);
+		final List<String> newColumns = new ArrayList<>(columns);
+		newKinds.add(kind);
+		newColumns.add(columnName);
+		return new CsvQuery(csvFilePath, header, options, groupColumns, Collections.unmodifiableList(newKinds), Collections.unmodifiableList(newColumns));
+	}
+
+	private static String checkColumnName(final String columnName) {
+		if (columnName == null) {
+			throw new IllegalArgumentException("The column name of a query can not be null.");
+		}
+		return columnName;
+	}
+
+	/**
+	 * Read the CSV file and aggregate the rows.
+	 *
+	 * @return  The groups and their aggregated values, in the order of the
+	 *          first row of each group in the file.
+	 *
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 *
+	 * @throws  NoSuchElementException
+	 *          If a column is not in the CSV file.
+	 *
+	 * @since   1.2
+	 */
+	public Result execute() throws IOException {
+		try (CsvRowReader reader = CsvFactory.openRowReader(csvFilePath, header, options.withLimit(Long.MAX_VALUE))) {     // the limit counts the matched records
+			final BitSet projection = new BitSet();
+			final int[]  keyIndexes = new int[groupColumns.size()];
+			for (int i = 0; i < keyIndexes.length; i++) {
+				keyIndexes[i] = reader.getColumnIndex(groupColumns.get(i));
+				projection.set(keyIndexes[i]);
+			}
+			final int[] valueIndexes = new int[kinds.size()];
+			for (int i = 0; i < valueIndexes.length; i++) {
+				valueIndexes[i] = kinds.get(i) == Kind.COUNT ? -1 : reader.getColumnIndex(columns.get(i));
+				if (valueIndexes[i] >= 0) {
+					projection.set(valueIndexes[i]);
+				}
+			}
+
+			Predicate<CsvRow> predicate = null;
+			if (options.getFilter() != null) {
+				final String[]             headerNames = reader.getHeaderNames();
+				final Map<String, Integer> headerMap   = new HashMap<>();
+				for (int i = 0; i < headerNames.length; i++) {
+					headerMap.put(headerNames[i], i);
+				}
+				predicate = options.getFilter().bind(headerMap, projection);
+			}
+			reader.setProjection(projection.stream().toArray());
+			reader.skipBlocks(options.getFilter());
+
+			final Aggregator aggregator = new Aggregator(keyIndexes, valueIndexes);
+			for (long count = 0; count < options.getLimit(); ) {
+				final CsvRow row = reader.next();
+				if (row == null) {
+					break;
+				}
+				if (predicate == null || predicate.test(row)) {
+					aggregator.add(row);
+					count++;
+				}
+			}
+			return aggregator.toResult();
+		}
+	}
+
+	/**
+	 * The hash table of the groups and their aggregated values.
+	 */
+	private final class Aggregator {
+		private final int[]      keyIndexes;
+		private final int[]      valueIndexes;
+		private final long[][]   longValues;
+		private final double[][] doubleValues;
+		private String[]         keys;
+		private int[]            hashes;
+		private int[]            table;                                     // the group + 1 in each slot, 0 for an empty slot
+		private int              size;
+
+		private Aggregator(final int[] keyIndexes, final int[] valueIndexes) {
+			this.keyIndexes   = keyIndexes;
+			this.valueIndexes = valueIndexes;
+			this.longValues   = new long[valueIndexes.length][];
+			this.doubleValues = new double[valueIndexes.length][];
+			this.keys         = new String[16 * keyIndexes.length];
+			this.hashes       = new int[16];
+			this.table        = new int[32];
+			for (int i = 0; i < valueIndexes.length; i++) {
+				if (isLong(kinds.get(i))) {
+					longValues[i] = new long[16];
+				} else {
+					doubleValues[i] = new double[16];
+				}
+			}
+			if (keyIndexes.length == 0) {
+				addGroup(0, 0, null);                                       // the only group exists even without rows
+			}
+		}
+
+		private void add(final CsvRow row) {
+			final int group = findGroup(row);
+			for (int i = 0; i < valueIndexes.length; i++) {
+				final Kind kind  = kinds.get(i);
+				final int  index = valueIndexes[i];
+				if (kind == Kind.COUNT) {
+					longValues[i][group]++;
+					continue;
+				}
+				if (index >= row.size() || row.isNull(index)) {
+					continue;
+				}
+
+				switch (kind) {
+				case SUM:
+					longValues[i][group] += row.getLong(index);
+					break;
+				case SUM_DOUBLE:
+					doubleValues[i][group] += row.getDouble(index);
+					break;
+				case MIN:
+					final double min = row.getDouble(index);
+					if (min < doubleValues[i][group] || Double.isNaN(doubleValues[i][group])) {
+						doubleValues[i][group] = min;
+					}
+					break;
+				default:
+					final double max = row.getDouble(index);
+					if (max > doubleValues[i][group] || Double.isNaN(doubleValues[i][group])) {
+						doubleValues[i][group] = max;
+					}
+					break;
+				}
+			}
+		}
+
+		private int findGroup(final CsvRow row) {
+			if (keyIndexes.length == 0) {
+				return 0;
+			}
+
+			long h = 0;
+			for (int index : keyIndexes) {
+				h = h * 0x9E3779B97F4A7C15L + CsvKeyIndex.hash(getCell(row, index));
+			}
+			final int hash = (int) (h ^ (h >>> 32));
+
+			final int mask = table.length - 1;
+			for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+				final int group = table[slot] - 1;
+				if (group < 0) {
+					return addGroup(slot, hash, row);
+				}
+				if (hashes[group] == hash && matches(group, row)) {
+					return group;
+				}
+			}
+		}
+
+		private boolean matches(final int group, final CsvRow row) {
+			for (int i = 0; i < keyIndexes.length; i++) {
+				if (!keys[group * keyIndexes.length + i].contentEquals(getCell(row, keyIndexes[i]))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private int addGroup(final int slot, final int hash, final CsvRow row) {
+			if (size == hashes.length) {
+				final int capacity = size * 2;
+				keys   = Arrays.copyOf(keys, capacity * keyIndexes.length);
+				hashes = Arrays.copyOf(hashes, capacity);
+				for (int i = 0; i < valueIndexes.length; i++) {
+					if (longValues[i] != null) {
+						longValues[i] = Arrays.copyOf(longValues[i], capacity);
+					} else {
+						doubleValues[i] = Arrays.copyOf(doubleValues[i], capacity);
+					}
+				}
+			}
+
+			final int group = size++;
+			for (int i = 0; i < keyIndexes.length; i++) {
+				keys[group * keyIndexes.length + i] = getCell(row, keyIndexes[i]).toString();     // the only copy of the row for a new group
+			}
+			hashes[group] = hash;
+			for (int i = 0; i < valueIndexes.length; i++) {
+				if (doubleValues[i] != null) {
+					doubleValues[i][group] = kinds.get(i) == Kind.SUM_DOUBLE ? 0.0 : Double.NaN;
+				}
+			}
+
+			table[slot] = group + 1;
+			if (size * 2 > table.length) {
+				rehash();
+			}
+			return group;
+		}
+
+		private void rehash() {
+			table = new int[table.length * 2];
+			final int mask = table.length - 1;
+			for (int group = 0; group < size; group++) {
+				int slot = hashes[group] & mask;
+				while (table[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				table[slot] = group + 1;
+			}
+		}
+
+		private Result toResult() {
+			final long[][]   longs   = new long[valueIndexes.length][];
+			final double[][] doubles = new double[valueIndexes.length][];
+			for (int i = 0; i < valueIndexes.length; i++) {
+				longs[i]   = longValues[i] == null ? null : Arrays.copyOf(longValues[i], size);
+				doubles[i] = doubleValues[i] == null ? null : Arrays.copyOf(doubleValues[i], size);
+			}
+			return new Result(groupColumns, getAggregateNames(), Arrays.copyOf(keys, size * keyIndexes.length), size, longs, doubles);
+		}
+	}
+
+	private List<String> getAggregateNames() {
+		final List<String> names = new ArrayList<>();
+		for (int i = 0; i < kinds.size(); i++) {
+			switch (kinds.get(i)) {
+			case COUNT:
+				names.add("count");
+				break;
+			case SUM:
+				names.add("sum(" + columns.get(i) + ")");
+				break;
+			case SUM_DOUBLE:
+				names.add("sumDouble(" + columns.get(i) + ")");
+				break;
+			case MIN:
+				names.add("min(" + columns.get(i) + ")");
+				break;
+			default:
+				names.add("max(" + columns.get(i) + ")");
+				break;
+			}
+		}
+		return Collections.unmodifiableList(names);
+	}
+
+	private static boolean isLong(final Kind kind) {
+		return kind == Kind.COUNT || kind == Kind.SUM;
+	}
+
+	private static CharSequence getCell(final CsvRow row, final int index) {
+		return index < row.size() ? row.getCharSequence(index) : "";           // a short row has empty cells
+	}
+
+	/**
+	 * The groups and their aggregated values of a query.
+	 *
+	 * <p>This class is immutable.
+	 *
+	 * @since   1.2
+	 */
+	public static final class Result {
+		private final List<String>               groupColumns;
+		private final List<String>               aggregateNames;
+		private final String[]                   keys;
+		private final int                        size;
+		private final long[][]                   longValues;
+		private final double[][]                 doubleValues;
+		private final Map<List<String>, Integer> groups;
+
+		private Result(final List<String> groupColumns, final List<String> aggregateNames, final String[] keys, final int size, final long[][] longValues, final double[][] doubleValues) {
+			this.groupColumns   = groupColumns;
+			this.aggregateNames = aggregateNames;
+			this.keys           = keys;
+			this.size           = size;
+			this.longValues     = longValues;
+			this.doubleValues   = doubleValues;
+			this.groups         = new HashMap<>();
+			for (int i = 0; i < size; i++) {
+				groups.put(getGroupKey(i), i);
+			}
+		}
+
+		/**
+		 * Get the names of the group columns.
+		 *
+		 * @return  The names of the columns.
+		 *
+		 * @since   1.2
+		 */
+		public List<String> getGroupColumns() {
+			return groupColumns;
+		}
+
+		/**
+		 * Get the names of the aggregations, like "count" and
+		 * "sum(int_amount)".
+		 *
+		 * @return  The names of the aggregations.
+		 *
+		 * @since   1.2
+		 */
+		public List<String> getAggregateNames() {
+			return aggregateNames;
+		}
+
+		/**
+		 * Get the number of groups.
+		 *
+		 * @return  The number of groups.
+		 *
+		 * @since   1.2
+		 */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * Get the values of the group columns of a group.
+		 *
+		 * @param  group
+		 *         The 0-based index of the group.
+		 *
+		 * @return  The values of the group columns.
+		 *
+		 * @since   1.2
+		 */
+		public List<String> getGroupKey(final int group) {
+			checkGroup(group);
+			final int width = groupColumns.size();
+			return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(keys, group * width, (group + 1) * width)));
+		}
+
+		/**
+		 * Find a group by the values of its group columns.
+		 *
+		 * @param  key
+		 *         The values of the group columns.
+		 *
+		 * @return  The 0-based index of the group, or -1 if there is no such
+		 *          group.
+		 *
+		 * @since   1.2
+		 */
+		public int indexOf(final String... key) {
+			final Integer group = groups.get(Arrays.asList(key));
+			return group == null ? -1 : group;
+		}
+
+		/**
+		 * Get the value of a {@code count} or {@code sum} aggregation of a
+		 * group.
+		 *
+		 * @param  group
+		 *         The 0-based index of the group.
+		 *
+		 * @param  aggregateName
+		 *         The name of the aggregation.
+		 *
+		 * @return  The aggregated value.
+		 *
+		 * @throws  IllegalArgumentException
+		 *          If the aggregation is not a {@code long} value.
+		 *
+		 * @since   1.2
+		 */
+		public long getLong(final int group, final String aggregateName) {
+			checkGroup(group);
+			final int index = getAggregateIndex(aggregateName);
+			if (longValues[index] == null) {
+				throw new IllegalArgumentException("The aggregation " + aggregateName + " is not a long value, it needs to be read by getDouble.");
+			}
+			return longValues[index][group];
+		}
+
+		/**
+		 * Get the value of an aggregation of a group.
+		 *
+		 * @param  group
+		 *         The 0-based index of the group.
+		 *
+		 * @param  aggregateName
+		 *         The name of the aggregation.
+		 *
+		 * @return  The aggregated value, {@code NaN} for the minimum or the
+		 *          maximum of a group without any value.
+		 *
+		 * @since   1.2
+		 */
+		public double getDouble(final int group, final String aggregateName) {
+			checkGroup(group);
+			final int index = getAggregateIndex(aggregateName);
+			return longValues[index] != null ? longValues[index][group] : doubleValues[index][group];
+		}
+
+		private int getAggregateIndex(final String aggregateName) {
+			final int index = aggregateNames.indexOf(aggregateName);
+			if (index < 0) {
+				throw new NoSuchElementException("Can not find the aggregation " + aggregateName + " in the query.");
+			}
+			return index;
+		}
+
+		private void checkGroup(final int group) {
+			if (group < 0 || group >= size) {
+				throw new IndexOutOfBoundsException("The group needs to be from 0 to " + (size - 1) + ", but it is " + group + " right now.");
+			}
+		}
+	}
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+/**
+ * The options for reading a CSV file.
+ *
+ * <p>This class is immutable, each {@code withXxx} method returns a new 
+ * {@code CsvReadOptions} object with one option changed, like:
+ * <pre>
+ * CsvReadOptions options = CsvReadOptions.DEFAULT.withEngine(CsvReadOptions.Engine.MAPPED);
+ * </pre>
+ *
+ * <p>The options on the records are applied in this order: the offset 
+ * skips the first records, the sampling keeps some of the rest, the filter 
+ * tests the kept records and the reading stops when the limit of the 
+ * matched records is reached.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public final class CsvReadOptions {
+	/**
+	 * The engines for tokenizing a CSV file.
+	 * 
+	 * @since   1.2
+	 */
+	public enum Engine {
+		/**
+		 * Tokenize the characters decoded from the file by commons-csv.
+		 */
+		COMMONS_CSV,
+
+		/**
+		 * Map the file into memory and tokenize the bytes directly. The file 
+		 * needs to be encoded by the default charset which is compatible with 
+		 * ASCII, otherwise {@code COMMONS_CSV} is used.
+		 */
+		MAPPED
+	}
+
+	/**
+	 * The places for keeping the columns read by 
+	 * {@code CsvFactory.readColumns}.
+	 * 
+	 * @since   1.2
+	 */
+	public enum Storage {
+		/**
+		 * Keep the columns in the heap.
+		 */
+		HEAP,
+
+		/**
+		 * Keep the columns in the direct buffers outside the heap. The 
+		 * buffers are freed when the table is closed. The dictionaries of 
+		 * the string columns are still kept in the heap.
+		 */
+		DIRECT,
+
+		/**
+		 * Keep the columns in a scratch file mapped into memory, so the 
+		 * columns can be larger than the memory. The texts of the string 
+		 * columns are kept in the file as well, without a dictionary. The 
+		 * file is deleted when the table is closed.
+		 */
+		MAPPED
+	}
+
+	/**
+	 * The default options.
+	 * 
+	 * @since   1.2
+	 */
+	public static final CsvReadOptions DEFAULT = new CsvReadOptions(Engine.COMMONS_CSV, Storage.HEAP, null, null, 0, Long.MAX_VALUE, 1.0, 0);
+
+	private final Engine    engine;
+	private final Storage   storage;
+	private final String    scratchDirectory;
+	private final CsvFilter filter;
+	private final long      offset;
+	private final long      limit;
+	private final double    samplingRate;
+	private final long      samplingSeed;
+
+	private CsvReadOptions(final Engine engine, final Storage storage, final String scratchDirectory, final CsvFilter filter, final long offset, final long limit, final double samplingRate, final long samplingSeed) {
+		this.engine           = engine;
+		this.storage          = storage;
+		this.scratchDirectory = scratchDirectory;
+		this.filter           = filter;
+		this.offset           = offset;
+		this.limit            = limit;
+		this.samplingRate     = samplingRate;
+		this.samplingSeed     = samplingSeed;
+	}
+
+	/**
+	 * Get a copy of this options with a different engine.
+	 *
+	 * @param  engine
+	 *         The engine for tokenizing the CSV file.
+	 *
+	 * @return  The new options.
+	 *
+	 * @since   1.2
+	 */
+	public CsvReadOptions withEngine(final Engine engine) {
+		if (engine == null) {
+			throw new IllegalArgumentException("The engine can not be null.");
+		}
+		return new CsvReadOptions(engine, storage, scratchDirectory, filter, offset, limit, samplingRate, samplingSeed);
+	}
+
+	/**
+	 * Get a copy of this options with a different storage for the columns.
+	 *
+	 * @param  storage
+	 *         The place for keeping the columns.
+	 *
+	 * @return  The new options.
+	 *
+	 * @since   1.2
+	 */
+	public CsvReadOptions withStorage(final Storage storage) {
+		if (storage == null) {
+			throw new IllegalArgumentException("The storage can not be null.");
+		}
+		return new CsvReadOptions(engine, storage, scratchDirectory, filter, offset, limit, samplingRate, samplingSeed);
+	}
+
+	/**
+	 * Get a copy of this options with a different directory for the scratch 
+	 * files of the {@code MAPPED} storage.
+	 *
+	 * @param  scratchDirectory
+	 *         The path of the directory or {@code null} for the temporary 
+	 *         directory of the system.
+	 *
+	 * @return  The new options.
+	 *
+	 * @since   1.2
+	 */
+	public CsvReadOptions withScratchDirectory(final String scratchDirectory) {
+		return new CsvReadOptions(engine, storage, scratchDirectory, filter, offset, limit, samplingRate, samplingSeed);
+	}
+
+	/**
+	 * Get a copy of this options with a different filter on the records, 
+	 * the records which don't match the filter are skipped before they are 
+	 * mapped to objects.
+	 *
+	 * @param  filter
+	 *         The filter or {@code null} to read all the records.
+	 *
+	 * @return  The new options.
+	 *
+	 * @since   1.2
+	 */
+	public CsvReadOptions withFilter(final CsvFilter filter) {
+		return new CsvReadOptions(engine, storage, scratchDirectory, filter, offset, limit, samplingRate, samplingSeed);
+	}
+
+	/**
+	 * Get a copy of this options with a different number of records to 
+	 * skip at the beginning of the file, not counting the header.
+	 *
+	 * <p>The skipped records are not mapped to objects. With the 
+	 * {@code MAPPED} engine, they are only scanned for their ends without 
+	 * being tokenized.
+	 *
+	 * @param  offset
+	 *         The number of records to skip.
+	 *
+	 * @return  The new options.
+	 *
+	 * @since   1.2
+	 */
+	public CsvReadOptions withOffset(final long offset) {
+		if (offset < 0) {
+			throw new IllegalArgumentException("The offset can not be negative, but it is " + offset + " right now.");
+		}
+		return new CsvReadOptions(engine, storage, scratchDirectory, filter, offset, limit, samplingRate, samplingSeed);
+	}
+
+	/**
+	 * Get a copy of this options with a different maximum number of 
+	 * records to read, the rest of the file is not read at all.
+	 *
+	 * @param  limit
+	 *         The maximum number of records which are read after the offset, 
+	 *         the sampling and the filter are applied.
+	 *
+	 * @return  The new options.
+	 *
+	 * @since   1.2
+	 */
+	public CsvReadOptions withLimit(final long limit) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("The limit can not be negative, but it is " + limit + " right now.");
+		}
+		return new CsvReadOptions(engine, storage, scratchDirectory, filter, offset, limit, samplingRate, samplingSeed);
+	}
+
+	/**
+	 * Get a copy of this options with a random sampling of the records.
+	 *
+	 * <p>Each record after the offset is kept with the same probability, 
+	 * independent of the other records, and the kept records are in the 
+	 * same order as in the file. The same seed selects the same records of 
+	 * the same file by any engine. The records which are not kept are 
+	 * skipped like the records before the offset.
+	 *
+	 * @param  rate
+	 *         The probability of keeping a record, from 0 to 1.
+	 *
+	 * @param  seed
+	 *         The seed of the random numbers.
+	 *
+	 * @return  The new options.
+	 *
+	 * @since   1.2
+	 */
+	public CsvReadOptions withSampling(final double rate, final long seed) {
+		if (!(rate >= 0.0 && rate <= 1.0)) {
+			throw new IllegalArgumentException("The sampling rate needs to be from 0 to 1, but it is " + rate + " right now.");
+		}
+		return new CsvReadOptions(engine, storage, scratchDirectory, filter, offset, limit, rate, seed);
+	}
+
+	public Engine    getEngine()           { return engine;           }
+	public Storage   getStorage()          { return storage;          }
+	public String    getScratchDirectory() { return scratchDirectory; }
+	public CsvFilter getFilter()           { return filter;           }
+	public long      getOffset()           { return offset;           }
+	public long      getLimit()            { return limit;            }
+	public double    getSamplingRate()     { return samplingRate;     }
+	public long      getSamplingSeed()     { return samplingSeed;     }
+}
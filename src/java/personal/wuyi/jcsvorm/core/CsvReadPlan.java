@@ -0,0 +1,236 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import personal.wuyi.jcsvorm.api.CsvMapper;
+import personal.wuyi.jcsvorm.api.CsvRow;
+
+/**
+ * The plan for reading the records in one CSV file into objects.
+ *
+ * <p>The column of each field is located by the {@code name} and 
+ * {@code pos} parameters of the {@code CsvColumn} annotation once per file 
+ * based on the header, instead of once per record. If the {@code name} 
+ * parameter is specified, the column is located by the name only. The 
+ * violations (a static field or a missing required column) are reported 
+ * when the first record is read, so a file without any record is still 
+ * accepted.
+ *
+ * <p>The columns of a {@code CsvFilter} are resolved by the same header, a 
+ * record is tested by {@code accept} before it is read.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvReadPlan<T> {
+	private final CsvMapperBinding<T> binding;
+	private final CsvMapper<T>        mapper;
+	private final int[]               index;
+	private final String              error;
+	private final Predicate<CsvRow>   filter;
+	private final BitSet              filterColumns = new BitSet();
+
+	/**
+	 * Construct a new {@code CsvReadPlan}.
+	 *
+	 * @param  mapping
+	 *         The compiled mapping model of the class.
+	 *
+	 * @param  headerNames
+	 *         The names of the columns in the header, the index of a name is 
+	 *         the index of the column.
+	 *
+	 * @since   1.2
+	 */
+	CsvReadPlan(final CsvMapping<T> mapping, final String[] headerNames) {
+		this(mapping, headerNames, null);
+	}
+
+	/**
+	 * Construct a new {@code CsvReadPlan} with a filter.
+	 *
+	 * @param  mapping
+	 *         The compiled mapping model of the class.
+	 *
+	 * @param  headerNames
+	 *         The names of the columns in the header, the index of a name is 
+	 *         the index of the column.
+	 *
+	 * @param  filter
+	 *         The filter on the records, or {@code null} to read all the 
+	 *         records.
+	 *
+	 * @throws  NoSuchElementException
+	 *          If a column of the filter is not in the CSV file.
+	 *
+	 * @since   1.2
+	 */
+	CsvReadPlan(final CsvMapping<T> mapping, final String[] headerNames, final CsvFilter filter) {
+		final CsvMapperBinding<T> binding = mapping.getBinding();
+
+		final Map<String, Integer> headerMap = new HashMap<>();
+		for (int i = 0; i < headerNames.length; i++) {
+			headerMap.put(headerNames[i], i);
+		}
+
+		String firstError = null;
+		final int[] slotIndex = new int[binding.size()];
+		Arrays.fill(slotIndex, -1);
+		for (CsvColumnMapping columnMapping : mapping.getColumnList()) {
+			if (columnMapping.isStaticField()) {
+				firstError = columnMapping.getField().getName() + " field can not be static.";
+				break;
+			}
+
+			final int slot = binding.getSlot(columnMapping);
+			if (columnMapping.hasName()) {
+				final Integer i = headerMap.get(columnMapping.getName());
+				if (i != null) {
+					slotIndex[slot] = i;
+				} else if (columnMapping.isRequired()) {
+					firstError = "The column " + columnMapping.getName() + " is required in the CSV file, but it is missing in the CSV file right now.";
+					break;
+				}
+			} else if (columnMapping.hasPos()) {
+				slotIndex[slot] = columnMapping.getPos();
+			}
+		}
+
+		this.binding = binding;
+		this.mapper  = binding.getMapper();
+		this.index   = slotIndex;
+		this.error   = firstError;
+		this.filter  = filter == null ? null : filter.bind(headerMap, filterColumns);
+	}
+
+	/**
+	 * Get the names of the columns for a CSV file without header line, the 
+	 * columns are named by their indexes.
+	 *
+	 * @param  size
+	 *         The number of columns.
+	 *
+	 * @return  The names of the columns.
+	 *
+	 * @since   1.2
+	 */
+	static String[] getIndexNames(final int size) {
+		final String[] names = new String[size];
+		for (int i = 0; i < size; i++) {
+			names[i] = String.valueOf(i);
+		}
+		return names;
+	}
+
+	/**
+	 * Get the index of the column for a field.
+	 *
+	 * @param  columnMapping
+	 *         The compiled mapping of one field in the class.
+	 *
+	 * @return  The 0-based index of the column or a negative value if the 
+	 *          column is not in the CSV file.
+	 *
+	 * @since   1.2
+	 */
+	int getColumnIndex(final CsvColumnMapping columnMapping) {
+		return index[binding.getSlot(columnMapping)];
+	}
+
+	/**
+	 * Get the indexes of the columns which are mapped to the fields or 
+	 * tested by the filter, the other columns don't need to be tokenized.
+	 *
+	 * @return  The 0-based indexes of the columns in the CSV file.
+	 *
+	 * @since   1.2
+	 */
+	int[] getColumnIndexes() {
+		final BitSet columns = (BitSet) filterColumns.clone();
+		for (int i : index) {
+			if (i >= 0) {
+				columns.set(i);
+			}
+		}
+		return columns.stream().toArray();
+	}
+
+	/**
+	 * Check the violations found when the plan is made.
+	 *
+	 * @throws  IllegalArgumentException
+	 *          If there is a static field or a missing required column.
+	 *
+	 * @since   1.2
+	 */
+	void check() {
+		if (error != null) {
+			throw new IllegalArgumentException(error);
+		}
+	}
+
+	/**
+	 * Test whether a record matches the filter, before any field is 
+	 * converted.
+	 *
+	 * @param  row
+	 *         The record in the CSV file.
+	 *
+	 * @return  {@code true} if the record needs to be read.
+	 *
+	 * @throws  IllegalArgumentException
+	 *          If there is a static field or a missing required column.
+	 *
+	 * @since   1.2
+	 */
+	boolean accept(final CsvRow row) {
+		check();
+		return filter == null || filter.test(row);
+	}
+
+	/**
+	 * Read one record into a new object.
+	 *
+	 * @param  row
+	 *         The record in the CSV file.
+	 *
+	 * @return  The new object.
+	 *
+	 * @throws  IllegalAccessException
+	 *          If a field in a Java class is enforcing Java language access 
+	 *          control and the underlying field is either inaccessible or final.
+	 *
+	 * @throws  ParseException
+	 *          If there is an error occurred when parsing a value in CSV file.
+	 *
+	 * @since   1.2
+	 */
+	T read(final CsvRow row) throws IllegalAccessException, ParseException {
+		check();
+		return mapper.read(row, index);
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.ParseException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.api.CsvRow;
+
+/**
+ * The iterator parses and maps the records in a CSV file one by one.
+ *
+ * <p>Only one record is held in memory at a time, so the memory usage 
+ * doesn't depend on the size of the file. The file is closed when the last 
+ * record is read or this iterator is closed.
+ *
+ * <p>The records are read by a {@code CsvRowReader}, so the engine, the 
+ * offset, the sampling, the filter and the limit of the options are applied 
+ * the same way as {@code CsvFactory.readCsv}, before the records are 
+ * mapped.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvRecordIterator<T> implements Iterator<T>, Closeable {
+	private final CsvRowReader   reader;
+	private final CsvReadPlan<T> plan;
+	private long                 remaining;
+	private CsvRow               nextRow;                               // a mapped row stays valid until the next row is read
+
+	/**
+	 * Construct a new {@code CsvRecordIterator}.
+	 *
+	 * @param  mapping
+	 *         The compiled mapping model of the class.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header 
+	 *         or not.
+	 *
+	 * @param  options
+	 *         The options for reading the CSV file.
+	 *
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 *
+	 * @since   1.2
+	 */
+	CsvRecordIterator(final CsvMapping<T> mapping, final String csvFilePath, final HeaderOption header, final CsvReadOptions options) throws IOException {
+		this.reader = new CsvRowReader(csvFilePath, header, options.withLimit(Long.MAX_VALUE));     // the limit counts the matched records
+		try {
+			this.plan = new CsvReadPlan<>(mapping, reader.getHeaderNames(), options.getFilter());
+			reader.setProjection(plan.getColumnIndexes());
+			reader.skipBlocks(options.getFilter());
+		} catch (IOException | RuntimeException e) {
+			reader.close();
+			throw e;
+		}
+		this.remaining = options.getLimit();
+	}
+
+	@Override
+	public boolean hasNext() {
+		try {
+			while (nextRow == null && remaining > 0) {
+				final CsvRow row = reader.next();
+				if (row == null) {
+					break;
+				}
+				if (plan.accept(row)) {
+					nextRow = row;
+					remaining--;
+				}
+			}
+		} catch (IOException e) {
+			closeQuietly();
+			throw new UncheckedIOException(e);
+		}
+
+		if (nextRow != null) {
+			return true;
+		}
+		closeQuietly();
+		return false;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		final CsvRow row = nextRow;
+		nextRow = null;
+
+		try {
+			return plan.read(row);
+		} catch (IllegalAccessException | ParseException e) {
+			throw new IllegalArgumentException(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private void closeQuietly() {
+		try {
+			reader.close();
+		} catch (IOException e) {
+			// the records have been read
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import org.apache.commons.csv.CSVRecord;
+
+import personal.wuyi.jcsvorm.api.CsvRow;
+
+/**
+ * The {@code CsvRow} view of a {@code CSVRecord}.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvRecordRow implements CsvRow {
+	private final CSVRecord record;
+
+	CsvRecordRow(final CSVRecord record) {
+		this.record = record;
+	}
+
+	@Override
+	public int size() {
+		return record.size();
+	}
+
+	@Override
+	public String get(final int index) {
+		return record.get(index);
+	}
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The index of the byte offsets of the records in a CSV file.
+ *
+ * <p>The offset of every {@code stride}-th record is kept, a record
+ * between two indexed records is found by skipping the records from the
+ * previous one, which only scans them for their ends. The records are
+ * counted from the start of the file, the header line is the record 0 if
+ * there is one.
+ *
+ * <p>The index is saved next to the CSV file with the {@code .rowidx}
+ * suffix. The offsets are delta-encoded as variable-length integers in the
+ * file, and the index is rebuilt when the fingerprint of the CSV file is
+ * changed. The recently used indexes are also kept in memory.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvRowIndex {
+	static final int    DEFAULT_STRIDE = 64;
+	static final String SUFFIX         = ".rowidx";
+
+	private static final int MAGIC      = 0x4A435249;                       // "JCRI"
+	private static final int VERSION    = 1;
+	private static final int CACHE_SIZE = 16;
+
+	private static final Map<String, CsvRowIndex> CACHE = Collections.synchronizedMap(new LinkedHashMap<String, CsvRowIndex>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String, CsvRowIndex> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	});
+
+	private final CsvFileFingerprint fingerprint;
+	private final int                stride;
+	private final long               recordCount;
+	private final long[]             offsets;
+
+	private CsvRowIndex(final CsvFileFingerprint fingerprint, final int stride, final long recordCount, final long[] offsets) {
+		this.fingerprint = fingerprint;
+		this.stride      = stride;
+		this.recordCount = recordCount;
+		this.offsets     = offsets;
+	}
+
+	/**
+	 * Get the valid index of a CSV file, the index is loaded from the
+	 * sidecar file, or built and saved if the sidecar file is missing or
+	 * out of date.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  charset
+	 *         The charset of the CSV file, it needs to be compatible with
+	 *         ASCII.
+	 *
+	 * @return  The index.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the CSV file.
+	 *
+	 * @since   1.2
+	 */
+	static CsvRowIndex of(final String csvFilePath, final Charset charset) throws IOException {
+		final CsvFileFingerprint fingerprint = CsvFileFingerprint.of(csvFilePath);
+		final String             key         = new File(csvFilePath).getAbsolutePath();
+
+		CsvRowIndex index = CACHE.get(key);
+		if (index != null && index.fingerprint.equals(fingerprint)) {
+			return index;
+		}
+
+		index = load(csvFilePath + SUFFIX);
+		if (index == null || !index.fingerprint.equals(fingerprint)) {
+			index = build(csvFilePath, charset, DEFAULT_STRIDE);
+			try {
+				index.save(csvFilePath + SUFFIX);
+			} catch (IOException e) {
+				// the directory may be read-only, the index is still used in memory
+			}
+		}
+		CACHE.put(key, index);
+		return index;
+	}
+
+	/**
+	 * Build the index of a CSV file and save it as the sidecar file.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  charset
+	 *         The charset of the CSV file, it needs to be compatible with
+	 *         ASCII.
+	 *
+	 * @param  stride
+	 *         The offset of every {@code stride}-th record is kept.
+	 *
+	 * @return  The index.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the CSV file or
+	 *          writing the sidecar file.
+	 *
+	 * @since   1.2
+	 */
+	static CsvRowIndex create(final String csvFilePath, final Charset charset, final int stride) throws IOException {
+		final CsvRowIndex index = build(csvFilePath, charset, stride);
+		index.save(csvFilePath + SUFFIX);
+		CACHE.put(new File(csvFilePath).getAbsolutePath(), index);
+		return index;
+	}
+
+	private static CsvRowIndex build(final String csvFilePath, final Charset charset, final int stride) throws IOException {
+		final CsvFileFingerprint fingerprint = CsvFileFingerprint.of(csvFilePath);         // taken before reading, so a concurrent change makes it stale
+
+		long[] offsets = new long[1024];
+		int    size    = 0;
+		try (CsvMappedReader reader = new CsvMappedReader(csvFilePath, charset)) {
+			while (reader.skip(1) == 1) {
+				if ((reader.getRecordNumber() - 1) % stride == 0) {
+					if (size == offsets.length) {
+						offsets = Arrays.copyOf(offsets, size * 2);
+					}
+					offsets[size++] = reader.getRecordOffset();
+				}
+			}
+			return new CsvRowIndex(fingerprint, stride, reader.getRecordNumber(), Arrays.copyOf(offsets, size));
+		}
+	}
+
+	private static CsvRowIndex load(final String indexFilePath) throws IOException {
+		final File file = new File(indexFilePath);
+		if (!file.isFile()) {
+			return null;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return null;
+			}
+
+			final CsvFileFingerprint fingerprint = CsvFileFingerprint.read(in);
+			final int                stride      = in.readInt();
+			final long               recordCount = in.readLong();
+			final long[]             offsets     = new long[in.readInt()];
+			long offset = 0;
+			for (int i = 0; i < offsets.length; i++) {
+				offset    += readVarLong(in);
+				offsets[i] = offset;
+			}
+			return new CsvRowIndex(fingerprint, stride, recordCount, offsets);
+		}
+	}
+
+	private void save(final String indexFilePath) throws IOException {
+		final ByteArrayOutputStream deltas = new ByteArrayOutputStream();
+		long previous = 0;
+		for (long offset : offsets) {
+			writeVarLong(deltas, offset - previous);
+			previous = offset;
+		}
+
+		final File file = new File(indexFilePath);
+		final File temp = new File(indexFilePath + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			fingerprint.write(out);
+			out.writeInt(stride);
+			out.writeLong(recordCount);
+			out.writeInt(offsets.length);
+			deltas.writeTo(out);
+		}
+		Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);           // the readers never see a partial index
+	}
+
+	private static void writeVarLong(final ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarLong(final DataInputStream in) throws IOException {
+		long value = 0;
+		for (int shift = 0; ; shift += 7) {
+			final int b = in.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+	}
+
+	/**
+	 * Get the number of records in the CSV file, including the header line.
+	 *
+	 * @return  The number of records.
+	 *
+	 * @since   1.2
+	 */
+	long getRecordCount() {
+		return recordCount;
+	}
+
+	/**
+	 * Move a reader of the CSV file to a record, the next record read by the
+	 * reader is that record.
+	 *
+	 * @param  reader
+	 *         The reader of the CSV file.
+	 *
+	 * @param  record
+	 *         The 0-based number of the record, counted from the start of
+	 *         the file.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the CSV file.
+	 *
+	 * @since   1.2
+	 */
+	void seek(final CsvMappedReader reader, final long record) throws IOException {
+		final int  slot    = (int) (record / stride);
+		final long indexed = (long) slot * stride;
+		reader.seek(offsets[slot], indexed);
+		reader.skip(record - indexed);
+	}
+}
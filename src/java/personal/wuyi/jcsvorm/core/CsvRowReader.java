@@ -0,0 +1,368 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.Closeable;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.api.CsvRow;
+
+/**
+ * The reader returns the rows in a CSV file without mapping them to objects.
+ *
+ * <p>It is for the jobs which only need a few values of each row, like
+ * aggregations. The columns are resolved by name once and then addressed by
+ * index:
+ * <pre>
+ * try (CsvRowReader reader = CsvFactory.openRowReader(path, HeaderOption.WITH_HEADER, options)) {
+ *     final int amount = reader.getColumnIndex("amount");
+ *     long sum = 0;
+ *     for (CsvRow row = reader.next(); row != null; row = reader.next()) {
+ *         sum += row.getLong(amount);
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>With the {@code MAPPED} engine, the same {@code CsvRow} object is
+ * returned for all the rows and the typed getters parse the values from the
+ * mapped bytes, so a row is only valid until the next row is read.
+ *
+ * <p>The offset, the sampling and the limit of the options are applied to 
+ * the rows. With the {@code MAPPED} engine, the skipped rows are only 
+ * scanned for their ends, and the blocks which can not match a range 
+ * filter are skipped by the zone map of the file if it has one. The 
+ * {@code COMMONS_CSV} engine parses the skipped rows like the kept rows, 
+ * so the rows are always tokenized by the rules of the engine chosen.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public final class CsvRowReader implements Closeable {
+	private final CsvMappedReader      mappedReader;
+	private final CSVParser            parser;
+	private final Iterator<CSVRecord>  iterator;
+	private final String[]             headerNames;
+	private final Map<String, Integer> headerMap;
+	private final CsvSampler           sampler;
+	private final boolean              sampled;
+	private final String               csvFilePath;
+	private final HeaderOption         header;
+	private long                       remaining;
+	private CsvRow                     pending;
+	private CsvZoneMap                 zoneMap;
+	private BitSet                     skippedBlocks;
+
+	/**
+	 * Construct a new {@code CsvRowReader} and read the header.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  header
+	 *         The option to specify CSV file has the first line as header or
+	 *         not.
+	 *
+	 * @param  options
+	 *         The options for reading the CSV file.
+	 *
+	 * @throws  IOException
+	 *          If the CSV file is not existing for given path.
+	 *
+	 * @since   1.2
+	 */
+	CsvRowReader(final String csvFilePath, final HeaderOption header, final CsvReadOptions options) throws IOException {
+		final Charset charset = Charset.defaultCharset();
+		if (options.getEngine() == CsvReadOptions.Engine.MAPPED && CsvParallelReader.isSupported(charset)) {
+			this.mappedReader = new CsvMappedReader(csvFilePath, charset);
+			this.parser       = null;
+			this.iterator     = null;
+		} else {
+			this.mappedReader = null;
+			this.parser       = new CSVParser(new FileReader(csvFilePath), CSVFormat.DEFAULT);
+			this.iterator     = parser.iterator();
+		}
+
+		try {
+			final CsvRow first = readRow();
+			if (header == HeaderOption.WITH_HEADER) {
+				headerNames = toArray(first);
+			} else {
+				headerNames = CsvReadPlan.getIndexNames(first == null ? 0 : first.size());
+				pending     = first;
+			}
+		} catch (IOException | RuntimeException e) {
+			close();
+			throw e;
+		}
+
+		this.csvFilePath = csvFilePath;
+		this.header      = header;
+		sampler   = new CsvSampler(options);
+		sampled   = options.getSamplingRate() < 1.0;
+		remaining = options.getLimit();
+		headerMap = new HashMap<>();
+		for (int i = 0; i < headerNames.length; i++) {                  // the last one wins for duplicate names, like CsvReadPlan
+			headerMap.put(headerNames[i], i);
+		}
+	}
+
+	/**
+	 * Get the names of the columns.
+	 *
+	 * <p>Without header, the names are the indexes, like "0", "1" and so on.
+	 *
+	 * @return  The array of column names.
+	 *
+	 * @since   1.2
+	 */
+	public String[] getHeaderNames() {
+		return headerNames.clone();
+	}
+
+	/**
+	 * Get the index of a column by its name.
+	 *
+	 * @param  columnName
+	 *         The name of the column.
+	 *
+	 * @return  The 0-based index of the column.
+	 *
+	 * @throws  NoSuchElementException
+	 *          If there is no column with that name.
+	 *
+	 * @since   1.2
+	 */
+	public int getColumnIndex(final String columnName) {
+		final Integer index = headerMap.get(columnName);
+		if (index == null) {
+			throw new NoSuchElementException("Can not find the column " + columnName + " in the CSV file.");
+		}
+		return index;
+	}
+
+	/**
+	 * Set the columns which are read from the next rows.
+	 *
+	 * <p>With the {@code MAPPED} engine, the other columns are skipped 
+	 * without recording their positions and their values can not be read 
+	 * any more. The {@code COMMONS_CSV} engine still reads all the columns.
+	 *
+	 * @param  columnIndexes
+	 *         The 0-based indexes of the columns, or {@code null} for all 
+	 *         the columns.
+	 *
+	 * @since   1.2
+	 */
+	public void setProjection(final int... columnIndexes) {
+		if (mappedReader != null) {
+			mappedReader.setProjection(columnIndexes);
+		}
+	}
+
+	/**
+	 * Skip the blocks of rows which can not match a filter, by the zone map 
+	 * of the CSV file.
+	 *
+	 * <p>The rows returned are the same as before except the rows which 
+	 * don't match the filter, so the caller still needs to test the filter 
+	 * on each row. Nothing is skipped with the {@code COMMONS_CSV} engine 
+	 * or if the zone map is missing or out of date.
+	 *
+	 * @param  filter
+	 *         The filter on the rows, or {@code null} for no filter.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the zone map.
+	 *
+	 * @since   1.2
+	 */
+	void skipBlocks(final CsvFilter filter) throws IOException {
+		if (mappedReader == null || filter == null) {
+			return;
+		}
+
+		final CsvZoneMap loaded = CsvZoneMap.load(csvFilePath, header);
+		if (loaded == null) {
+			return;
+		}
+
+		final BitSet skipped = new BitSet(loaded.getBlockCount());
+		for (int i = 0; i < loaded.getBlockCount(); i++) {
+			if (!filter.mayMatch(headerMap, loaded.getBlock(i))) {
+				skipped.set(i);
+			}
+		}
+		if (!skipped.isEmpty()) {
+			zoneMap       = loaded;
+			skippedBlocks = skipped;
+		}
+	}
+
+	/**
+	 * Read the next row.
+	 *
+	 * @return  The next row or {@code null} if there are no more rows.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the CSV file.
+	 *
+	 * @since   1.2
+	 */
+	public CsvRow next() throws IOException {
+		if (remaining <= 0) {
+			return null;
+		}
+
+		long gap = sampler.nextGap();
+		if (skippedBlocks != null) {
+			gap = skipBlocks(gap);
+		}
+		if (gap == Long.MAX_VALUE) {                                        // nothing is sampled any more
+			remaining = 0;
+			return null;
+		}
+		if (pending != null) {
+			if (gap == 0) {
+				final CsvRow row = pending;
+				pending = null;
+				remaining--;
+				return row;
+			}
+			pending = null;
+			gap--;
+		}
+
+		skipRows(gap);
+		final CsvRow row = readRow();
+		if (row == null) {
+			remaining = 0;
+		} else {
+			remaining--;
+		}
+		return row;
+	}
+
+	/**
+	 * Move a gap out of the skipped blocks, the rows sampled in the skipped 
+	 * blocks are dropped.
+	 */
+	private long skipBlocks(long gap) {
+		final long start = getNextRow();
+		long       row   = start;
+		while (gap != Long.MAX_VALUE) {
+			final long target = gap > Long.MAX_VALUE - row ? Long.MAX_VALUE : row + gap;
+			final long block  = target / zoneMap.getBlockSize();
+			if (block >= zoneMap.getBlockCount() || !skippedBlocks.get((int) block)) {
+				return target - start;
+			}
+
+			if (sampled) {                                                  // keep drawing the gaps, so the same rows are sampled
+				row = target + 1;
+				gap = sampler.nextGap();
+			} else {
+				row = (long) skippedBlocks.nextClearBit((int) block) * zoneMap.getBlockSize();
+				gap = 0;
+			}
+		}
+		return Long.MAX_VALUE;
+	}
+
+	/**
+	 * Get the 0-based number of the next data row.
+	 */
+	private long getNextRow() {
+		return mappedReader.getRecordNumber() - (header == HeaderOption.WITH_HEADER ? 1 : 0) - (pending != null ? 1 : 0);
+	}
+
+	private void skipRows(final long count) throws IOException {
+		if (mappedReader != null) {
+			if (zoneMap != null && count > 0) {                             // seek to the block of the target row
+				final long row    = getNextRow();
+				final long target = row + count;
+				final long block  = target / zoneMap.getBlockSize();
+				final long first  = block * zoneMap.getBlockSize();
+				if (block < zoneMap.getBlockCount() && first > row) {
+					final CsvZoneMap.Block zone = zoneMap.getBlock((int) block);
+					mappedReader.seek(zone.getOffset(), zone.getRecordNumber());
+					mappedReader.skip(target - first);
+					return;
+				}
+			}
+			mappedReader.skip(count);
+			return;
+		}
+
+		for (long i = 0; i < count && nextRecord() != null; i++) {
+			// commons-csv finds the end of a record by parsing it
+		}
+	}
+
+	private CsvRow readRow() throws IOException {
+		if (mappedReader != null) {
+			return mappedReader.next();
+		}
+
+		final CSVRecord record = nextRecord();
+		return record == null ? null : new CsvRecordRow(record);
+	}
+
+	private CSVRecord nextRecord() throws IOException {
+		try {
+			return iterator.hasNext() ? iterator.next() : null;
+		} catch (RuntimeException e) {                                      // commons-csv wraps the IOException
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	private static String[] toArray(final CsvRow row) {
+		if (row == null) {
+			return new String[0];
+		}
+
+		final String[] array = new String[row.size()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = row.get(i);
+		}
+		return array;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (mappedReader != null) {
+			mappedReader.close();
+		} else {
+			parser.close();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.util.Random;
+
+/**
+ * The sampler decides how many records to skip before each record which 
+ * is read, based on the offset and the sampling of {@code CsvReadOptions}.
+ *
+ * <p>The Bernoulli sampling is done by drawing the gaps between the kept 
+ * records from the geometric distribution, so a random number is drawn 
+ * for each kept record instead of each record, and the records in a gap 
+ * can be skipped as a whole.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvSampler {
+	private final double rate;
+	private final double logSkipRate;
+	private final Random random;
+	private long         offset;
+
+	/**
+	 * Construct a new {@code CsvSampler}.
+	 *
+	 * @param  options
+	 *         The options for reading the CSV file.
+	 *
+	 * @since   1.2
+	 */
+	CsvSampler(final CsvReadOptions options) {
+		this.rate        = options.getSamplingRate();
+		this.logSkipRate = Math.log(1.0 - rate);
+		this.random      = new Random(options.getSamplingSeed());
+		this.offset      = options.getOffset();
+	}
+
+	/**
+	 * Get the number of records to skip before the next record which is 
+	 * read.
+	 *
+	 * @return  The number of records, {@code Long.MAX_VALUE} if no more 
+	 *          records need to be read.
+	 *
+	 * @since   1.2
+	 */
+	long nextGap() {
+		long gap = offset;
+		offset = 0;
+		if (rate == 0.0) {
+			return Long.MAX_VALUE;
+		}
+		if (rate < 1.0) {
+			final double g = Math.floor(Math.log(1.0 - random.nextDouble()) / logSkipRate);
+			gap = g >= Long.MAX_VALUE - gap ? Long.MAX_VALUE : gap + (long) g;
+		}
+		return gap;
+	}
+}
@@ -0,0 +1,460 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+
+/**
+ * The statistics of the columns in the blocks of records in a CSV file,
+ * also known as a zone map.
+ *
+ * <p>The data records are divided into blocks of {@code blockSize}
+ * records. For each block, the byte offset and the number of records are
+ * kept, and for each column in the block, the number of empty cells, the
+ * minimum and the maximum of the text, and the minimum and the maximum of
+ * the numbers if all the cells are numbers. A range filter can skip a
+ * block without reading it if the range of the block doesn't overlap.
+ *
+ * <p>The statistics are saved next to the CSV file with the
+ * {@code .zonemap} suffix, and they are ignored when the fingerprint of
+ * the CSV file is changed.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvZoneMap {
+	static final int    DEFAULT_BLOCK_SIZE = 65536;
+	static final String SUFFIX             = ".zonemap";
+
+	private static final int MAGIC           = 0x4A435A4D;                  // "JCZM"
+	private static final int VERSION         = 1;
+	private static final int MAX_TEXT_LENGTH = 256;                         // a longer cell drops the text range of its block
+
+	private final CsvFileFingerprint fingerprint;
+	private final boolean            header;
+	private final int                blockSize;
+	private final Block[]            blocks;
+
+	private CsvZoneMap(final CsvFileFingerprint fingerprint, final boolean header, final int blockSize, final Block[] blocks) {
+		this.fingerprint = fingerprint;
+		this.header      = header;
+		this.blockSize   = blockSize;
+		this.blocks      = blocks;
+	}
+
+	/**
+	 * Load the statistics of a CSV file if they are still valid.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header
+	 *         or not.
+	 *
+	 * @return  The statistics, or {@code null} if they are missing or out
+	 *          of date.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the files.
+	 *
+	 * @since   1.2
+	 */
+	static CsvZoneMap load(final String csvFilePath, final HeaderOption header) throws IOException {
+		final File file = new File(csvFilePath + SUFFIX);
+		if (!file.isFile()) {
+			return null;
+		}
+
+		final CsvFileFingerprint fingerprint = CsvFileFingerprint.of(csvFilePath);
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || !CsvFileFingerprint.read(in).equals(fingerprint)
+					|| in.readBoolean() != (header == HeaderOption.WITH_HEADER)) {
+				return null;
+			}
+
+			final int     blockSize = in.readInt();
+			final Block[] blocks    = new Block[in.readInt()];
+			for (int i = 0; i < blocks.length; i++) {
+				blocks[i] = Block.read(in);
+			}
+			return new CsvZoneMap(fingerprint, header == HeaderOption.WITH_HEADER, blockSize, blocks);
+		}
+	}
+
+	/**
+	 * Build the statistics of a CSV file and save them next to the file.
+	 *
+	 * @param  csvFilePath
+	 *         The path of the CSV file.
+	 *
+	 * @param  charset
+	 *         The charset of the CSV file, it needs to be compatible with
+	 *         ASCII.
+	 *
+	 * @param  header
+	 *         The option to specify the CSV file has the first line as header
+	 *         or not.
+	 *
+	 * @param  blockSize
+	 *         The number of records in a block.
+	 *
+	 * @return  The statistics.
+	 *
+	 * @throws  IOException
+	 *          If there is an error occurred when reading the CSV file or
+	 *          writing the statistics.
+	 *
+	 * @since   1.2
+	 */
+	static CsvZoneMap create(final String csvFilePath, final Charset charset, final HeaderOption header, final int blockSize) throws IOException {
+		if (blockSize <= 0) {
+			throw new IllegalArgumentException("The block size needs to be positive, but it is " + blockSize + " right now.");
+		}
+
+		final CsvZoneMap zoneMap = build(csvFilePath, charset, header, blockSize);
+		zoneMap.save(csvFilePath + SUFFIX);
+		return zoneMap;
+	}
+
+	private static CsvZoneMap build(final String csvFilePath, final Charset charset, final HeaderOption header, final int blockSize) throws IOException {
+		final CsvFileFingerprint fingerprint = CsvFileFingerprint.of(csvFilePath);         // taken before reading, so a concurrent change makes it stale
+
+		final List<Block> blockList = new ArrayList<>();
+		try (CsvMappedReader reader = new CsvMappedReader(csvFilePath, charset)) {
+			if (header == HeaderOption.WITH_HEADER) {
+				reader.skip(1);
+			}
+
+			Block block = null;
+			for (CsvMappedRow row = reader.next(); row != null; row = reader.next()) {
+				if (block == null) {
+					block = new Block(reader.getRecordOffset(), reader.getRecordNumber() - 1);
+				}
+				block.add(row);
+				if (block.rowCount == blockSize) {
+					blockList.add(block);
+					block = null;
+				}
+			}
+			if (block != null) {
+				blockList.add(block);
+			}
+		}
+		return new CsvZoneMap(fingerprint, header == HeaderOption.WITH_HEADER, blockSize, blockList.toArray(new Block[blockList.size()]));
+	}
+
+	private void save(final String zoneMapFilePath) throws IOException {
+		final File file = new File(zoneMapFilePath);
+		final File temp = new File(zoneMapFilePath + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			fingerprint.write(out);
+			out.writeBoolean(header);
+			out.writeInt(blockSize);
+			out.writeInt(blocks.length);
+			for (Block block : blocks) {
+				block.write(out);
+			}
+		}
+		Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);           // the readers never see partial statistics
+	}
+
+	/**
+	 * Get the number of records in a block.
+	 *
+	 * @return  The number of records, the last block may have fewer.
+	 *
+	 * @since   1.2
+	 */
+	int getBlockSize() {
+		return blockSize;
+	}
+
+	/**
+	 * Get the number of blocks.
+	 *
+	 * @return  The number of blocks.
+	 *
+	 * @since   1.2
+	 */
+	int getBlockCount() {
+		return blocks.length;
+	}
+
+	/**
+	 * Get a block.
+	 *
+	 * @param  index
+	 *         The 0-based index of the block.
+	 *
+	 * @return  The block.
+	 *
+	 * @since   1.2
+	 */
+	Block getBlock(final int index) {
+		return blocks[index];
+	}
+
+	/**
+	 * The statistics of a block of records.
+	 */
+	static final class Block {
+		private final long offset;
+		private final long recordNumber;
+		private int        rowCount;
+		private int[]      nullCounts;
+		private String[]   textMins;
+		private String[]   textMaxes;
+		private double[]   numberMins;
+		private double[]   numberMaxes;
+		private boolean[]  textRanged;
+		private boolean[]  numberRanged;
+
+		private Block(final long offset, final long recordNumber) {
+			this.offset       = offset;
+			this.recordNumber = recordNumber;
+			this.nullCounts   = new int[0];
+			this.textMins     = new String[0];
+			this.textMaxes    = new String[0];
+			this.numberMins   = new double[0];
+			this.numberMaxes  = new double[0];
+			this.textRanged   = new boolean[0];
+			this.numberRanged = new boolean[0];
+		}
+
+		private void add(final CsvMappedRow row) {
+			if (row.size() > nullCounts.length) {
+				grow(row.size());
+			}
+
+			for (int i = 0; i < nullCounts.length; i++) {
+				if (i >= row.size() || row.isNull(i)) {                     // a short row has empty cells
+					nullCounts[i]++;
+					continue;
+				}
+
+				final CharSequence value = row.getCharSequence(i);
+				if (textRanged[i]) {
+					if (value.length() > MAX_TEXT_LENGTH) {
+						textRanged[i] = false;
+						textMins[i]   = null;
+						textMaxes[i]  = null;
+					} else if (textMins[i] == null) {
+						textMins[i]  = value.toString();
+						textMaxes[i] = textMins[i];
+					} else if (compare(value, textMins[i]) < 0) {
+						textMins[i] = value.toString();
+					} else if (compare(value, textMaxes[i]) > 0) {
+						textMaxes[i] = value.toString();
+					}
+				}
+				if (numberRanged[i]) {
+					final double number = parseNumber(value);
+					if (Double.isNaN(number)) {
+						numberRanged[i] = false;
+					} else {
+						numberMins[i]  = Math.min(numberMins[i], number);
+						numberMaxes[i] = Math.max(numberMaxes[i], number);
+					}
+				}
+			}
+			rowCount++;
+		}
+
+		private void grow(final int columnCount) {
+			final int oldCount = nullCounts.length;
+			nullCounts   = Arrays.copyOf(nullCounts, columnCount);
+			textMins     = Arrays.copyOf(textMins, columnCount);
+			textMaxes    = Arrays.copyOf(textMaxes, columnCount);
+			numberMins   = Arrays.copyOf(numberMins, columnCount);
+			numberMaxes  = Arrays.copyOf(numberMaxes, columnCount);
+			textRanged   = Arrays.copyOf(textRanged, columnCount);
+			numberRanged = Arrays.copyOf(numberRanged, columnCount);
+			for (int i = oldCount; i < columnCount; i++) {
+				nullCounts[i]   = rowCount;                                  // the earlier rows are short
+				numberMins[i]   = Double.POSITIVE_INFINITY;
+				numberMaxes[i]  = Double.NEGATIVE_INFINITY;
+				textRanged[i]   = true;
+				numberRanged[i] = true;
+			}
+		}
+
+		private static Block read(final DataInputStream in) throws IOException {
+			final Block block = new Block(in.readLong(), in.readLong());
+			block.rowCount = in.readInt();
+			block.grow(in.readInt());
+			for (int i = 0; i < block.nullCounts.length; i++) {
+				block.nullCounts[i]   = in.readInt();
+				block.textRanged[i]   = in.readBoolean();
+				block.numberRanged[i] = in.readBoolean();
+				if (block.textRanged[i] && block.nullCounts[i] < block.rowCount) {
+					block.textMins[i]  = in.readUTF();
+					block.textMaxes[i] = in.readUTF();
+				}
+				if (block.numberRanged[i] && block.nullCounts[i] < block.rowCount) {
+					block.numberMins[i]  = in.readDouble();
+					block.numberMaxes[i] = in.readDouble();
+				}
+			}
+			return block;
+		}
+
+		private void write(final DataOutputStream out) throws IOException {
+			out.writeLong(offset);
+			out.writeLong(recordNumber);
+			out.writeInt(rowCount);
+			out.writeInt(nullCounts.length);
+			for (int i = 0; i < nullCounts.length; i++) {
+				out.writeInt(nullCounts[i]);
+				out.writeBoolean(textRanged[i]);
+				out.writeBoolean(numberRanged[i]);
+				if (textRanged[i] && nullCounts[i] < rowCount) {
+					out.writeUTF(textMins[i]);
+					out.writeUTF(textMaxes[i]);
+				}
+				if (numberRanged[i] && nullCounts[i] < rowCount) {
+					out.writeDouble(numberMins[i]);
+					out.writeDouble(numberMaxes[i]);
+				}
+			}
+		}
+
+		/**
+		 * Get the byte offset of the first record in this block.
+		 */
+		long getOffset() {
+			return offset;
+		}
+
+		/**
+		 * Get the number of records before this block, counted from the
+		 * start of the file.
+		 */
+		long getRecordNumber() {
+			return recordNumber;
+		}
+
+		/**
+		 * Get the number of records in this block.
+		 */
+		int getRowCount() {
+			return rowCount;
+		}
+
+		/**
+		 * Get the number of empty cells of a column in this block.
+		 */
+		int getNullCount(final int column) {
+			return column < nullCounts.length ? nullCounts[column] : rowCount;
+		}
+
+		/**
+		 * Check whether all the cells of a column in this block are empty.
+		 */
+		boolean isAllNull(final int column) {
+			return getNullCount(column) == rowCount;
+		}
+
+		/**
+		 * Get the minimum text of a column in this block, or {@code null} if
+		 * it is not known.
+		 */
+		String getTextMin(final int column) {
+			return column < textMins.length ? textMins[column] : null;
+		}
+
+		/**
+		 * Get the maximum text of a column in this block, or {@code null} if
+		 * it is not known.
+		 */
+		String getTextMax(final int column) {
+			return column < textMaxes.length ? textMaxes[column] : null;
+		}
+
+		/**
+		 * Check whether all the non-empty cells of a column in this block
+		 * are numbers, so the number range is known.
+		 */
+		boolean hasNumberRange(final int column) {
+			return column < numberRanged.length && numberRanged[column] && !isAllNull(column);
+		}
+
+		/**
+		 * Get the minimum number of a column in this block.
+		 */
+		double getNumberMin(final int column) {
+			return numberMins[column];
+		}
+
+		/**
+		 * Get the maximum number of a column in this block.
+		 */
+		double getNumberMax(final int column) {
+			return numberMaxes[column];
+		}
+	}
+
+	/**
+	 * Compare a text with another like {@code String.compareTo}.
+	 */
+	static int compare(final CharSequence a, final CharSequence b) {
+		final int length = Math.min(a.length(), b.length());
+		for (int i = 0; i < length; i++) {
+			final char ca = a.charAt(i);
+			final char cb = b.charAt(i);
+			if (ca != cb) {
+				return ca - cb;
+			}
+		}
+		return a.length() - b.length();
+	}
+
+	/**
+	 * Parse a cell as a number, or get {@code NaN} if it is not a number.
+	 */
+	private static double parseNumber(final CharSequence value) {
+		final char first = value.charAt(0);
+		if (!(first >= '0' && first <= '9' || first == '-' || first == '+' || first == '.')) {     // no exception for most of the text
+			return Double.NaN;
+		}
+
+		try {
+			return CsvNumbers.parseDouble(value);
+		} catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+}
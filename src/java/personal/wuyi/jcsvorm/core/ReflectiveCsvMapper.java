@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.text.ParseException;
+import java.util.List;
+
+import personal.wuyi.jcsvorm.api.CsvMapper;
+import personal.wuyi.jcsvorm.api.CsvRow;
+
+/**
+ * The {@code CsvMapper} based on reflection.
+ *
+ * <p>It is the reference implementation and the fallback for the generated 
+ * mappers, it works for any class annotated by {@code CsvEntity}. The slots 
+ * are in the declaration order of the fields in {@code CsvMapping}.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class ReflectiveCsvMapper<T> implements CsvMapper<T> {
+	private final CsvMapping<T>      mapping;
+	private final CsvColumnMapping[] columns;
+
+	ReflectiveCsvMapper(final CsvMapping<T> mapping) {
+		final List<CsvColumnMapping> columnList = mapping.getColumnList();
+
+		this.mapping = mapping;
+		this.columns = columnList.toArray(new CsvColumnMapping[columnList.size()]);
+	}
+
+	@Override
+	public String[] getFieldNames() {
+		final String[] names = new String[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			names[i] = columns[i].getField().getName();
+		}
+		return names;
+	}
+
+	@Override
+	public T read(final CsvRow row, final int[] index) throws IllegalAccessException, ParseException {
+		final T t = mapping.newInstance();
+
+		for (int i = 0; i < columns.length; i++) {
+			if (index[i] >= 0) {
+				columns[i].getConverter().read(t, row, index[i]);
+			}
+		}
+
+		return t;
+	}
+
+	@Override
+	public void write(final T t, final String[] cells) throws IllegalAccessException {
+		for (int i = 0; i < columns.length; i++) {
+			cells[i] = CsvFactory.getValue(t, columns[i]);
+		}
+	}
+}
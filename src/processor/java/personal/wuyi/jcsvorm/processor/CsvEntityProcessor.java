@@ -0,0 +1,277 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import personal.wuyi.jcsvorm.annotation.CsvColumn;
+import personal.wuyi.jcsvorm.annotation.CsvEntity;
+import personal.wuyi.jcsvorm.codegen.CsvColumnKind;
+import personal.wuyi.jcsvorm.codegen.CsvMapperWriter;
+
+/**
+ * The annotation processor for the classes annotated by {@code CsvEntity}.
+ *
+ * <p>This processor reports the violations of the rules for the 
+ * {@code CsvEntity} and {@code CsvColumn} annotations as compile errors, 
+ * and it generates a {@code CsvMapper} class (the entity class name plus 
+ * {@code _CsvMapper}) in the same package for each valid class, which is 
+ * picked up by {@code CsvFactory} automatically.
+ *
+ * <p>The rule which depends on the header option (the {@code pos} parameter 
+ * is required when the CSV file doesn't have header line) is still checked 
+ * at runtime. Like the reflective mapper, the generated mapper reads and 
+ * writes the fields directly and never calls the setters and getters. The 
+ * fields which can not be accessed from the package of the mapper, like the 
+ * private fields, are accessed by their {@code MethodHandle}s. So a mapper 
+ * is only generated for a public class with a public no-arg constructor and 
+ * all the mapped fields are not final, otherwise the reflective mapper is 
+ * used at runtime.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+@SupportedAnnotationTypes({"personal.wuyi.jcsvorm.annotation.CsvEntity", "personal.wuyi.jcsvorm.annotation.CsvColumn"})
+public class CsvEntityProcessor extends AbstractProcessor {
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+		final Set<TypeElement> invalidTypeSet = new HashSet<>();
+		final Set<TypeElement> checkedTypeSet = new HashSet<>();
+
+		for (VariableElement field : ElementFilter.fieldsIn(roundEnv.getElementsAnnotatedWith(CsvColumn.class))) {
+			final TypeElement type = (TypeElement) field.getEnclosingElement();
+			if (!checkField(field)) {
+				invalidTypeSet.add(type);
+			}
+			if (checkedTypeSet.add(type) && type.getAnnotation(CsvEntity.class) == null && !type.getModifiers().contains(Modifier.ABSTRACT)) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, type.getSimpleName() + " needs to have " + CsvEntity.class.getSimpleName() + " anntation.", type);
+			}
+		}
+
+		for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(CsvEntity.class))) {
+			if (type.getKind() == ElementKind.CLASS && !invalidTypeSet.contains(type)) {
+				generateMapper(type);
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Check the rules for a field annotated by {@code CsvColumn} which don't 
+	 * depend on the header option.
+	 *
+	 * @param  field
+	 *         The field annotated by {@code CsvColumn}.
+	 *
+	 * @return  {@code true} if the field is valid;
+	 *          {@code false} otherwise.
+	 *
+	 * @since   1.2
+	 */
+	private boolean checkField(final VariableElement field) {
+		final CsvColumn     column    = field.getAnnotation(CsvColumn.class);
+		final String        fieldName = field.getSimpleName().toString();
+		final CsvColumnKind kind      = getKind(field.asType());
+
+		String error = null;
+		if (field.getModifiers().contains(Modifier.STATIC)) {
+			error = fieldName + " field can not be static.";
+		} else if (column.pos() == -Integer.MAX_VALUE && column.name().isEmpty()) {
+			error = "For field " + fieldName + ", must specify at least one parameter among pos and name in the CsvColumn annotation.";
+		} else if (kind == null) {
+			error = "The field " + fieldName + " is not an easy type (" + processingEnv.getTypeUtils().erasure(field.asType()) + ") for parsing CSV file.";
+		} else if (kind.isDate() && column.format().isEmpty()) {
+			error = "The field " + fieldName + " needs to spefic the format for parsing date or date time.";
+		}
+
+		if (error != null) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, error, field);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Generate the mapper for a class annotated by {@code CsvEntity}.
+	 *
+	 * @param  type
+	 *         The class annotated by {@code CsvEntity}.
+	 *
+	 * @since   1.2
+	 */
+	private void generateMapper(final TypeElement type) {
+		final String reason = getUnsupportedReason(type);
+		if (reason != null) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "No CsvMapper is generated for " + type.getSimpleName() + " because " + reason + ", the reflective mapper will be used.", type);
+			return;
+		}
+
+		final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		final String binaryName  = processingEnv.getElementUtils().getBinaryName(type).toString();
+		final String mapperName  = CsvMapperWriter.getMapperClassName(packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1));
+
+		final CsvMapperWriter writer       = new CsvMapperWriter(packageName, mapperName, type.getQualifiedName().toString());
+		final Set<String>     fieldNameSet = new HashSet<>();
+		for (VariableElement field : getColumnFields(type)) {
+			final String fieldName = field.getSimpleName().toString();
+			if (!fieldNameSet.add(fieldName)) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "No CsvMapper is generated for " + type.getSimpleName() + " because the field " + fieldName + " is hidden, the reflective mapper will be used.", type);
+				return;
+			}
+
+			if (field.getModifiers().contains(Modifier.FINAL)) {        // the same field access as the reflective mapper
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "No CsvMapper is generated for " + type.getSimpleName() + " because the field " + fieldName + " is final, the reflective mapper will be used.", type);
+				return;
+			}
+
+			final CsvColumnKind kind   = getKind(field.asType());
+			final String        format = field.getAnnotation(CsvColumn.class).format();
+			if (isAccessible(field, packageName)) {
+				writer.addColumn(fieldName, kind, format, "t." + fieldName, "t." + fieldName + " = {}");
+			} else {
+				writer.addHandleColumn(fieldName, kind, format);
+			}
+		}
+
+		try {
+			final JavaFileObject file = processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? mapperName : packageName + "." + mapperName, type);
+			try (Writer out = file.openWriter()) {
+				out.write(writer.write());
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to generate the CsvMapper for " + type.getSimpleName() + ": " + e.getMessage(), type);
+		}
+	}
+
+	/**
+	 * Get the reason why a mapper can not be generated for a class.
+	 *
+	 * @param  type
+	 *         The class annotated by {@code CsvEntity}.
+	 *
+	 * @return  The reason or {@code null} if a mapper can be generated.
+	 *
+	 * @since   1.2
+	 */
+	private String getUnsupportedReason(final TypeElement type) {
+		for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+			final TypeElement t = (TypeElement) e;
+			if (!t.getModifiers().contains(Modifier.PUBLIC) || (t.getNestingKind() == NestingKind.MEMBER && !t.getModifiers().contains(Modifier.STATIC))) {
+				return "it is not a public top-level or static nested class";
+			}
+			if (t.getNestingKind() == NestingKind.LOCAL || t.getNestingKind() == NestingKind.ANONYMOUS) {
+				return "it is not a public top-level or static nested class";
+			}
+		}
+		if (type.getModifiers().contains(Modifier.ABSTRACT) || !type.getTypeParameters().isEmpty()) {
+			return "it is abstract or generic";
+		}
+
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+				return null;
+			}
+		}
+		return "it doesn't have a public no-arg constructor";
+	}
+
+	/**
+	 * Get all the fields annotated by {@code CsvColumn} in a class and its 
+	 * super classes, in the same order as the runtime.
+	 *
+	 * @param  type
+	 *         The class annotated by {@code CsvEntity}.
+	 *
+	 * @return  The list of fields.
+	 *
+	 * @since   1.2
+	 */
+	private List<VariableElement> getColumnFields(final TypeElement type) {
+		final List<VariableElement> fieldList = new ArrayList<>();
+		for (TypeElement t = type; t != null; t = getSuperclass(t)) {
+			for (VariableElement field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+				if (field.getAnnotation(CsvColumn.class) != null) {
+					fieldList.add(field);
+				}
+			}
+		}
+		return fieldList;
+	}
+
+	private static TypeElement getSuperclass(final TypeElement type) {
+		final TypeMirror superclass = type.getSuperclass();
+		return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+	}
+
+	private CsvColumnKind getKind(final TypeMirror type) {
+		return CsvColumnKind.of(type.getKind().isPrimitive() ? type.toString() : processingEnv.getTypeUtils().erasure(type).toString());
+	}
+
+	/**
+	 * Check a field can be read and written directly by the mapper in a 
+	 * package.
+	 *
+	 * @param  field
+	 *         The field annotated by {@code CsvColumn}.
+	 *
+	 * @param  packageName
+	 *         The package of the mapper.
+	 *
+	 * @return  {@code true} if the field can be accessed;
+	 *          {@code false} otherwise.
+	 *
+	 * @since   1.2
+	 */
+	private boolean isAccessible(final VariableElement field, final String packageName) {
+		final Set<Modifier> modifiers = field.getModifiers();
+		if (modifiers.contains(Modifier.PRIVATE)) {
+			return false;
+		}
+		return modifiers.contains(Modifier.PUBLIC) || processingEnv.getElementUtils().getPackageOf(field).getQualifiedName().contentEquals(packageName);
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.core.model.correct.User1;
+
+/**
+ * Test class for CsvBloomFilter.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvBloomFilterTest {
+	private static final int ROW_COUNT = 2000;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = CsvTestCorpus.write(folder, "users.csv", ROW_COUNT);
+	}
+
+	/**
+	 * The values in the column are always reported, and few other values
+	 */
+	@Test
+	public void mightContainTest() throws IOException {
+		CsvFactory.buildBloomFilter(file.getPath(), HeaderOption.WITH_HEADER, "name");
+		Assert.assertTrue(new File(CsvBloomFilter.getFilterFilePath(file.getPath(), "name")).isFile());
+
+		for (int i = 0; i < ROW_COUNT; i++) {
+			Assert.assertTrue(CsvFactory.mightContain(file.getPath(), "name", CsvTestCorpus.getName(i)));
+		}
+		Assert.assertTrue(countFalsePositives(file.getPath(), "name") < 300);    // 1% of 10000 expected
+	}
+
+	/**
+	 * The filter built by writeCsv is the same as the values written
+	 */
+	@Test
+	public void writeCsvTest() throws IllegalAccessException, IOException {
+		List<User1> userList = new ArrayList<>();
+		for (int i = 0; i < ROW_COUNT; i++) {
+			User1 user = new User1();
+			user.setName(i % 10 == 0 ? null : "user" + i);
+			user.setSalary(i);
+			user.setDob(new Date());
+			userList.add(user);
+		}
+
+		String path = folder.getRoot().getPath() + File.separator + "written.csv";
+		CsvFactory.writeCsv(userList, path, HeaderOption.WITH_HEADER, "int_amount");
+		for (int i = 0; i < ROW_COUNT; i++) {
+			Assert.assertTrue(CsvFactory.mightContain(path, "int_amount", String.valueOf(i)));
+		}
+		Assert.assertTrue(countFalsePositives(path, "int_amount") < 300);
+
+		CsvFactory.writeCsv(userList, path, HeaderOption.WITH_HEADER, "name");
+		Assert.assertTrue(CsvFactory.mightContain(path, "name", ""));
+		Assert.assertTrue(CsvFactory.mightContain(path, "name", "user1"));
+	}
+
+	/**
+	 * The filter is not used when it is missing or the file is changed
+	 */
+	@Test
+	public void staleFilterTest() throws IOException {
+		Assert.assertEquals(10000, countFalsePositives(file.getPath(), "name"));
+
+		CsvFactory.buildBloomFilter(file.getPath(), HeaderOption.WITH_HEADER, "name");
+		Assert.assertTrue(countFalsePositives(file.getPath(), "name") < 300);
+
+		Files.write(file.toPath(), "other,0,2018-01-01,0,true\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+		Assert.assertEquals(10000, countFalsePositives(file.getPath(), "name"));
+		Assert.assertTrue(CsvFactory.mightContain(file.getPath(), "name", "other"));
+	}
+
+	/**
+	 * The column out of the file is reported
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void buildBloomFilterExceptionTest() throws IOException {
+		CsvFactory.buildBloomFilter(file.getPath(), HeaderOption.WITH_HEADER, "nick_name");
+	}
+
+	private static int countFalsePositives(String path, String columnName) throws IOException {
+		int count = 0;
+		for (int i = 0; i < 10000; i++) {
+			if (CsvFactory.mightContain(path, columnName, "absent" + i)) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
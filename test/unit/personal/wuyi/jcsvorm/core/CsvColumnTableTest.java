@@ -0,0 +1,168 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.core.model.correct.AllTypeRecord;
+
+/**
+ * Test class for CsvColumnTable.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvColumnTableTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * The columns have the same values as the objects
+	 */
+	@Test
+	public void readColumnsTest() throws IOException, IllegalAccessException, ParseException {
+		List<AllTypeRecord> recordList = CsvFactory.readCsv(AllTypeRecord.class, "data/all_type_input.csv", HeaderOption.WITH_HEADER);
+
+		for (CsvReadOptions options : new CsvReadOptions[] { CsvReadOptions.DEFAULT, CsvReadOptions.DEFAULT.withEngine(CsvReadOptions.Engine.MAPPED) }) {
+			CsvColumnTable table = CsvFactory.readColumns(AllTypeRecord.class, "data/all_type_input.csv", HeaderOption.WITH_HEADER, options);
+			Assert.assertEquals(recordList.size(), table.getRowCount());
+			Assert.assertEquals("stringValue", table.getFieldNames().get(0));
+			Assert.assertEquals(CsvColumnTable.Kind.DOUBLE, table.getColumn("floatValue").getKind());
+
+			SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+			for (int i = 0; i < recordList.size(); i++) {
+				AllTypeRecord record = recordList.get(i);
+				Assert.assertEquals(record.getStringValue(),  table.getStringColumn("stringValue").get(i));
+				Assert.assertEquals(record.getIntegerValue(), table.getIntColumn("integerValue").get(i));
+				Assert.assertEquals(record.getLongValue(),    table.getLongColumn("longValue").get(i));
+				Assert.assertEquals(record.getDoubleValue(),  table.getDoubleColumn("doubleValue").get(i), 0.0);
+				Assert.assertEquals(record.getFloatValue(),   table.getDoubleColumn("floatValue").get(i), 0.0);
+				Assert.assertEquals(record.getShortValue(),   table.getIntColumn("shortValue").get(i));
+				Assert.assertEquals(record.getBooleanValue(), table.getBooleanColumn("booleanValue").get(i));
+				Assert.assertEquals(dateFormat.format(record.getUtilDateValue()), table.getStringColumn("utilDateValue").get(i));
+			}
+			Assert.assertArrayEquals(table.getLongColumn("longValue").toArray(), recordList.stream().mapToLong(AllTypeRecord::getLongValue).toArray());
+		}
+	}
+
+	/**
+	 * The repeated texts are stored once
+	 */
+	@Test
+	public void getDictionaryTest() throws IOException {
+		CsvColumnTable table = CsvFactory.readColumns(AllTypeRecord.class, "data/all_type_input.csv", HeaderOption.WITH_HEADER);
+		CsvColumnTable.StringColumn column = table.getStringColumn("localDateTimeValue");
+		for (int i = 0; i < column.size(); i++) {
+			Assert.assertEquals(column.get(i), column.getDictionary().get(column.getCode(i)));
+		}
+		Assert.assertTrue(column.getDictionary().size() <= column.size());
+	}
+
+	/**
+	 * The columns are the same in any storage
+	 */
+	@Test
+	public void readColumnsStorageTest() throws IOException {
+		try (CsvColumnTable expected = CsvFactory.readColumns(AllTypeRecord.class, "data/all_type_input.csv", HeaderOption.WITH_HEADER)) {
+			for (CsvReadOptions.Storage storage : new CsvReadOptions.Storage[] { CsvReadOptions.Storage.DIRECT, CsvReadOptions.Storage.MAPPED }) {
+				CsvReadOptions options = CsvReadOptions.DEFAULT.withStorage(storage).withScratchDirectory(folder.getRoot().getPath());
+				try (CsvColumnTable table = CsvFactory.readColumns(AllTypeRecord.class, "data/all_type_input.csv", HeaderOption.WITH_HEADER, options)) {
+					Assert.assertArrayEquals(expected.getIntColumn("integerValue").toArray(),   table.getIntColumn("integerValue").toArray());
+					Assert.assertArrayEquals(expected.getLongColumn("longValue").toArray(),     table.getLongColumn("longValue").toArray());
+					Assert.assertArrayEquals(expected.getDoubleColumn("doubleValue").toArray(), table.getDoubleColumn("doubleValue").toArray(), 0.0);
+					Assert.assertArrayEquals(expected.getBooleanColumn("booleanValue").toArray(), table.getBooleanColumn("booleanValue").toArray());
+					for (int i = 0; i < expected.getRowCount(); i++) {
+						Assert.assertEquals(expected.getStringColumn("stringValue").get(i),   table.getStringColumn("stringValue").get(i));
+						Assert.assertEquals(expected.getStringColumn("utilDateValue").get(i), table.getStringColumn("utilDateValue").get(i));
+					}
+					Assert.assertEquals(storage == CsvReadOptions.Storage.DIRECT, table.getStringColumn("stringValue").hasDictionary());
+				}
+			}
+		}
+		Assert.assertEquals(0, folder.getRoot().list().length);
+	}
+
+	/**
+	 * The texts kept in the storage are read back as they are written
+	 */
+	@Test
+	public void textsTest() throws IOException {
+		CsvReadOptions options = CsvReadOptions.DEFAULT.withStorage(CsvReadOptions.Storage.MAPPED).withScratchDirectory(folder.getRoot().getPath());
+		try (CsvColumnStorage storage = CsvColumnStorage.of(options)) {
+			CsvColumnStorage.Texts texts = new CsvColumnStorage.Texts(storage);
+			String longText = new String(new char[CsvColumnStorage.Texts.CHUNK_BYTES]).replace('\0', 'x');
+			long[] references = { texts.add("a"), texts.add(""), texts.add("caf\u00e9, \"x\""), texts.add(longText), texts.add("b") };
+			Assert.assertEquals("a",                    texts.get(references[0]));
+			Assert.assertEquals("",                     texts.get(references[1]));
+			Assert.assertEquals("caf\u00e9, \"x\"",  texts.get(references[2]));
+			Assert.assertEquals(longText,               texts.get(references[3]));
+			Assert.assertEquals("b",                    texts.get(references[4]));
+		}
+	}
+
+	/**
+	 * The columns can not be read after the table is closed, as the buffers 
+	 * of the direct storage are freed
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void closeTest() throws IOException {
+		CsvReadOptions options = CsvReadOptions.DEFAULT.withStorage(CsvReadOptions.Storage.DIRECT);
+		CsvColumnTable table = CsvFactory.readColumns(AllTypeRecord.class, "data/all_type_input.csv", HeaderOption.WITH_HEADER, options);
+		CsvColumnTable.IntColumn column = table.getIntColumn("integerValue");
+		table.close();
+		column.get(0);
+	}
+
+	/**
+	 * The values are kept across the segments
+	 */
+	@Test
+	public void segmentsTest() throws IOException {
+		CsvReadOptions options = CsvReadOptions.DEFAULT.withStorage(CsvReadOptions.Storage.MAPPED).withScratchDirectory(folder.getRoot().getPath());
+		for (CsvReadOptions currentOptions : new CsvReadOptions[] { CsvReadOptions.DEFAULT, options }) {
+			try (CsvColumnStorage storage = CsvColumnStorage.of(currentOptions)) {
+				CsvColumnStorage.Segments segments = new CsvColumnStorage.Segments(storage, Long.BYTES);
+				int rowCount = CsvColumnStorage.SEGMENT_VALUES + 10;
+				for (int row = 0; row < rowCount; row++) {
+					segments.ensure(row).putLong(segments.offset(row), row * 3L);
+				}
+				for (int row = 0; row < rowCount; row += 997) {
+					Assert.assertEquals(row * 3L, segments.get(row).getLong(segments.offset(row)));
+				}
+			}
+		}
+	}
+
+	/**
+	 * The column of a different kind is reported
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void getIntColumnExceptionTest() throws IOException {
+		CsvFactory.readColumns(AllTypeRecord.class, "data/all_type_input.csv", HeaderOption.WITH_HEADER).getIntColumn("longValue");
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import personal.wuyi.jcsvorm.core.model.correct.AllTypeRecord;
+
+/**
+ * Test class for CsvConverter.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvConverterTest {
+	private static final String[] DATE_COLUMNS = {
+		"util_date_value", "timestamp_value", "calendar_value", "sql_date_value", "local_date_value"
+	};
+
+	/**
+	 * The shared formatters give the same results in many threads
+	 */
+	@Test
+	public void parseConcurrentTest() throws Exception {
+		List<CsvConverter> converterList = new ArrayList<>();
+		for (String columnName : DATE_COLUMNS) {
+			converterList.add(CsvFactory.getFieldFromFieldListByParameter(CsvMapping.of(AllTypeRecord.class), columnName).getConverter());
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futureList = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				final int thread = t;
+				futureList.add(executor.submit(() -> {
+					AllTypeRecord record = new AllTypeRecord();
+					for (int i = 0; i < 2000; i++) {
+						String value = String.format("%04d-%02d-%02d", 1990 + thread, 1 + i % 12, 1 + i % 28);
+						for (CsvConverter converter : converterList) {
+							converter.parse(record, value);
+							Assert.assertEquals(value, converter.format(record));
+						}
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futureList) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * An invalid pattern is reported when a value is parsed
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void parseInvalidPatternTest() throws Exception {
+		CsvConverter converter = new CsvConverter.LocalDateConverter(null, "yyyy-MM-dd bb");
+		converter.parse(new AllTypeRecord(), "2018-01-01");
+	}
+}
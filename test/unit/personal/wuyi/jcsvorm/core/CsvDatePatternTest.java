@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.lang.reflect.Field;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import personal.wuyi.jcsvorm.core.model.correct.AllTypeRecord;
+
+/**
+ * Test class for CsvDatePattern.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvDatePatternTest {
+	private static final String[] PATTERNS = { "yyyy-MM-dd", "yyyyMMdd", "yyyy-MM-dd_HH:mm", "yyyy/MM/dd HH:mm:ss" };
+
+	/**
+	 * Only the fixed-width patterns are compiled
+	 */
+	@Test
+	public void compileTest() {
+		for (String pattern : PATTERNS) {
+			Assert.assertNotNull(pattern, CsvDatePattern.compile(pattern));
+		}
+		for (String pattern : new String[] { "yy-MM-dd", "yyyy-M-d", "dd/MM", "yyyy-MM-dd'T'HH", "yyyy-MM-dd a", "yyyy-MM-dd HH:mm:ss.SSS", "yyyy-MM-dd-dd" }) {
+			Assert.assertNull(pattern, CsvDatePattern.compile(pattern));
+		}
+	}
+
+	/**
+	 * The values are parsed and formatted the same as JDK
+	 */
+	@Test
+	public void parseAndFormatTest() throws Exception {
+		TimeZone defaultZone = TimeZone.getDefault();
+		try {
+			for (String zone : new String[] { "UTC", "America/New_York", "Asia/Shanghai", "Australia/Lord_Howe" }) {
+				TimeZone.setDefault(TimeZone.getTimeZone(zone));
+				for (String pattern : PATTERNS) {
+					check(pattern, getTexts(pattern));
+				}
+			}
+		} finally {
+			TimeZone.setDefault(defaultZone);
+		}
+	}
+
+	private static List<String> getTexts(String pattern) {
+		DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+		List<String> textList = new ArrayList<>();
+
+		Random random = new Random(7);
+		for (int i = 0; i < 1000; i++) {
+			LocalDateTime dateTime = LocalDateTime.of(1850 + random.nextInt(250), 1 + random.nextInt(12), 1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60));
+			textList.add(dateTime.format(formatter));
+		}
+		textList.add(LocalDateTime.of(2018, 3, 11, 2, 30).format(formatter));          // gap in New York
+		textList.add(LocalDateTime.of(2018, 11, 4, 1, 30).format(formatter));          // overlap in New York
+		textList.add(LocalDateTime.of(2016, 2, 29, 0, 0).format(formatter));
+		textList.add(pattern.replace("yyyy", "2018").replace("MM", "02").replace("dd", "30").replace("HH", "10").replace("mm", "00").replace("ss", "00"));
+		textList.add(pattern.replace("yyyy", "2018").replace("MM", "13").replace("dd", "01").replace("HH", "10").replace("mm", "00").replace("ss", "00"));
+		textList.add(pattern.replace("yyyy", "2018").replace("MM", "01").replace("dd", "01").replace("HH", "24").replace("mm", "00").replace("ss", "00"));
+		textList.add("2018-1-5");
+		textList.add("abc");
+		return textList;
+	}
+
+	private static void check(String pattern, List<String> textList) throws Exception {
+		CsvConverter[] converters = {
+			new CsvConverter.UtilDateConverter(getAccessor("utilDateValue"), pattern),
+			new CsvConverter.CalendarConverter(getAccessor("calendarValue"), pattern),
+			new CsvConverter.LocalDateConverter(getAccessor("localDateValue"), pattern),
+			new CsvConverter.LocalDateTimeConverter(getAccessor("localDateTimeValue"), pattern)
+		};
+		SimpleDateFormat  dateFormat = new SimpleDateFormat(pattern);
+		DateTimeFormatter formatter  = DateTimeFormatter.ofPattern(pattern);
+
+		for (int round = 0; round < 2; round++) {                             // the second round hits the cache
+			for (String text : textList) {
+				AllTypeRecord record = new AllTypeRecord();
+				String message = pattern + " " + TimeZone.getDefault().getID() + " " + text;
+
+				Assert.assertEquals(message, CsvOutcome.describe(() -> dateFormat.parse(text).getTime()),      CsvOutcome.describe(() -> { converters[0].parse(record, text); return record.getUtilDateValue().getTime(); }));
+				Assert.assertEquals(message, CsvOutcome.describe(() -> dateFormat.parse(text).getTime()),      CsvOutcome.describe(() -> { converters[1].parse(record, text); return record.getCalendarValue().getTimeInMillis(); }));
+				Assert.assertEquals(message, CsvOutcome.describe(() -> LocalDate.parse(text, formatter)),     CsvOutcome.describe(() -> { converters[2].parse(record, text); return record.getLocalDateValue(); }));
+				Assert.assertEquals(message, CsvOutcome.describe(() -> LocalDateTime.parse(text, formatter)), CsvOutcome.describe(() -> { converters[3].parse(record, text); return record.getLocalDateTimeValue(); }));
+
+				if (record.getUtilDateValue() != null) {
+					Assert.assertEquals(message, dateFormat.format(record.getUtilDateValue()), converters[0].format(record));
+					Assert.assertEquals(message, dateFormat.format(record.getCalendarValue().getTime()), converters[1].format(record));
+				}
+				if (record.getLocalDateValue() != null) {
+					Assert.assertEquals(message, CsvOutcome.describe(() -> record.getLocalDateValue().format(formatter)), CsvOutcome.describe(() -> converters[2].format(record)));
+				}
+				if (record.getLocalDateTimeValue() != null) {
+					Assert.assertEquals(message, record.getLocalDateTimeValue().format(formatter), converters[3].format(record));
+				}
+			}
+		}
+	}
+
+	private static CsvFieldAccessor getAccessor(String fieldName) throws NoSuchFieldException {
+		Field field = AllTypeRecord.class.getDeclaredField(fieldName);
+		field.setAccessible(true);
+		return CsvFieldAccessor.of(field);
+	}
+}
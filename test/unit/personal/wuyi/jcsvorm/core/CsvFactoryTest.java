@@ -28,9 +28,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import personal.wuyi.io.file.csv.HeaderOption;
 import personal.wuyi.jcsvorm.core.model.correct.AllTypeRecord;
@@ -48,6 +52,9 @@ import personal.wuyi.jcsvorm.core.model.correct.User4;
  * @since   1.1
  */
 public class CsvFactoryTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
 	private SimpleDateFormat  df  = new SimpleDateFormat("yyyy-MM-dd");
 	private DateTimeFormatter dtf1 = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 	private DateTimeFormatter dtf2 = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH:mm");
@@ -156,6 +163,42 @@ public class CsvFactoryTest {
 		}
 	}
 	
+	/**
+	 * Stream the objects, file has header line
+	 */
+	@Test
+	public void streamTest1() throws IllegalArgumentException, IllegalAccessException, IOException, ParseException {
+		List<User1> expectedList = CsvFactory.readCsv(User1.class, "data/data_with_header.csv", HeaderOption.WITH_HEADER);
+		try (Stream<User1> stream = CsvFactory.stream(User1.class, "data/data_with_header.csv", HeaderOption.WITH_HEADER)) {
+			List<User1> userList = stream.collect(Collectors.toList());
+			Assert.assertEquals(expectedList.size(), userList.size());
+			for (int i = 0; i < userList.size(); i++) {
+				Assert.assertEquals(expectedList.get(i).getName(),        userList.get(i).getName());
+				Assert.assertEquals(expectedList.get(i).getSalary(),      userList.get(i).getSalary());
+				Assert.assertEquals(expectedList.get(i).getDob(),         userList.get(i).getDob());
+				Assert.assertEquals(expectedList.get(i).getPerformance(), userList.get(i).getPerformance(), 0.0);
+				Assert.assertEquals(expectedList.get(i).isHealth(),       userList.get(i).isHealth());
+			}
+		}
+	}
+	
+	/**
+	 * Stream the objects, file has no header line
+	 */
+	@Test
+	public void streamTest2() throws IllegalArgumentException, IllegalAccessException, IOException, ParseException {
+		List<User2> expectedList = CsvFactory.readCsv(User2.class, "data/data_without_header.csv", HeaderOption.WITHOUT_HEADER);
+		try (Stream<User2> stream = CsvFactory.stream(User2.class, "data/data_without_header.csv", HeaderOption.WITHOUT_HEADER)) {
+			List<User2> userList = stream.collect(Collectors.toList());
+			Assert.assertEquals(expectedList.size(), userList.size());
+			for (int i = 0; i < userList.size(); i++) {
+				Assert.assertEquals(expectedList.get(i).getName(),        userList.get(i).getName());
+				Assert.assertEquals(expectedList.get(i).getDob(),         userList.get(i).getDob());
+				Assert.assertEquals(expectedList.get(i).isHealth(),       userList.get(i).isHealth());
+			}
+		}
+	}
+	
 	/**
 	 * write csv based on pos
 	 */
@@ -269,4 +312,24 @@ public class CsvFactoryTest {
 			Assert.assertEquals(line[13],                      dtf2.format(record.getLocalDateTimeValue()));
 		}
 	}
+	
+	/**
+	 * Write the objects incrementally, then append more objects
+	 */
+	@Test
+	public void openWriterTest() throws IllegalAccessException, IOException, ParseException {
+		List<AllTypeRecord> recordList = CsvFactory.readCsv(AllTypeRecord.class, "data/all_type_input.csv", HeaderOption.WITH_HEADER);
+		String outputPath = folder.newFile("output.csv").getPath();
+		
+		try (CsvEntityWriter<AllTypeRecord> writer = CsvFactory.openWriter(AllTypeRecord.class, outputPath, HeaderOption.WITH_HEADER)) {
+			writer.write(recordList.get(0));
+			writer.flush();
+			Assert.assertEquals(2, Files.readAllLines(Paths.get(outputPath)).size());
+		}
+		try (CsvEntityWriter<AllTypeRecord> writer = CsvFactory.openWriter(AllTypeRecord.class, outputPath, HeaderOption.WITH_HEADER, true)) {
+			writer.writeAll(recordList.subList(1, recordList.size()));
+		}
+		
+		Assert.assertEquals(Files.readAllLines(Paths.get("data/all_type_input.csv")), Files.readAllLines(Paths.get(outputPath)));
+	}
 }
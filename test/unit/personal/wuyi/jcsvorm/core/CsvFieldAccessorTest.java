@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.lang.reflect.Field;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import personal.wuyi.jcsvorm.core.model.correct.AllTypeRecord;
+import personal.wuyi.jcsvorm.core.model.wrong.UserError1;
+
+/**
+ * Test class for CsvFieldAccessor.
+ * 
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvFieldAccessorTest {
+	private static CsvFieldAccessor getAccessor(Class<?> clazz, String fieldName) throws NoSuchFieldException {
+		Field field = clazz.getDeclaredField(fieldName);
+		field.setAccessible(true);
+		return CsvFieldAccessor.of(field);
+	}
+	
+	/**
+	 * Instance fields are bound to method handles, static fields fall back to reflection
+	 */
+	@Test
+	public void ofTest() throws NoSuchFieldException {
+		Assert.assertTrue(getAccessor(AllTypeRecord.class, "integerValue") instanceof CsvFieldAccessor.MethodHandleAccessor);
+		Assert.assertTrue(getAccessor(UserError1.class, "name")            instanceof CsvFieldAccessor.ReflectionAccessor);
+	}
+	
+	/**
+	 * Typed and generic access through method handles
+	 */
+	@Test
+	public void getAndSetTest() throws NoSuchFieldException, IllegalAccessException {
+		AllTypeRecord record = new AllTypeRecord();
+		
+		getAccessor(AllTypeRecord.class, "integerValue").setInt(record, 12);
+		getAccessor(AllTypeRecord.class, "longValue").setLong(record, 1122334455L);
+		getAccessor(AllTypeRecord.class, "doubleValue").setDouble(record, 23.34);
+		getAccessor(AllTypeRecord.class, "stringValue").set(record, "abc");
+		
+		Assert.assertEquals(12,          record.getIntegerValue());
+		Assert.assertEquals(1122334455L, record.getLongValue());
+		Assert.assertEquals(23.34,       record.getDoubleValue(), 0.0);
+		Assert.assertEquals("abc",       record.getStringValue());
+		Assert.assertEquals(12,          getAccessor(AllTypeRecord.class, "integerValue").getInt(record));
+		Assert.assertEquals(12,          getAccessor(AllTypeRecord.class, "integerValue").get(record));
+	}
+	
+	/**
+	 * Setting null to a primitive field is rejected like reflection
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void setNullToPrimitiveTest() throws NoSuchFieldException, IllegalAccessException {
+		getAccessor(AllTypeRecord.class, "integerValue").set(new AllTypeRecord(), null);
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.core.model.correct.AllTypeRecord;
+
+/**
+ * Test class for CsvFilter.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvFilterTest {
+	private static final String PATH = "data/all_type_input.csv";
+
+	/**
+	 * Only the matched records are read, by any engine
+	 */
+	@Test
+	public void readCsvTest() throws IOException, IllegalAccessException, ParseException {
+		CsvFilter filter = CsvFilter.whereInt("integer_value", v -> v > 15);
+		for (CsvReadOptions.Engine engine : CsvReadOptions.Engine.values()) {
+			CsvReadOptions options = CsvReadOptions.DEFAULT.withEngine(engine).withFilter(filter);
+			List<AllTypeRecord> recordList = CsvFactory.readCsv(AllTypeRecord.class, PATH, HeaderOption.WITH_HEADER, options);
+			Assert.assertEquals(1, recordList.size());
+			Assert.assertEquals("xyzxyzxyz", recordList.get(0).getStringValue());
+
+			try (CsvColumnTable table = CsvFactory.readColumns(AllTypeRecord.class, PATH, HeaderOption.WITH_HEADER, options)) {
+				Assert.assertEquals(1, table.getRowCount());
+				Assert.assertEquals(22, table.getIntColumn("integerValue").get(0));
+			}
+		}
+	}
+
+	/**
+	 * The filters are combined
+	 */
+	@Test
+	public void combineTest() throws IOException {
+		CsvFilter abc   = CsvFilter.where("string_value", text -> text.toString().startsWith("abc"));
+		CsvFilter long1 = CsvFilter.whereLong("long_value", v -> v == 1122334455L);
+		CsvFilter big   = CsvFilter.whereDouble("double_value", v -> v > 30.0);
+
+		Assert.assertEquals(1, count(abc.and(long1)));
+		Assert.assertEquals(0, count(abc.and(big)));
+		Assert.assertEquals(2, count(abc.or(big)));
+		Assert.assertEquals(1, count(abc.negate()));
+	}
+
+	private static long count(CsvFilter filter) throws IOException {
+		try (Stream<AllTypeRecord> stream = CsvFactory.stream(AllTypeRecord.class, PATH, HeaderOption.WITH_HEADER, CsvReadOptions.DEFAULT.withFilter(filter))) {
+			return stream.collect(Collectors.toList()).size();
+		}
+	}
+
+	/**
+	 * The missing column of a filter is reported
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void missingColumnTest() throws IOException, IllegalAccessException, ParseException {
+		CsvFactory.readCsv(AllTypeRecord.class, PATH, HeaderOption.WITH_HEADER, CsvReadOptions.DEFAULT.withFilter(CsvFilter.whereInt("amount", v -> v > 0)));
+	}
+}
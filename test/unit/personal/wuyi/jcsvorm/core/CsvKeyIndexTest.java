@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.core.model.correct.User1;
+import personal.wuyi.jcsvorm.core.model.correct.User5;
+
+/**
+ * Test class for CsvKeyIndex.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvKeyIndexTest {
+	private static final int ROW_COUNT = 500;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = CsvTestCorpus.write(folder, "users.csv", ROW_COUNT);
+	}
+
+	/**
+	 * The records with the key are found in the order of the file
+	 */
+	@Test
+	public void findByKeyTest() throws IOException, IllegalAccessException, ParseException {
+		Assert.assertEquals(Arrays.asList(1, 101, 201, 401), getSalaryList("user1"));            // the name of 301 is empty
+		Assert.assertTrue(new File(CsvKeyIndex.getIndexFilePath(file.getPath(), 0)).isFile());
+
+		Assert.assertEquals(Arrays.asList(8, 108, 208, 408), getSalaryList("user 8,\r\nline \"two\""));
+		Assert.assertTrue(getSalaryList("user8").isEmpty());
+		Assert.assertTrue(getSalaryList("user100").isEmpty());
+	}
+
+	/**
+	 * The index is rebuilt when the file is changed
+	 */
+	@Test
+	public void staleIndexTest() throws IOException, IllegalAccessException, ParseException {
+		CsvFactory.buildKeyIndex(User5.class, file.getPath(), HeaderOption.WITH_HEADER);
+		Assert.assertEquals(Arrays.asList(99, 199, 299, 499), getSalaryList("user99"));
+
+		CsvTestCorpus.append(file, ROW_COUNT, ROW_COUNT + 100);
+		Assert.assertEquals(Arrays.asList(99, 199, 299, 499, 599), getSalaryList("user99"));
+	}
+
+	/**
+	 * The file without the key column is reported
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void keyColumnExceptionTest() throws IOException, IllegalAccessException, ParseException {
+		File noHeaderFile = folder.newFile("users_no_header.csv");
+		CsvTestCorpus.append(noHeaderFile, 0, ROW_COUNT);
+		CsvFactory.findByKey(User5.class, noHeaderFile.getPath(), HeaderOption.WITH_HEADER, "user0");
+	}
+
+	/**
+	 * The class without a key field is reported
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void findByKeyExceptionTest() throws IOException, IllegalAccessException, ParseException {
+		CsvFactory.findByKey(User1.class, file.getPath(), HeaderOption.WITH_HEADER, "user1");
+	}
+
+	private List<Integer> getSalaryList(String key) throws IOException, IllegalAccessException, ParseException {
+		return CsvFactory.findByKey(User5.class, file.getPath(), HeaderOption.WITH_HEADER, key).stream().map(User5::getSalary).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.core.model.correct.AllTypeRecord;
+import personal.wuyi.jcsvorm.core.model.correct.User5;
+
+/**
+ * Test class for CsvMappedReader.
+ * 
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvMappedReaderTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	/**
+	 * The records are the same as commons-csv, in any window size
+	 */
+	@Test
+	public void nextTest() throws IOException {
+		String content = "a,b,c\r\n"
+				+ "\n"
+				+ "\"x,1\",\"multi\nline\",\"say \"\"hi\"\"\"\n"
+				+ "\u4e2d\u6587,,\r"
+				+ "\"\",last\n"
+				+ "\r\n"
+				+ "1,2,3";
+		File file = folder.newFile("tokens.csv");
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		
+		List<List<String>> expectedList = new ArrayList<>();
+		try (CSVParser parser = CSVFormat.DEFAULT.parse(new StringReader(content))) {
+			for (CSVRecord record : parser) {
+				List<String> values = new ArrayList<>();
+				for (String value : record) {
+					values.add(value);
+				}
+				expectedList.add(values);
+			}
+		}
+		
+		for (int windowSize : new int[] { 1, 3, 8, 1024 }) {
+			List<List<String>> actualList = new ArrayList<>();
+			try (CsvMappedReader reader = new CsvMappedReader(file.getPath(), StandardCharsets.UTF_8, windowSize)) {
+				for (CsvMappedRow row = reader.next(); row != null; row = reader.next()) {
+					List<String> values = new ArrayList<>();
+					for (int i = 0; i < row.size(); i++) {
+						values.add(row.get(i));
+					}
+					actualList.add(values);
+				}
+				Assert.assertEquals(expectedList.size(), reader.getRecordNumber());
+			}
+			Assert.assertEquals("window size " + windowSize, expectedList, actualList);
+		}
+	}
+	
+	/**
+	 * The whitespace after a closing quote is skipped like commons-csv, in 
+	 * the tokenized and the skipped columns
+	 */
+	@Test
+	public void whitespaceAfterQuoteTest() throws IOException, IllegalAccessException, ParseException {
+		String content = "name,int_amount\n\"a\" ,1\n\"b\",2\n\"c\"\t ,3\r\n\"d\" ,\"4\" ";
+		File file = folder.newFile("whitespace.csv");
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		
+		for (int windowSize : new int[] { 1, 3, 8, 1024 }) {
+			List<String> actualList = new ArrayList<>();
+			try (CsvMappedReader reader = new CsvMappedReader(file.getPath(), StandardCharsets.UTF_8, windowSize)) {
+				for (CsvMappedRow row = reader.next(); row != null; row = reader.next()) {
+					actualList.add(row.get(0) + "|" + (row.size() > 1 ? row.get(1) : ""));
+				}
+			}
+			Assert.assertEquals("window size " + windowSize, Arrays.asList("name|int_amount", "a|1", "b|2", "c|3", "d|4"), actualList);
+			
+			try (CsvMappedReader reader = new CsvMappedReader(file.getPath(), StandardCharsets.UTF_8, windowSize)) {
+				reader.setProjection();
+				Assert.assertEquals(5, reader.skip(Long.MAX_VALUE));
+			}
+		}
+		
+		List<User5> userList = CsvFactory.readCsv(User5.class, file.getPath(), HeaderOption.WITH_HEADER, CsvReadOptions.DEFAULT.withEngine(CsvReadOptions.Engine.MAPPED).withOffset(1));
+		Assert.assertEquals("b", userList.get(0).getName());
+		Assert.assertEquals(3, userList.size());
+		Assert.assertEquals(4, CsvFactory.readAt(User5.class, file.getPath(), HeaderOption.WITH_HEADER, 3).getSalary());
+	}
+	
+	/**
+	 * Only the columns in the projection are read, the records are the same
+	 */
+	@Test
+	public void setProjectionTest() throws IOException {
+		String content = "a,b,c,d\n"
+				+ "\"x,1\",\"y\"\"2\",\"z\n3\",\"w,\"\"4\"\"\"\r\n"
+				+ "1,2\n"
+				+ "5,6,\"\",8";
+		File file = folder.newFile("projection.csv");
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		
+		for (int windowSize : new int[] { 1, 3, 8, 1024 }) {
+			List<String> actualList = new ArrayList<>();
+			try (CsvMappedReader reader = new CsvMappedReader(file.getPath(), StandardCharsets.UTF_8, windowSize)) {
+				reader.setProjection(1);
+				for (CsvMappedRow row = reader.next(); row != null; row = reader.next()) {
+					Assert.assertEquals(2, row.size());
+					actualList.add(row.get(1));
+					try {
+						row.get(0);
+						Assert.fail();
+					} catch (IllegalStateException e) {
+					}
+				}
+				Assert.assertEquals(4, reader.getRecordNumber());
+			}
+			Assert.assertEquals("window size " + windowSize, Arrays.asList("b", "y\"2", "2", "6"), actualList);
+			
+			try (CsvMappedReader reader = new CsvMappedReader(file.getPath(), StandardCharsets.UTF_8, windowSize)) {
+				reader.setProjection();
+				int count = 0;
+				for (CsvMappedRow row = reader.next(); row != null; row = reader.next()) {
+					Assert.assertEquals(0, row.size());
+					count++;
+				}
+				Assert.assertEquals(4, count);
+			}
+		}
+	}
+	
+	/**
+	 * The malformed quoted value is reported in the skipped columns
+	 */
+	@Test(expected = IOException.class)
+	public void setProjectionExceptionTest() throws IOException {
+		File file = folder.newFile("malformed.csv");
+		Files.write(file.toPath(), "a,b,\"c\"d\n".getBytes(StandardCharsets.UTF_8));
+		try (CsvMappedReader reader = new CsvMappedReader(file.getPath(), StandardCharsets.UTF_8)) {
+			reader.setProjection(0);
+			reader.next();
+		}
+	}
+	
+	/**
+	 * The malformed quoted value is reported
+	 */
+	@Test(expected = IOException.class)
+	public void nextExceptionTest() throws IOException {
+		File file = folder.newFile("malformed.csv");
+		Files.write(file.toPath(), "a,\"b\"c\n".getBytes(StandardCharsets.UTF_8));
+		try (CsvMappedReader reader = new CsvMappedReader(file.getPath(), StandardCharsets.UTF_8)) {
+			reader.next();
+		}
+	}
+	
+	/**
+	 * Read the objects by the mapped engine
+	 */
+	@Test
+	public void readCsvTest() throws IOException, IllegalAccessException, ParseException {
+		List<AllTypeRecord> expectedList = CsvFactory.readCsv(AllTypeRecord.class, "data/all_type_input.csv", HeaderOption.WITH_HEADER);
+		List<AllTypeRecord> recordList   = CsvFactory.readCsv(AllTypeRecord.class, "data/all_type_input.csv", HeaderOption.WITH_HEADER, CsvReadOptions.DEFAULT.withEngine(CsvReadOptions.Engine.MAPPED));
+		Assert.assertEquals(expectedList.size(), recordList.size());
+		for (int i = 0; i < recordList.size(); i++) {
+			Assert.assertEquals(expectedList.get(i).getStringValue(),        recordList.get(i).getStringValue());
+			Assert.assertEquals(expectedList.get(i).getLongValue(),          recordList.get(i).getLongValue());
+			Assert.assertEquals(expectedList.get(i).getLocalDateTimeValue(), recordList.get(i).getLocalDateTimeValue());
+		}
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.tools.ToolProvider;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import personal.wuyi.jcsvorm.annotation.CsvColumn;
+import personal.wuyi.jcsvorm.annotation.CsvEntity;
+import personal.wuyi.jcsvorm.api.CsvMapper;
+import personal.wuyi.jcsvorm.api.CsvRow;
+import personal.wuyi.jcsvorm.core.model.correct.AllTypeRecord;
+import personal.wuyi.jcsvorm.core.model.correct.User4;
+
+/**
+ * Test class for CsvMapperCompiler.
+ * 
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvMapperCompilerTest {
+	/**
+	 * The generated mapper reads and writes the same values as the 
+	 * reflective mapper
+	 */
+	@Test
+	public void compileTest() throws Exception {
+		Assume.assumeNotNull(ToolProvider.getSystemJavaCompiler());
+		assertSameMapping(PublicRecord.class);
+	}
+	
+	/**
+	 * The generated mapper reads and writes the private fields by their 
+	 * method handles
+	 */
+	@Test
+	public void compilePrivateFieldTest() throws Exception {
+		Assume.assumeNotNull(ToolProvider.getSystemJavaCompiler());
+		assertSameMapping(AllTypeRecord.class);
+		
+		String source = CsvMapperCompiler.generateSource(CsvMapping.of(AllTypeRecord.class));
+		Assert.assertTrue(source.contains("private static final java.lang.invoke.MethodHandle SET_1 = personal.wuyi.jcsvorm.core.CsvFieldHandles.setter(personal.wuyi.jcsvorm.core.model.correct.AllTypeRecord.class, \"integerValue\");"));
+		Assert.assertTrue(source.contains("return (int) GET_1.invokeExact(t);"));
+		Assert.assertFalse(source.contains("t.integerValue"));
+		
+		String mixed = CsvMapperCompiler.generateSource(CsvMapping.of(MixedRecord.class));
+		Assert.assertTrue(mixed.contains("t.name = v;"));
+		Assert.assertTrue(mixed.contains("set1(t, row.getInt(i));"));
+	}
+	
+	/**
+	 * The method handles of a field are typed by the entity class and the 
+	 * field type
+	 */
+	@Test
+	public void fieldHandlesTest() throws Throwable {
+		AllTypeRecord record = new AllTypeRecord();
+		CsvFieldHandles.setter(AllTypeRecord.class, "integerValue").invokeExact(record, 5);
+		Assert.assertEquals(5, record.getIntegerValue());
+		Assert.assertEquals(5, (int) CsvFieldHandles.getter(AllTypeRecord.class, "integerValue").invokeExact(record));
+	}
+	
+	/**
+	 * The method handles can only be taken for the fields annotated by 
+	 * CsvColumn
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void fieldHandlesExceptionTest() {
+		CsvFieldHandles.getter(AllTypeRecord.class, "missingValue");
+	}
+	
+	private static <T> void assertSameMapping(Class<T> clazz) throws Exception {
+		CsvMapping<T> mapping   = CsvMapping.of(clazz);
+		CsvMapper<T>  generated = CsvMapperCompiler.compile(mapping);
+		Assert.assertNotNull(generated);
+		Assert.assertEquals(CsvMapperCompiler.getMapperName(clazz), generated.getClass().getName());
+		
+		CsvMapperBinding<T> generatedBinding  = CsvMapperBinding.of(mapping, generated);
+		CsvMapperBinding<T> reflectiveBinding = CsvMapperBinding.direct(new ReflectiveCsvMapper<>(mapping), mapping.getColumnList().size());
+		Assert.assertNotNull(generatedBinding);
+		
+		List<String> lineList = Files.readAllLines(Paths.get("data/all_type_input.csv"));
+		String[]     header   = lineList.get(0).split(",");
+		for (int i = 1; i < lineList.size(); i++) {
+			CsvRow row = new ArrayRow(lineList.get(i).split(","));
+			Assert.assertArrayEquals(write(reflectiveBinding, mapping, read(reflectiveBinding, mapping, header, row)), write(reflectiveBinding, mapping, read(generatedBinding, mapping, header, row)));
+			Assert.assertArrayEquals(write(reflectiveBinding, mapping, read(reflectiveBinding, mapping, header, row)), write(generatedBinding,  mapping, read(reflectiveBinding, mapping, header, row)));
+		}
+	}
+	
+	/**
+	 * The class without a public no-arg constructor, or with the final 
+	 * fields, can not have a generated mapper
+	 */
+	@Test
+	public void generateSourceTest() {
+		Assert.assertNull(CsvMapperCompiler.generateSource(CsvMapping.of(User4.class)));
+		Assert.assertNull(CsvMapperCompiler.generateSource(CsvMapping.of(FinalRecord.class)));
+		Assert.assertNotNull(CsvMapperCompiler.generateSource(CsvMapping.of(AllTypeRecord.class)));
+		Assert.assertNotNull(CsvMapperCompiler.generateSource(CsvMapping.of(PublicRecord.class)));
+	}
+	
+	/**
+	 * The generated mapper converts the dates by the same logic as the 
+	 * reflective mapper
+	 */
+	@Test
+	public void dateFormatTest() throws ParseException {
+		String source = CsvMapperCompiler.generateSource(CsvMapping.of(PublicRecord.class));
+		Assert.assertTrue(source.contains("CsvDateFormat.of(java.util.Calendar.class, \"yyyy-MM-dd\")"));
+		Assert.assertFalse(source.contains("SimpleDateFormat"));
+		Assert.assertFalse(source.contains("DateTimeFormatter"));
+		
+		CsvDateFormat format = CsvDateFormat.of(LocalDateTime.class, "yyyy-MM-dd_HH:mm");
+		Assert.assertEquals(LocalDateTime.of(1986, 11, 6, 12, 30), format.parse("1986-11-06_12:30"));
+		Assert.assertEquals("1986-11-06_12:30", format.format(LocalDateTime.of(1986, 11, 6, 12, 30)));
+		Assert.assertNull(format.format(null));
+	}
+	
+	/**
+	 * The format can only be created for the date and date time types
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void dateFormatExceptionTest() {
+		CsvDateFormat.of(String.class, "yyyy-MM-dd");
+	}
+	
+	private static <T> T read(CsvMapperBinding<T> binding, CsvMapping<T> mapping, String[] header, CsvRow row) throws IllegalAccessException, ParseException {
+		int[] index = new int[binding.size()];
+		for (CsvColumnMapping columnMapping : mapping.getColumnList()) {
+			index[binding.getSlot(columnMapping)] = Arrays.asList(header).indexOf(columnMapping.getName());
+		}
+		return binding.getMapper().read(row, index);
+	}
+	
+	private static <T> String[] write(CsvMapperBinding<T> binding, CsvMapping<T> mapping, T record) throws IllegalAccessException {
+		String[] cells  = new String[binding.size()];
+		String[] result = new String[binding.size()];
+		binding.getMapper().write(record, cells);
+		for (int i = 0; i < result.length; i++) {
+			result[i] = cells[binding.getSlot(mapping.getColumnList().get(i))];
+		}
+		return result;
+	}
+	
+	/**
+	 * The record with public fields, which can be accessed directly by the 
+	 * generated mapper
+	 */
+	@CsvEntity
+	public static class PublicRecord {
+		@CsvColumn(name = "string_value")                               public String         stringValue;
+		@CsvColumn(name = "integer_value")                              public int            integerValue;
+		@CsvColumn(name = "long_value")                                 public long           longValue;
+		@CsvColumn(name = "double_value")                               public double         doubleValue;
+		@CsvColumn(name = "float_value")                                public float          floatValue;
+		@CsvColumn(name = "short_value")                                public short          shortValue;
+		@CsvColumn(name = "char_value")                                 public char           charValue;
+		@CsvColumn(name = "boolean_value")                              public boolean        booleanValue;
+		@CsvColumn(name = "util_date_value",       format="yyyy-MM-dd") public java.util.Date utilDateValue;
+		@CsvColumn(name = "timestamp_value",       format="yyyy-MM-dd") public Timestamp      timestampValue;
+		@CsvColumn(name = "calendar_value",        format="yyyy-MM-dd") public Calendar       calendarValue;
+		@CsvColumn(name = "sql_date_value",        format="yyyy-MM-dd") public java.sql.Date  sqlDateValue;
+		@CsvColumn(name = "local_date_value",      format="yyyy-MM-dd") public LocalDate      localDateValue;
+		@CsvColumn(name = "local_date_time_value", format="yyyy-MM-dd_HH:mm") public LocalDateTime  localDateTimeValue;
+	}
+	
+	/**
+	 * The record with both public and private fields
+	 */
+	@CsvEntity
+	public static class MixedRecord {
+		@CsvColumn(name = "string_value")  public  String name;
+		@CsvColumn(name = "integer_value") private int    amount;
+	}
+	
+	/**
+	 * The record with a final field, which can only be set by reflection
+	 */
+	@CsvEntity
+	public static class FinalRecord {
+		@CsvColumn(name = "string_value")  public final String name = "";
+	}
+	
+	private static final class ArrayRow implements CsvRow {
+		private final String[] values;
+		
+		private ArrayRow(String[] values) {
+			this.values = values;
+		}
+		
+		@Override public int    size()          { return values.length; }
+		@Override public String get(int index)  { return values[index]; }
+	}
+}
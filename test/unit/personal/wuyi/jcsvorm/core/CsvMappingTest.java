@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import personal.wuyi.jcsvorm.core.model.correct.User4;
+import personal.wuyi.jcsvorm.core.model.wrong.UserError7;
+
+/**
+ * Test class for CsvMapping.
+ * 
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvMappingTest {
+	/**
+	 * The mapping model is compiled once per class
+	 */
+	@Test
+	public void ofTest() {
+		Assert.assertSame(CsvMapping.of(User4.class), CsvMapping.of(User4.class));
+		Assert.assertEquals(5, CsvMapping.of(User4.class).getColumnList().size());
+	}
+	
+	/**
+	 * The columns are sorted by pos only when pos values are sequential
+	 */
+	@Test
+	public void getPosSortedColumnListTest() {
+		List<CsvColumnMapping> columnList = CsvMapping.of(User4.class).getPosSortedColumnList();
+		for (int i = 0; i < columnList.size(); i++) {
+			Assert.assertEquals(i, columnList.get(i).getPos());
+		}
+		
+		Assert.assertEquals(CsvMapping.of(UserError7.class).getColumnList(), CsvMapping.of(UserError7.class).getPosSortedColumnList());
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for CsvNumbers.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvNumbersTest {
+	private static final String[] INTEGERS = {
+		"0", "-0", "+7", "-12", "123456789", "2147483647", "-2147483648", "2147483648",
+		"32767", "-32768", "32768", "9223372036854775807", "-9223372036854775808",
+		"9223372036854775808", "", "-", "+", "1a", " 1", "1.0", "\u0661\u0662"
+	};
+
+	private static final String[] DECIMALS = {
+		"0", "-0", "-0.0", "1", "1.", ".5", "0.05", "-12.5", "1.5e3", "1.5E-3", "+2e+2",
+		"123456789012345678", "1234567890123456789", "9007199254740993", "0.1", "0.3",
+		"1e22", "1e23", "1e-22", "1e-23", "0e99999", "1e99999", "4.9e-324", "1.7976931348623157e308",
+		"3.141592653589793", "NaN", "-Infinity", "0x1p3", "1d", " 1.5", "1.5 ", "", ".", "-", "1e",
+		"1e+", "1.2.3", "e5", "00000000000000000000001.5"
+	};
+
+	/**
+	 * The integers are the same as JDK
+	 */
+	@Test
+	public void parseIntTest() {
+		for (String s : INTEGERS) {
+			Assert.assertEquals(s, CsvOutcome.describeWithMessage(() -> Integer.parseInt(s)),  CsvOutcome.describeWithMessage(() -> CsvNumbers.parseInt(new StringBuilder(s))));
+			Assert.assertEquals(s, CsvOutcome.describeWithMessage(() -> Long.parseLong(s)),    CsvOutcome.describeWithMessage(() -> CsvNumbers.parseLong(new StringBuilder(s))));
+			Assert.assertEquals(s, CsvOutcome.describeWithMessage(() -> Short.parseShort(s)),  CsvOutcome.describeWithMessage(() -> CsvNumbers.parseShort(new StringBuilder(s))));
+		}
+	}
+
+	/**
+	 * The decimals are the same as JDK, bit by bit
+	 */
+	@Test
+	public void parseDoubleTest() {
+		for (String s : DECIMALS) {
+			assertSameDouble(s);
+		}
+
+		Random random = new Random(42);
+		for (int i = 0; i < 100000; i++) {
+			long   mantissa = random.nextLong() % 10000000000000000L;
+			int    scale    = random.nextInt(30);
+			String s        = new java.math.BigDecimal(java.math.BigInteger.valueOf(mantissa), scale).toPlainString();
+			assertSameDouble(s);
+			assertSameDouble(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20)));
+		}
+	}
+
+	private static void assertSameDouble(String s) {
+		String expected = CsvOutcome.describeWithMessage(() -> Double.doubleToRawLongBits(Double.parseDouble(s)));
+		String actual   = CsvOutcome.describeWithMessage(() -> Double.doubleToRawLongBits(CsvNumbers.parseDouble(new StringBuilder(s))));
+		Assert.assertEquals(s, expected, actual);
+	}
+}
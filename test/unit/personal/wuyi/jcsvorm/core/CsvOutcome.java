@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.util.concurrent.Callable;
+
+/**
+ * The outcome of a call as text, shared by the tests which compare the fast
+ * parsers with the parsers of the JDK, so a value and an exception can be
+ * compared by one assertion.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvOutcome {
+	private CsvOutcome() {}
+
+	/**
+	 * Describe the outcome of a call by its value or the type of its
+	 * exception.
+	 *
+	 * @param  callable
+	 *         The call.
+	 *
+	 * @return  The value as text or the class name of the exception.
+	 */
+	static String describe(final Callable<?> callable) {
+		return describe(callable, false);
+	}
+
+	/**
+	 * Describe the outcome of a call by its value or the type and the
+	 * message of its exception.
+	 *
+	 * @param  callable
+	 *         The call.
+	 *
+	 * @return  The value as text or the class name and the message of the
+	 *          exception.
+	 */
+	static String describeWithMessage(final Callable<?> callable) {
+		return describe(callable, true);
+	}
+
+	private static String describe(final Callable<?> callable, final boolean withMessage) {
+		try {
+			return String.valueOf(callable.call());
+		} catch (Exception e) {
+			return withMessage ? e.getClass().getName() + ": " + e.getMessage() : e.getClass().getName();
+		}
+	}
+}
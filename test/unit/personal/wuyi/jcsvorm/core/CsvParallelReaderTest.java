@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.ParseException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.core.model.correct.User1;
+import personal.wuyi.jcsvorm.core.model.correct.User2;
+
+/**
+ * Test class for CsvParallelReader.
+ * 
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvParallelReaderTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	/**
+	 * The splits in quoted values are moved to the end of the records, the 
+	 * order of records is kept
+	 */
+	@Test
+	public void readTest() throws IOException, IllegalAccessException, ParseException {
+		File file = folder.newFile("quoted.csv");
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			writer.write("name,int_amount,date,double_amount,health\n");
+			for (int i = 0; i < 2000; i++) {
+				writer.write(i % 3 == 0 ? "\"line\n\"\"" + i + "\"\"\n,end\"" : "name" + i);
+				writer.write("," + i + ",2017-09-11,23.34,true\n");
+			}
+		}
+		
+		List<User1> expectedList;
+		try (Stream<User1> stream = CsvFactory.stream(User1.class, file.getPath(), HeaderOption.WITH_HEADER)) {
+			expectedList = stream.collect(Collectors.toList());
+		}
+		Assert.assertEquals(2000, expectedList.size());
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (long chunkSize : new long[] { 7, 100, 4096, 1 << 20 }) {
+				List<User1> userList = CsvParallelReader.read(CsvMapping.of(User1.class), file.getPath(), HeaderOption.WITH_HEADER, StandardCharsets.UTF_8, pool, chunkSize);
+				Assert.assertEquals(expectedList.size(), userList.size());
+				for (int i = 0; i < userList.size(); i++) {
+					Assert.assertEquals(expectedList.get(i).getName(),   userList.get(i).getName());
+					Assert.assertEquals(i,                               userList.get(i).getSalary());
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Read the file without header line
+	 */
+	@Test
+	public void readCsvParallelTest() throws IOException, IllegalAccessException, ParseException {
+		List<User2> expectedList = CsvFactory.readCsv(User2.class, "data/data_without_header.csv", HeaderOption.WITHOUT_HEADER);
+		List<User2> userList     = CsvFactory.readCsvParallel(User2.class, "data/data_without_header.csv", HeaderOption.WITHOUT_HEADER);
+		Assert.assertEquals(expectedList.size(), userList.size());
+		for (int i = 0; i < userList.size(); i++) {
+			Assert.assertEquals(expectedList.get(i).getName(), userList.get(i).getName());
+			Assert.assertEquals(expectedList.get(i).getDob(),  userList.get(i).getDob());
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.text.ParseException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import personal.wuyi.jcsvorm.api.Function;
+
+/**
+ * Test class for CsvPipe.
+ * 
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvPipeTest {
+	private ExecutorService executor;
+	
+	@Before
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(4);
+	}
+	
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+	
+	/**
+	 * The order of the records is kept
+	 */
+	@Test
+	public void mapTest() throws IOException, IllegalAccessException, ParseException {
+		List<Integer> list = CsvPipe.map(getRecordList(1000, -1), Integer.class, new Function<CSVRecord, Integer>() {
+			@Override
+			public Integer call(CSVRecord record, Class<Integer> clazz) throws ParseException {
+				return Integer.valueOf(record.get(0));
+			}
+		}, executor, 7);
+		
+		Assert.assertEquals(1000, list.size());
+		for (int i = 0; i < list.size(); i++) {
+			Assert.assertEquals(i, list.get(i).intValue());
+		}
+	}
+	
+	/**
+	 * The error of the first record in order is thrown with the record number
+	 */
+	@Test
+	public void mapExceptionTest() throws IOException, IllegalAccessException {
+		for (int batchSize : new int[] { 7, 1000 }) {
+			try {
+				CsvPipe.map(getRecordList(1000, 500), Integer.class, new Function<CSVRecord, Integer>() {
+					@Override
+					public Integer call(CSVRecord record, Class<Integer> clazz) throws ParseException {
+						if (record.get(0).startsWith("x")) {
+							throw new ParseException("Unparseable number: " + record.get(0), 0);
+						}
+						return Integer.valueOf(record.get(0));
+					}
+				}, executor, batchSize);
+				Assert.fail();
+			} catch (ParseException e) {
+				Assert.assertEquals("Failed to map the record 501: Unparseable number: x500", e.getMessage());
+				Assert.assertTrue(e.getCause() instanceof ParseException);
+			}
+		}
+	}
+	
+	/**
+	 * The runtime errors are thrown in their own types with the record number 
+	 * in a suppressed exception, by the tasks and by the calling thread for a 
+	 * single batch
+	 */
+	@Test
+	public void mapRuntimeExceptionTest() throws IOException, IllegalAccessException, ParseException {
+		for (int batchSize : new int[] { 7, 1000 }) {
+			try {
+				CsvPipe.map(getRecordList(1000, 500), Integer.class, new Function<CSVRecord, Integer>() {
+					@Override
+					public Integer call(CSVRecord record, Class<Integer> clazz) {
+						return Integer.valueOf(record.get(0));
+					}
+				}, executor, batchSize);
+				Assert.fail();
+			} catch (NumberFormatException e) {
+				Assert.assertEquals("For input string: \"x500\"", e.getMessage());
+				Assert.assertEquals(1, e.getSuppressed().length);
+				Assert.assertEquals("Failed to map the record 501: For input string: \"x500\"", e.getSuppressed()[0].getMessage());
+			}
+		}
+	}
+	
+	private static List<CSVRecord> getRecordList(int size, int errorFrom) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < size; i++) {
+			sb.append(errorFrom >= 0 && i >= errorFrom ? "x" : "").append(i).append('\n');
+		}
+		try (CSVParser parser = CSVFormat.DEFAULT.parse(new StringReader(sb.toString()))) {
+			return parser.getRecords();
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+
+/**
+ * Test class for CsvQuery.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvQueryTest {
+	private static final int      ROW_COUNT = 5000;
+	private static final String[] REGIONS   = { "east", "west", "north, \"far\"", "south\nside" };
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private String path;
+
+	@Before
+	public void setUp() throws IOException {
+		StringBuilder sb = new StringBuilder("region,state,int_amount,double_amount\n");
+		for (int i = 0; i < ROW_COUNT; i++) {
+			String region = REGIONS[i % REGIONS.length];
+			sb.append('"').append(region.replace("\"", "\"\"")).append("\",").append("S").append(i % 10).append(',').append(i % 100 == 0 ? "" : String.valueOf(i)).append(',').append(i * 0.5).append('\n');
+		}
+		File file = folder.newFile("sales.csv");
+		Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+		path = file.getPath();
+	}
+
+	/**
+	 * The groups are aggregated the same by any engine
+	 */
+	@Test
+	public void groupByTest() throws IOException {
+		for (CsvReadOptions.Engine engine : CsvReadOptions.Engine.values()) {
+			CsvQuery.Result result = CsvQuery.from(path).withOptions(CsvReadOptions.DEFAULT.withEngine(engine)).groupBy("region").sum("int_amount").count().min("double_amount").max("int_amount").execute();
+			Assert.assertEquals(Arrays.asList("sum(int_amount)", "count", "min(double_amount)", "max(int_amount)"), result.getAggregateNames());
+			Assert.assertEquals(REGIONS.length, result.size());
+
+			for (int r = 0; r < REGIONS.length; r++) {
+				long sum = 0;
+				for (int i = r; i < ROW_COUNT; i += REGIONS.length) {
+					sum += i % 100 == 0 ? 0 : i;
+				}
+				int group = result.indexOf(REGIONS[r]);
+				Assert.assertEquals(r, group);                                  // in the order of the first rows
+				Assert.assertEquals(sum, result.getLong(group, "sum(int_amount)"));
+				Assert.assertEquals(ROW_COUNT / REGIONS.length, result.getLong(group, "count"));
+				Assert.assertEquals(r * 0.5, result.getDouble(group, "min(double_amount)"), 0.0);
+			}
+			Assert.assertEquals(ROW_COUNT - 1, result.getDouble(result.indexOf("south\nside"), "max(int_amount)"), 0.0);
+		}
+	}
+
+	/**
+	 * The rows are grouped by more columns and filtered before the aggregation
+	 */
+	@Test
+	public void groupByMoreColumnsTest() throws IOException {
+		CsvReadOptions  options = CsvReadOptions.DEFAULT.withEngine(CsvReadOptions.Engine.MAPPED).withFilter(CsvFilter.whereBetween("double_amount", 0, 999.5));
+		CsvQuery.Result result  = CsvQuery.from(path).withOptions(options).groupBy("region").groupBy("state").count().sumDouble("double_amount").execute();
+		Assert.assertEquals(20, result.size());                             // the region decides whether the state is odd or even
+		Assert.assertEquals(Arrays.asList("west", "S1"), result.getGroupKey(result.indexOf("west", "S1")));
+		Assert.assertEquals(-1, result.indexOf("west", "S2"));
+
+		long count = 0;
+		for (int i = 0; i < result.size(); i++) {
+			count += result.getLong(i, "count");
+		}
+		Assert.assertEquals(2000, count);
+		Assert.assertEquals(49550.0, result.getDouble(result.indexOf("west", "S1"), "sumDouble(double_amount)"), 0.0);     // 0.5 * (1 + 21 + ... + 1981)
+	}
+
+	/**
+	 * All the rows are one group without group columns
+	 */
+	@Test
+	public void totalTest() throws IOException {
+		CsvQuery.Result result = CsvQuery.from(path).count().sum("int_amount").execute();
+		Assert.assertEquals(1, result.size());
+		Assert.assertEquals(ROW_COUNT, result.getLong(0, "count"));
+		Assert.assertEquals(12497500L - 122500L, result.getLong(0, "sum(int_amount)"));                   // the multiples of 100 are empty
+
+		result = CsvQuery.from(path).withOptions(CsvReadOptions.DEFAULT.withLimit(0)).count().min("int_amount").execute();
+		Assert.assertEquals(0, result.getLong(0, "count"));
+		Assert.assertTrue(Double.isNaN(result.getDouble(0, "min(int_amount)")));
+	}
+
+	/**
+	 * The column out of the file is reported
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void executeExceptionTest() throws IOException {
+		CsvQuery.from(path).groupBy("country").count().execute();
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.core.model.correct.User1;
+
+/**
+ * Test class for CsvRowIndex.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvRowIndexTest {
+	private static final int ROW_COUNT = 500;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = CsvTestCorpus.write(folder, "users.csv", ROW_COUNT);
+	}
+
+	/**
+	 * The records are the same as reading the whole file, for any stride
+	 */
+	@Test
+	public void readAtTest() throws IOException, IllegalAccessException, ParseException {
+		List<User1> expectedList = CsvFactory.readCsv(User1.class, file.getPath(), HeaderOption.WITH_HEADER);
+		for (int stride : new int[] { 1, 7, 1000 }) {
+			CsvFactory.buildIndex(file.getPath(), stride);
+			Assert.assertTrue(new File(file.getPath() + CsvRowIndex.SUFFIX).isFile());
+			for (int i = 0; i < ROW_COUNT; i += 13) {
+				User1 user = CsvFactory.readAt(User1.class, file.getPath(), HeaderOption.WITH_HEADER, i);
+				Assert.assertEquals(expectedList.get(i).getName(),   user.getName());
+				Assert.assertEquals(expectedList.get(i).getSalary(), user.getSalary());
+			}
+
+			List<User1> userList = CsvFactory.readRange(User1.class, file.getPath(), HeaderOption.WITH_HEADER, 95, 105);
+			Assert.assertEquals(10, userList.size());
+			for (int i = 0; i < userList.size(); i++) {
+				Assert.assertEquals(expectedList.get(95 + i).getName(), userList.get(i).getName());
+			}
+			Assert.assertEquals(3, CsvFactory.readRange(User1.class, file.getPath(), HeaderOption.WITH_HEADER, ROW_COUNT - 3, ROW_COUNT + 10).size());
+			Assert.assertTrue(CsvFactory.readRange(User1.class, file.getPath(), HeaderOption.WITH_HEADER, ROW_COUNT + 1, ROW_COUNT + 10).isEmpty());
+		}
+	}
+
+	/**
+	 * The index is rebuilt when the file is changed
+	 */
+	@Test
+	public void staleIndexTest() throws IOException, IllegalAccessException, ParseException {
+		Assert.assertEquals(ROW_COUNT - 1, CsvFactory.readAt(User1.class, file.getPath(), HeaderOption.WITH_HEADER, ROW_COUNT - 1).getSalary());
+
+		CsvTestCorpus.append(file, ROW_COUNT, ROW_COUNT + 3);
+		Assert.assertEquals(ROW_COUNT + 2, CsvFactory.readAt(User1.class, file.getPath(), HeaderOption.WITH_HEADER, ROW_COUNT + 2).getSalary());
+	}
+
+	/**
+	 * The record out of the file is reported
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void readAtExceptionTest() throws IOException, IllegalAccessException, ParseException {
+		CsvFactory.readAt(User1.class, file.getPath(), HeaderOption.WITH_HEADER, ROW_COUNT);
+	}
+}
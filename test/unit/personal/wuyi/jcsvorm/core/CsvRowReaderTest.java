@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.api.CsvRow;
+
+/**
+ * Test class for CsvRowReader.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvRowReaderTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static final CsvReadOptions[] OPTIONS = {
+		CsvReadOptions.DEFAULT,
+		CsvReadOptions.DEFAULT.withEngine(CsvReadOptions.Engine.MAPPED)
+	};
+
+	private String createFile() throws IOException {
+		String content = "name,int,long,double\n"
+				+ "a,-12,9223372036854775807,1.5\n"
+				+ "\"b,c\",\"+7\",-42,-2e3\n"
+				+ ",,0,\n";
+		File file = folder.newFile("rows.csv");
+		Files.write(file.toPath(), content.getBytes(Charset.defaultCharset()));
+		return file.getPath();
+	}
+
+	/**
+	 * Read the typed values by the pre-resolved column indexes
+	 */
+	@Test
+	public void nextTest() throws IOException {
+		String path = createFile();
+		for (CsvReadOptions options : OPTIONS) {
+			try (CsvRowReader reader = CsvFactory.openRowReader(path, HeaderOption.WITH_HEADER, options)) {
+				Assert.assertArrayEquals(new String[] { "name", "int", "long", "double" }, reader.getHeaderNames());
+				int nameIndex   = reader.getColumnIndex("name");
+				int intIndex    = reader.getColumnIndex("int");
+				int longIndex   = reader.getColumnIndex("long");
+				int doubleIndex = reader.getColumnIndex("double");
+
+				CsvRow row = reader.next();
+				Assert.assertEquals("a", row.getCharSequence(nameIndex).toString());
+				Assert.assertEquals(-12, row.getInt(intIndex));
+				Assert.assertEquals(Long.MAX_VALUE, row.getLong(longIndex));
+				Assert.assertEquals(1.5, row.getDouble(doubleIndex), 0.0);
+
+				row = reader.next();
+				Assert.assertEquals("b,c", row.getCharSequence(nameIndex).toString());
+				Assert.assertEquals(7, row.getInt(intIndex));
+				Assert.assertEquals(-42L, row.getLong(longIndex));
+				Assert.assertEquals(-2000.0, row.getDouble(doubleIndex), 0.0);
+
+				row = reader.next();
+				Assert.assertTrue(row.isNull(nameIndex));
+				Assert.assertTrue(row.isNull(intIndex));
+				Assert.assertFalse(row.isNull(longIndex));
+				Assert.assertEquals(0L, row.getLong(longIndex));
+
+				Assert.assertNull(reader.next());
+			}
+		}
+	}
+
+	/**
+	 * Without header, the first row is returned and the names are indexes
+	 */
+	@Test
+	public void nextWithoutHeaderTest() throws IOException {
+		String path = createFile();
+		for (CsvReadOptions options : OPTIONS) {
+			try (CsvRowReader reader = CsvFactory.openRowReader(path, HeaderOption.WITHOUT_HEADER, options)) {
+				Assert.assertEquals(2, reader.getColumnIndex("2"));
+				Assert.assertEquals("long", reader.next().get(2));
+
+				int count = 1;
+				while (reader.next() != null) {
+					count++;
+				}
+				Assert.assertEquals(4, count);
+			}
+		}
+	}
+
+	/**
+	 * The invalid numbers are reported like the JDK
+	 */
+	@Test
+	public void getIntExceptionTest() throws IOException {
+		String path = createFile();
+		for (CsvReadOptions options : OPTIONS) {
+			try (CsvRowReader reader = CsvFactory.openRowReader(path, HeaderOption.WITH_HEADER, options)) {
+				CsvRow row = reader.next();
+				try {
+					row.getInt(reader.getColumnIndex("long"));
+					Assert.fail();
+				} catch (NumberFormatException e) {
+					Assert.assertEquals("For input string: \"9223372036854775807\"", e.getMessage());
+				}
+				try {
+					row.getLong(reader.getColumnIndex("name"));
+					Assert.fail();
+				} catch (NumberFormatException e) {
+					Assert.assertEquals("For input string: \"a\"", e.getMessage());
+				}
+			}
+		}
+	}
+
+	/**
+	 * The missing column is reported
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void getColumnIndexExceptionTest() throws IOException {
+		try (CsvRowReader reader = CsvFactory.openRowReader(createFile(), HeaderOption.WITH_HEADER)) {
+			reader.getColumnIndex("missing");
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.core.model.correct.User1;
+
+/**
+ * Test class for CsvSampler and the options on the records.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvSamplerTest {
+	private static final int ROW_COUNT = 1000;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private String path;
+
+	@Before
+	public void setUp() throws IOException {
+		path = CsvTestCorpus.write(folder, "users.csv", ROW_COUNT).getPath();
+	}
+
+	/**
+	 * The offset and the limit select the same records by any engine
+	 */
+	@Test
+	public void offsetAndLimitTest() throws IOException, IllegalAccessException, ParseException {
+		CsvReadOptions options = CsvReadOptions.DEFAULT.withOffset(10).withLimit(5);
+		for (List<Integer> salaryList : read(options)) {
+			Assert.assertEquals(Arrays.asList(10, 11, 12, 13, 14), salaryList);
+		}
+
+		options = options.withFilter(CsvFilter.whereInt("int_amount", v -> v % 2 == 0));
+		for (List<Integer> salaryList : read(options)) {
+			Assert.assertEquals(Arrays.asList(10, 12, 14, 16, 18), salaryList);
+		}
+
+		for (List<Integer> salaryList : read(CsvReadOptions.DEFAULT.withOffset(ROW_COUNT - 2).withLimit(10))) {
+			Assert.assertEquals(Arrays.asList(ROW_COUNT - 2, ROW_COUNT - 1), salaryList);
+		}
+		for (List<Integer> salaryList : read(CsvReadOptions.DEFAULT.withLimit(0))) {
+			Assert.assertTrue(salaryList.isEmpty());
+		}
+	}
+
+	/**
+	 * The sampling with the same seed selects the same records by any engine
+	 */
+	@Test
+	public void samplingTest() throws IOException, IllegalAccessException, ParseException {
+		List<List<Integer>> resultList = read(CsvReadOptions.DEFAULT.withSampling(0.1, 42));
+		List<Integer> expectedList = resultList.get(0);
+		for (List<Integer> salaryList : resultList) {
+			Assert.assertEquals(expectedList, salaryList);
+		}
+		Assert.assertTrue(expectedList.size() > 50 && expectedList.size() < 150);
+		for (int i = 1; i < expectedList.size(); i++) {
+			Assert.assertTrue(expectedList.get(i - 1) < expectedList.get(i));
+		}
+
+		Assert.assertNotEquals(expectedList, read(CsvReadOptions.DEFAULT.withSampling(0.1, 43)).get(0));
+		for (List<Integer> salaryList : read(CsvReadOptions.DEFAULT.withSampling(0.0, 42))) {
+			Assert.assertTrue(salaryList.isEmpty());
+		}
+		for (List<Integer> salaryList : read(CsvReadOptions.DEFAULT.withSampling(1.0, 42))) {
+			Assert.assertEquals(ROW_COUNT, salaryList.size());
+		}
+	}
+
+	/**
+	 * The records kept after the skipped ones are parsed the same by any 
+	 * engine, including the quoted values with line breaks
+	 */
+	@Test
+	public void parseAfterSkipTest() throws IOException, IllegalAccessException, ParseException {
+		List<String> expectedList = CsvFactory.readCsv(User1.class, path, HeaderOption.WITH_HEADER).stream().map(User1::getName).collect(Collectors.toList()).subList(100, 110);
+		for (CsvReadOptions.Engine engine : CsvReadOptions.Engine.values()) {
+			CsvReadOptions options = CsvReadOptions.DEFAULT.withEngine(engine).withOffset(100).withLimit(10);
+			Assert.assertEquals(expectedList, CsvFactory.readCsv(User1.class, path, HeaderOption.WITH_HEADER, options).stream().map(User1::getName).collect(Collectors.toList()));
+			try (Stream<User1> stream = CsvFactory.stream(User1.class, path, HeaderOption.WITH_HEADER, options)) {
+				Assert.assertEquals(expectedList, stream.map(User1::getName).collect(Collectors.toList()));
+			}
+		}
+		Assert.assertEquals("user 4,\r\nline \"two\"", expectedList.get(4));
+	}
+
+	/**
+	 * The skipped records are only scanned for their ends
+	 */
+	@Test
+	public void skipTest() throws IOException {
+		try (CsvMappedReader reader = new CsvMappedReader(path, StandardCharsets.UTF_8, 64)) {
+			Assert.assertEquals(11, reader.skip(11));                         // the header and 10 records
+			Assert.assertEquals("10", reader.next().get(1));
+			Assert.assertEquals("11", reader.next().get(1));
+			Assert.assertEquals(ROW_COUNT - 12, reader.skip(Long.MAX_VALUE));
+			Assert.assertNull(reader.next());
+		}
+	}
+
+	/**
+	 * The invalid options are reported
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void withSamplingExceptionTest() {
+		CsvReadOptions.DEFAULT.withSampling(1.5, 42);
+	}
+
+	private List<List<Integer>> read(CsvReadOptions options) throws IOException, IllegalAccessException, ParseException {
+		List<List<Integer>> resultList = new ArrayList<>();
+		for (CsvReadOptions.Engine engine : CsvReadOptions.Engine.values()) {
+			CsvReadOptions currentOptions = options.withEngine(engine);
+			resultList.add(CsvFactory.readCsv(User1.class, path, HeaderOption.WITH_HEADER, currentOptions).stream().map(User1::getSalary).collect(Collectors.toList()));
+
+			try (CsvColumnTable table = CsvFactory.readColumns(User1.class, path, HeaderOption.WITH_HEADER, currentOptions)) {
+				resultList.add(Arrays.stream(table.getIntColumn("salary").toArray()).boxed().collect(Collectors.toList()));
+			}
+
+			try (Stream<User1> stream = CsvFactory.stream(User1.class, path, HeaderOption.WITH_HEADER, currentOptions)) {
+				resultList.add(stream.map(User1::getSalary).collect(Collectors.toList()));
+			}
+		}
+		return resultList;
+	}
+}
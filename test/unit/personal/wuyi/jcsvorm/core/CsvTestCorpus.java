@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * The CSV file shared by the tests which read the records out of order,
+ * like the sidecar files (the row index, the key index, the zone map and
+ * the Bloom filter) and the offset and the sampling.
+ *
+ * <p>The record {@code i} has {@code i} as {@code int_amount}, the day
+ * {@code i} after 2018-01-01 as {@code date}, {@code i * 0.5} as
+ * {@code double_amount} and {@code i % 2 == 0} as {@code health}. The
+ * {@code name} repeats every 100 records as a key: it is empty for every
+ * 7th record, quoted with a comma, a line break and escaped quotes for
+ * every 4th record, and {@code user} plus {@code i % 100} otherwise. The
+ * records end with CRLF or LF, and some of them are followed by a blank
+ * line, so the tests cover the boundaries which are hard to scan.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+final class CsvTestCorpus {
+	static final String HEADER = "name,int_amount,date,double_amount,health";
+
+	private CsvTestCorpus() {}
+
+	/**
+	 * Write the CSV file with the header and a number of records.
+	 *
+	 * @param  folder
+	 *         The temporary folder of the test.
+	 *
+	 * @param  fileName
+	 *         The name of the CSV file.
+	 *
+	 * @param  rowCount
+	 *         The number of records.
+	 *
+	 * @return  The CSV file.
+	 *
+	 * @throws  IOException
+	 *          If the file can not be written.
+	 */
+	static File write(final TemporaryFolder folder, final String fileName, final int rowCount) throws IOException {
+		final File file = folder.newFile(fileName);
+		Files.write(file.toPath(), (HEADER + "\r\n" + getRows(0, rowCount)).getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	/**
+	 * Append more records to the CSV file.
+	 *
+	 * @param  file
+	 *         The CSV file.
+	 *
+	 * @param  from
+	 *         The number of the first record, inclusive.
+	 *
+	 * @param  to
+	 *         The number of the last record, exclusive.
+	 *
+	 * @throws  IOException
+	 *          If the file can not be written.
+	 */
+	static void append(final File file, final int from, final int to) throws IOException {
+		Files.write(file.toPath(), getRows(from, to).getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+	}
+
+	/**
+	 * Get the name of a record.
+	 *
+	 * @param  i
+	 *         The number of the record.
+	 *
+	 * @return  The value of the {@code name} column, without the quotes.
+	 */
+	static String getName(final int i) {
+		if (i % 7 == 0) {
+			return "";
+		}
+		return i % 4 == 0 ? "user " + (i % 100) + ",\r\nline \"two\"" : "user" + (i % 100);
+	}
+
+	/**
+	 * Get the text of a range of records.
+	 *
+	 * @param  from
+	 *         The number of the first record, inclusive.
+	 *
+	 * @param  to
+	 *         The number of the last record, exclusive.
+	 *
+	 * @return  The text of the records.
+	 */
+	static String getRows(final int from, final int to) {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = from; i < to; i++) {
+			final String name = getName(i);
+			sb.append(name.contains(",") ? "\"" + name.replace("\"", "\"\"") + "\"" : name);
+			sb.append(',').append(i).append(',').append(LocalDate.of(2018, 1, 1).plusDays(i)).append(',').append(i * 0.5).append(',').append(i % 2 == 0);
+			sb.append(i % 5 == 0 ? "\n\n" : i % 3 == 0 ? "\n" : "\r\n");
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import personal.wuyi.io.file.csv.HeaderOption;
+import personal.wuyi.jcsvorm.core.model.correct.User1;
+
+/**
+ * Test class for CsvZoneMap.
+ *
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvZoneMapTest {
+	private static final int ROW_COUNT  = 1000;
+	private static final int BLOCK_SIZE = 50;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = CsvTestCorpus.write(folder, "ledger.csv", ROW_COUNT);
+	}
+
+	/**
+	 * The blocks out of a range are skipped
+	 */
+	@Test
+	public void mayMatchTest() throws IOException {
+		CsvFactory.buildZoneMap(file.getPath(), HeaderOption.WITH_HEADER, BLOCK_SIZE);
+		CsvZoneMap zoneMap = CsvZoneMap.load(file.getPath(), HeaderOption.WITH_HEADER);
+		Assert.assertEquals(ROW_COUNT / BLOCK_SIZE, zoneMap.getBlockCount());
+
+		Map<String, Integer> headerMap = new HashMap<>();
+		String[] headerNames = CsvTestCorpus.HEADER.split(",");
+		for (int i = 0; i < headerNames.length; i++) {
+			headerMap.put(headerNames[i], i);
+		}
+
+		CsvZoneMap.Block block = zoneMap.getBlock(1);
+		Assert.assertEquals(BLOCK_SIZE, block.getRowCount());
+		Assert.assertEquals(7, block.getNullCount(0));                       // 56, 63, ..., 98
+		Assert.assertEquals("2018-02-20", block.getTextMin(2));
+		Assert.assertEquals(50.0, block.getNumberMin(1), 0.0);
+		Assert.assertEquals(99.0, block.getNumberMax(1), 0.0);
+		Assert.assertFalse(block.hasNumberRange(0));
+
+		Assert.assertEquals(2, countBlocks(zoneMap, headerMap, CsvFilter.whereBetween("date", "2018-03-01", "2018-04-30")));
+		Assert.assertEquals(1, countBlocks(zoneMap, headerMap, CsvFilter.whereBetween("int_amount", 120, 130)));
+		Assert.assertEquals(20, countBlocks(zoneMap, headerMap, CsvFilter.whereInt("int_amount", v -> v > 120)));
+		Assert.assertEquals(7, countBlocks(zoneMap, headerMap, CsvFilter.whereBetween("int_amount", 120, 130).or(CsvFilter.whereBetween("date", "2020-01-01", null))));
+		Assert.assertEquals(0, countBlocks(zoneMap, headerMap, CsvFilter.whereBetween("int_amount", 120, 130).and(CsvFilter.whereBetween("date", "2020-01-01", null))));
+		Assert.assertEquals(20, countBlocks(zoneMap, headerMap, CsvFilter.whereBetween("int_amount", 120, 130).negate()));
+	}
+
+	/**
+	 * The records are the same with or without the zone map
+	 */
+	@Test
+	public void readTest() throws IOException, IllegalAccessException, ParseException {
+		CsvFilter dateFilter   = CsvFilter.whereBetween("date", "2018-03-01", "2018-04-30");
+		CsvFilter amountFilter = CsvFilter.whereBetween("int_amount", 120, 520);
+		CsvReadOptions[] optionsArray = {
+			CsvReadOptions.DEFAULT.withFilter(dateFilter),
+			CsvReadOptions.DEFAULT.withFilter(amountFilter),
+			CsvReadOptions.DEFAULT.withFilter(amountFilter).withOffset(130).withLimit(100),
+			CsvReadOptions.DEFAULT.withFilter(amountFilter).withSampling(0.3, 42),
+			CsvReadOptions.DEFAULT.withFilter(dateFilter.or(CsvFilter.whereBetween("int_amount", 900, 910))).withSampling(0.5, 7).withOffset(3)
+		};
+
+		for (CsvReadOptions options : optionsArray) {
+			List<Integer> expectedList = read(options.withEngine(CsvReadOptions.Engine.COMMONS_CSV));
+			Assert.assertFalse(expectedList.isEmpty());
+			Assert.assertEquals(expectedList, read(options.withEngine(CsvReadOptions.Engine.MAPPED)));
+
+			CsvFactory.buildZoneMap(file.getPath(), HeaderOption.WITH_HEADER, BLOCK_SIZE);
+			Assert.assertEquals(expectedList, read(options.withEngine(CsvReadOptions.Engine.MAPPED)));
+			try (CsvColumnTable table = CsvFactory.readColumns(User1.class, file.getPath(), HeaderOption.WITH_HEADER, options.withEngine(CsvReadOptions.Engine.MAPPED))) {
+				Assert.assertEquals(expectedList.size(), table.getRowCount());
+			}
+			Files.delete(new File(file.getPath() + CsvZoneMap.SUFFIX).toPath());
+		}
+	}
+
+	/**
+	 * The zone map is ignored when the file is changed
+	 */
+	@Test
+	public void staleZoneMapTest() throws IOException, IllegalAccessException, ParseException {
+		CsvFactory.buildZoneMap(file.getPath(), HeaderOption.WITH_HEADER, BLOCK_SIZE);
+		CsvTestCorpus.append(file, ROW_COUNT, ROW_COUNT + 10);
+		Assert.assertNull(CsvZoneMap.load(file.getPath(), HeaderOption.WITH_HEADER));
+		Assert.assertNull(CsvZoneMap.load(file.getPath(), HeaderOption.WITHOUT_HEADER));
+
+		CsvReadOptions options = CsvReadOptions.DEFAULT.withEngine(CsvReadOptions.Engine.MAPPED).withFilter(CsvFilter.whereBetween("int_amount", ROW_COUNT, Double.POSITIVE_INFINITY));
+		Assert.assertEquals(Arrays.asList(1000, 1001, 1002, 1003, 1004, 1005, 1006, 1007, 1008, 1009), read(options));
+	}
+
+	private List<Integer> read(CsvReadOptions options) throws IOException, IllegalAccessException, ParseException {
+		return CsvFactory.readCsv(User1.class, file.getPath(), HeaderOption.WITH_HEADER, options).stream().map(User1::getSalary).collect(Collectors.toList());
+	}
+
+	private static int countBlocks(CsvZoneMap zoneMap, Map<String, Integer> headerMap, CsvFilter filter) {
+		int count = 0;
+		for (int i = 0; i < zoneMap.getBlockCount(); i++) {
+			if (filter.mayMatch(headerMap, zoneMap.getBlock(i))) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.core.model.correct;
+
+import personal.wuyi.jcsvorm.annotation.CsvColumn;
+import personal.wuyi.jcsvorm.annotation.CsvEntity;
+import personal.wuyi.jcsvorm.annotation.CsvKey;
+
+@CsvEntity
+public class User5 {
+	@CsvKey
+	@CsvColumn(name = "name")
+	private String name;
+	
+	@CsvColumn(name = "int_amount")
+	private int    salary;
+
+	public String  getName()                          { return name;                    }
+	public void    setName(String name)               { this.name = name;               }
+	public int     getSalary()                        { return salary;                  }
+	public void    setSalary(int salary)              { this.salary = salary;           }
+}
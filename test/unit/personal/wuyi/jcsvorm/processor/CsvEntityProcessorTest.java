@@ -0,0 +1,195 @@
+/*
+ * Copyright 2018 Wuyi Chen.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package personal.wuyi.jcsvorm.processor;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import personal.wuyi.jcsvorm.api.CsvMapper;
+import personal.wuyi.jcsvorm.api.CsvRow;
+
+/**
+ * Test class for CsvEntityProcessor.
+ * 
+ * @author  Wuyi Chen
+ * @date    10/18/2026
+ * @version 1.2
+ * @since   1.2
+ */
+public class CsvEntityProcessorTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	private JavaCompiler compiler;
+	
+	@Before
+	public void setUp() {
+		compiler = ToolProvider.getSystemJavaCompiler();
+		Assume.assumeNotNull(compiler);
+	}
+	
+	/**
+	 * A mapper is generated for a valid class
+	 */
+	@Test
+	public void generateTest() throws Exception {
+		File outputDir = folder.newFolder();
+		List<String> errorList = compile(outputDir, "test.Person", 
+				"package test;\n"
+				+ "import personal.wuyi.jcsvorm.annotation.*;\n"
+				+ "@CsvEntity public class Person {\n"
+				+ "    @CsvColumn(name = \"name\")                      public    String         name;\n"
+				+ "    @CsvColumn(pos = 1, format = \"yyyy-MM-dd\")            java.util.Date dob;\n"
+				+ "    @CsvColumn(name = \"active\")                    protected boolean        isActive;\n"
+				+ "}\n");
+		Assert.assertEquals(new ArrayList<String>(), errorList);
+		Assert.assertTrue(new File(outputDir, "test/Person_CsvMapper.class").exists());
+		
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { outputDir.toURI().toURL() }, getClass().getClassLoader())) {
+			CsvMapper<?> mapper = (CsvMapper<?>) loader.loadClass("test.Person_CsvMapper").getConstructor().newInstance();
+			Assert.assertArrayEquals(new String[] { "name", "dob", "isActive" }, mapper.getFieldNames());
+		}
+	}
+	
+	/**
+	 * The private fields are read and written by their method handles in the 
+	 * generated mapper
+	 */
+	@Test
+	public void privateFieldTest() throws Exception {
+		File outputDir = folder.newFolder();
+		List<String> errorList = compile(outputDir, "test.Person", 
+				"package test;\n"
+				+ "import personal.wuyi.jcsvorm.annotation.*;\n"
+				+ "@CsvEntity public class Person {\n"
+				+ "    @CsvColumn(name = \"name\") public  String name;\n"
+				+ "    @CsvColumn(name = \"age\")  private int    age;\n"
+				+ "    public int  getAge()        { return age;     }\n"
+				+ "    public void setAge(int age) { this.age = age; }\n"
+				+ "}\n");
+		Assert.assertEquals(new ArrayList<String>(), errorList);
+		Assert.assertTrue(new File(outputDir, "test/Person_CsvMapper.class").exists());
+		
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { outputDir.toURI().toURL() }, getClass().getClassLoader())) {
+			@SuppressWarnings("unchecked")
+			CsvMapper<Object> mapper = (CsvMapper<Object>) loader.loadClass("test.Person_CsvMapper").getConstructor().newInstance();
+			Object person = mapper.read(new ArrayRow("Alice", "30"), new int[] { 0, 1 });
+			Assert.assertEquals(30, person.getClass().getMethod("getAge").invoke(person));
+			
+			String[] cells = new String[2];
+			mapper.write(person, cells);
+			Assert.assertArrayEquals(new String[] { "Alice", "30" }, cells);
+		}
+	}
+	
+	/**
+	 * No mapper is generated if a field is final, as the reflective mapper 
+	 * sets the final fields by reflection
+	 */
+	@Test
+	public void finalFieldTest() throws Exception {
+		File outputDir = folder.newFolder();
+		List<String> errorList = compile(outputDir, "test.Person", 
+				"package test;\n"
+				+ "import personal.wuyi.jcsvorm.annotation.*;\n"
+				+ "@CsvEntity public class Person {\n"
+				+ "    @CsvColumn(name = \"name\") public       String name;\n"
+				+ "    @CsvColumn(name = \"age\")  public final int    age = 0;\n"
+				+ "}\n");
+		Assert.assertEquals(new ArrayList<String>(), errorList);
+		Assert.assertTrue(new File(outputDir, "test/Person.class").exists());
+		Assert.assertFalse(new File(outputDir, "test/Person_CsvMapper.class").exists());
+	}
+	
+	/**
+	 * The violations of the annotation rules are compile errors
+	 */
+	@Test
+	public void errorTest() throws Exception {
+		List<String> errorList = compile(folder.newFolder(), "test.Invalid", 
+				"package test;\n"
+				+ "import personal.wuyi.jcsvorm.annotation.*;\n"
+				+ "@CsvEntity public class Invalid {\n"
+				+ "    @CsvColumn(name = \"a\")      static  String a;\n"
+				+ "    @CsvColumn                    private String b;\n"
+				+ "    @CsvColumn(name = \"c\")      private java.time.LocalDate c;\n"
+				+ "    @CsvColumn(name = \"d\")      private java.util.regex.Pattern d;\n"
+				+ "}\n"
+				+ "class NoEntity {\n"
+				+ "    @CsvColumn(name = \"e\")      private String e;\n"
+				+ "}\n");
+		Assert.assertEquals(Arrays.asList(
+				"a field can not be static.",
+				"For field b, must specify at least one parameter among pos and name in the CsvColumn annotation.",
+				"The field c needs to spefic the format for parsing date or date time.",
+				"The field d is not an easy type (java.util.regex.Pattern) for parsing CSV file.",
+				"NoEntity needs to have CsvEntity anntation."), errorList);
+	}
+	
+	private List<String> compile(File outputDir, String className, String source) throws Exception {
+		JavaFileObject sourceFile = new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return source;
+			}
+		};
+		
+		DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+		JavaCompiler.CompilationTask task = compiler.getTask(null, null, collector, 
+				Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", outputDir.getPath()), null, Arrays.asList(sourceFile));
+		task.setProcessors(Arrays.asList(new CsvEntityProcessor()));
+		task.call();
+		
+		List<String> errorList = new ArrayList<>();
+		for (Diagnostic<? extends JavaFileObject> diagnostic : collector.getDiagnostics()) {
+			if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+				errorList.add(diagnostic.getMessage(null));
+			}
+		}
+		return errorList;
+	}
+	
+	private static final class ArrayRow implements CsvRow {
+		private final String[] values;
+		
+		private ArrayRow(String... values) {
+			this.values = values;
+		}
+		
+		@Override public int    size()          { return values.length; }
+		@Override public String get(int index)  { return values[index]; }
+	}
+}